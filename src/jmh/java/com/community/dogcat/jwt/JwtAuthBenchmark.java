@@ -0,0 +1,94 @@
+package com.community.dogcat.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.http.Cookie;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+// 요청 한 건의 인증 처리 비용 비교
+// legacy : JWTFilter(isExpired, getCategory) + CustomUserDetails(getRole) + BaseController(getUsername) 마다 파싱/서명 검증
+// context : JWTFilter 에서 한 번 검증 후 요청 속성(JwtRequestContext)에서 읽기
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthBenchmark {
+
+	private static final String SECRET = "dogcat-benchmark-secret-key-dogcat-benchmark-secret-key";
+
+	private String token;
+
+	// 검증 캐시 사용 (기본 설정)
+	private JWTUtil cachedJwtUtil;
+
+	// 검증 캐시 미사용, 요청당 한 번 파싱
+	private JWTUtil uncachedJwtUtil;
+
+	@Setup
+	public void setUp() {
+
+		cachedJwtUtil = new JWTUtil(SECRET, 10000);
+		uncachedJwtUtil = new JWTUtil(SECRET, 0);
+
+		token = cachedJwtUtil.createJwt("access", "benchmarkUser", "ROLE_USER", 86400000L);
+	}
+
+	@Benchmark
+	public void legacyPerRequest(Blackhole blackhole) {
+
+		// JWTFilter
+		blackhole.consume(legacyParse(token));
+		blackhole.consume(legacyParse(token).get("category", String.class));
+		// CustomUserDetails
+		blackhole.consume(legacyParse(token).get("role", String.class));
+		// BaseController
+		blackhole.consume(legacyParse(token).get("username", String.class));
+	}
+
+	@Benchmark
+	public void contextPerRequestUncached(Blackhole blackhole) {
+		perRequest(uncachedJwtUtil, blackhole);
+	}
+
+	@Benchmark
+	public void contextPerRequestCached(Blackhole blackhole) {
+		perRequest(cachedJwtUtil, blackhole);
+	}
+
+	private void perRequest(JWTUtil jwtUtil, Blackhole blackhole) {
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setCookies(new Cookie("access", token));
+
+		// JWTFilter
+		VerifiedJwt verified = jwtUtil.verify(JwtRequestContext.extractAccessToken(request));
+		blackhole.consume(verified.getCategory());
+		JwtRequestContext.bind(request, verified);
+
+		// CustomUserDetails
+		blackhole.consume(JwtRequestContext.resolve(request, jwtUtil).getRole());
+		// BaseController
+		blackhole.consume(JwtRequestContext.resolve(request, jwtUtil).getUsername());
+	}
+
+	// 변경 전 JWTUtil 의 메서드별 파싱 (매번 secret 에서 키 생성)
+	private Claims legacyParse(String token) {
+
+		return Jwts.parser()
+			.setSigningKey(SECRET.getBytes(StandardCharsets.UTF_8))
+			.parseClaimsJws(token)
+			.getBody();
+	}
+}
@@ -1,5 +1,10 @@
 package com.community.dogcat.config;
 
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -8,6 +13,8 @@ import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
 
 @Configuration
 public class
@@ -18,6 +25,8 @@ AwsConfiguration {
 	@Value("${cloud.aws.credentials.secret-key}")
 	private String secretKey;
 
+	private TransferManager transferManager;
+
 	// AmazonS3Client는 deprecated됨 -> AmazonS3로 사용
 	@Bean
 	public AmazonS3 amazonS3() {
@@ -30,4 +39,36 @@ AwsConfiguration {
 			.build();
 
 	}
+
+	// 파일에서 바로 스트리밍 업로드, multipartThreshold 보다 큰 파일은 partSize 단위 병렬 multipart 업로드
+	@Bean(destroyMethod = "")
+	public TransferManager transferManager(AmazonS3 amazonS3,
+		@Value("${s3.upload.multipartThreshold:16777216}") long multipartThreshold,
+		@Value("${s3.upload.partSize:8388608}") long partSize,
+		@Value("${s3.upload.threads:4}") int threads) {
+
+		AtomicInteger sequence = new AtomicInteger();
+
+		transferManager = TransferManagerBuilder.standard()
+			.withS3Client(amazonS3)
+			.withMultipartUploadThreshold(multipartThreshold)
+			.withMinimumUploadPartSize(partSize)
+			.withExecutorFactory(() -> Executors.newFixedThreadPool(threads, runnable -> {
+				Thread thread = new Thread(runnable, "s3-transfer-" + sequence.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}))
+			.build();
+
+		return transferManager;
+	}
+
+	// 전송 스레드만 종료, AmazonS3 빈은 계속 사용
+	@PreDestroy
+	public void shutdownTransferManager() {
+
+		if (transferManager != null) {
+			transferManager.shutdownNow(false);
+		}
+	}
 }
@@ -10,7 +10,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.authentication.logout.LogoutFilter;
@@ -22,11 +21,13 @@ import com.community.dogcat.jwt.JWTFilter;
 import com.community.dogcat.jwt.JWTUtil;
 import com.community.dogcat.jwt.LoginFilter;
 import com.community.dogcat.oauth2.CustomSuccessHandler;
-import com.community.dogcat.repository.user.RefreshRepository;
 import com.community.dogcat.repository.user.UserRepository;
 import com.community.dogcat.repository.user.UsersAuthRepository;
 import com.community.dogcat.service.user.CustomOAuth2UserService;
 import com.community.dogcat.service.user.ReissueService;
+import com.community.dogcat.service.user.UserProfileCache;
+import com.community.dogcat.service.user.password.PasswordAttemptLimiter;
+import com.community.dogcat.service.user.refresh.RefreshTokenStore;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -41,20 +42,17 @@ public class CustomSecurityConfig {
 	private final JWTUtil jwtUtil;
 	private final UserRepository userRepository;
 	private final ReissueService reissueService;
-	private final RefreshRepository refreshRepository;
+	private final RefreshTokenStore refreshTokenStore;
 	private final UsersAuthRepository usersAuthRepository;
 	private final AuthenticationConfiguration configuration;
 	private final CustomSuccessHandler customSuccessHandler;
 	private final CustomOAuth2UserService customOAuth2UserService;
 	private final CustomAuthenticationFailureHandler customAuthenticationFailureHandler;
 	private final CustomAccessDeniedHandler accessDeniedHandler;
+	private final UserProfileCache userProfileCache;
+	private final PasswordAttemptLimiter passwordAttemptLimiter;
 
 
-	@Bean
-	public BCryptPasswordEncoder cryptPasswordEncoder() {
-		return new BCryptPasswordEncoder();
-	}
-
 	@Bean
 	public AuthenticationManager authenticationManager(AuthenticationConfiguration configuration) throws Exception {
 		return configuration.getAuthenticationManager();
@@ -80,11 +78,11 @@ public class CustomSecurityConfig {
 			.failureHandler(customAuthenticationFailureHandler)
 			.permitAll();
 
-		http.addFilterBefore(new CustomLogoutFilter(jwtUtil, refreshRepository), LogoutFilter.class);
+		http.addFilterBefore(new CustomLogoutFilter(jwtUtil, refreshTokenStore), LogoutFilter.class);
 		http.addFilterBefore(new JWTFilter(jwtUtil, reissueService), LoginFilter.class);
 		http.addFilterAt(
-			new LoginFilter(authenticationManager(configuration), jwtUtil, refreshRepository, usersAuthRepository,
-				userRepository, customAuthenticationFailureHandler),
+			new LoginFilter(authenticationManager(configuration), jwtUtil, refreshTokenStore, usersAuthRepository,
+				userRepository, customAuthenticationFailureHandler, userProfileCache, passwordAttemptLimiter),
 			UsernamePasswordAuthenticationFilter.class);
 
 		http.oauth2Login(oauth2 -> oauth2
@@ -1,12 +1,13 @@
 package com.community.dogcat.controller;
 
-import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
 
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.ModelAttribute;
 
 import com.community.dogcat.jwt.JWTUtil;
+import com.community.dogcat.jwt.JwtRequestContext;
+import com.community.dogcat.jwt.VerifiedJwt;
 import com.community.dogcat.service.user.UserService;
 
 import lombok.RequiredArgsConstructor;
@@ -20,11 +21,12 @@ public abstract class BaseController {
 	@ModelAttribute
 	public void addAttributes(HttpServletRequest request, Model model) {
 
-		String accessToken = extractTokenFromCookie(request);
+		// JWTFilter 에서 검증한 access 토큰 사용
+		VerifiedJwt accessToken = JwtRequestContext.resolve(request, jwtUtil);
 
 		if (accessToken != null) {
 
-			String username = jwtUtil.getUsername(accessToken);
+			String username = accessToken.getUsername();
 			String nickname = userService.getNickname(username);
 			String role = userService.getRole(username);
 
@@ -43,20 +45,12 @@ public abstract class BaseController {
 		}
 	}
 
-	protected String extractTokenFromCookie(HttpServletRequest request) {
+	// 현재 요청의 검증된 access 토큰의 회원 아이디, 로그인하지 않은 경우 null
+	protected String currentUsername(HttpServletRequest request) {
 
-		Cookie[] cookies = request.getCookies();
+		VerifiedJwt accessToken = JwtRequestContext.resolve(request, jwtUtil);
 
-		if (cookies != null) {
-
-			for (Cookie cookie : cookies) {
-				if (cookie.getName().equals("access")) {
-					return cookie.getValue();
-				}
-			}
-
-		}
-		return null;
+		return accessToken != null ? accessToken.getUsername() : null;
 	}
 
 }
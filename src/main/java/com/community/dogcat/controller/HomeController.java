@@ -1,22 +1,18 @@
 package com.community.dogcat.controller;
 
-import java.util.List;
 import java.util.Map;
 
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 
-import com.community.dogcat.dto.home.HomeGeneralListDTO;
-import com.community.dogcat.dto.home.HomeQnaListDTO;
-import com.community.dogcat.dto.home.HomeShowOffListDTO;
-import com.community.dogcat.dto.home.HomeTipListDTO;
-import com.community.dogcat.dto.home.HomeTodayListDTO;
+import com.community.dogcat.dto.home.HomeSnapshotDTO;
 import com.community.dogcat.dto.home.search.AllSearchDTO;
 import com.community.dogcat.dto.home.search.HomePageRequestDTO;
 import com.community.dogcat.dto.home.search.HomeResponseDTO;
 import com.community.dogcat.jwt.JWTUtil;
 import com.community.dogcat.service.home.HomeService;
+import com.community.dogcat.service.home.HomeSnapshotCache;
 import com.community.dogcat.service.user.UserService;
 
 @Controller
@@ -24,26 +20,26 @@ public class HomeController extends BaseController {
 
 	private final HomeService homeService;
 
+	private final HomeSnapshotCache homeSnapshotCache;
+
 	public HomeController(JWTUtil jwtUtil,
-		UserService userService, HomeService homeService) {
+		UserService userService, HomeService homeService, HomeSnapshotCache homeSnapshotCache) {
 		super(jwtUtil, userService);
 		this.homeService = homeService;
+		this.homeSnapshotCache = homeSnapshotCache;
 	}
 
 	@GetMapping("/")
 	public String home(Model model) {
 
-		List<HomeTodayListDTO> todayList = homeService.getPostsForToday();
-		List<HomeShowOffListDTO> showOffList = homeService.getShowOffPosts();
-		List<HomeGeneralListDTO> generalList = homeService.getGeneralPosts();
-		List<HomeTipListDTO> tipList = homeService.getTipPosts();
-		List<HomeQnaListDTO> qnaList = homeService.getQnaPosts();
-
-		model.addAttribute("todayList", todayList);
-		model.addAttribute("showOffList", showOffList);
-		model.addAttribute("generalList", generalList);
-		model.addAttribute("tipList", tipList);
-		model.addAttribute("qnaList", qnaList);
+		// 홈 목록은 백그라운드에서 만든 스냅샷 사용 (요청마다 조회하지 않음)
+		HomeSnapshotDTO snapshot = homeSnapshotCache.get();
+
+		model.addAttribute("todayList", snapshot.getTodayList());
+		model.addAttribute("showOffList", snapshot.getShowOffList());
+		model.addAttribute("generalList", snapshot.getGeneralList());
+		model.addAttribute("tipList", snapshot.getTipList());
+		model.addAttribute("qnaList", snapshot.getQnaList());
 
 		Boolean isLoggedIn = (Boolean) model.getAttribute("isLoggedIn");
 
@@ -7,14 +7,17 @@ import com.community.dogcat.dto.admin.BlockListDTO;
 import com.community.dogcat.dto.admin.ReportListDTO;
 import com.community.dogcat.dto.board.BoardPageRequestDTO;
 import com.community.dogcat.dto.board.BoardPageResponseDTO;
+import com.community.dogcat.dto.uploadImage.OrphanReportDTO;
 import com.community.dogcat.dto.report.ReportDetailDTO;
 import com.community.dogcat.dto.report.UserReportDetailDTO;
 import com.community.dogcat.jwt.JWTUtil;
 import com.community.dogcat.service.admin.AdminService;
 import com.community.dogcat.service.report.ReportService;
 import com.community.dogcat.service.user.UserService;
+import com.community.dogcat.util.FileCheckTask;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.stereotype.Controller;
@@ -31,24 +34,27 @@ import java.util.List;
 public class AdminController extends BaseController {
 
     public AdminController(JWTUtil jwtUtil, UserService userService, AdminService adminService,
-                           ReportService reportService) {
+                           ReportService reportService, FileCheckTask fileCheckTask) {
         super(jwtUtil, userService);
         this.adminService = adminService;
         this.userService = userService;
         this.reportService = reportService;
+        this.fileCheckTask = fileCheckTask;
     }
 
     private final AdminService adminService;
     private final UserService userService;
     private final ReportService reportService;
+    private final FileCheckTask fileCheckTask;
 
 
     @GetMapping("/user-list")
     public void adminUserDetail(BoardPageRequestDTO pageRequestDTO, Model model, @RequestParam(value = "viewStyle", defaultValue = "nonAdminFirst") String viewStyle) {
 
-        //userId로 유저 목록 불러옴
-        List<AdminUserDetailDTO> adminUsers = adminService.findAllUsers(pageRequestDTO, viewStyle);
-        int totalUsers = adminService.countAllUsers(pageRequestDTO);
+        //userId로 유저 목록 불러옴 (count 포함)
+        Page<AdminUserDetailDTO> userPage = adminService.findAllUsers(pageRequestDTO, viewStyle);
+        List<AdminUserDetailDTO> adminUsers = userPage.getContent();
+        int totalUsers = (int) userPage.getTotalElements();
 
         BoardPageResponseDTO<AdminUserDetailDTO> pageResponseDTO = BoardPageResponseDTO.<AdminUserDetailDTO>withAll()
                 .pageRequestDTO(pageRequestDTO)
@@ -60,6 +66,7 @@ public class AdminController extends BaseController {
         model.addAttribute("adminUsers", adminUsers);
         model.addAttribute("pageResponse", pageResponseDTO);
         model.addAttribute("searchKeyword", pageRequestDTO.getKeyword());
+        model.addAttribute("viewStyle", viewStyle);
 
     }
 
@@ -77,6 +84,7 @@ public class AdminController extends BaseController {
         model.addAttribute("user", user);
         model.addAttribute("reportNickname", nickname);
         model.addAttribute("reportedDetails", reportedDetails);
+        model.addAttribute("reportSummary", reportService.findReportSummary(userId));
     }
 
 
@@ -165,6 +173,13 @@ public class AdminController extends BaseController {
         return ResponseEntity.ok("ReportLog " + reportNo + " deleted successfully.");
     }
 
+    @PostMapping("/s3-orphans")
+    public ResponseEntity<OrphanReportDTO> reconcileS3(@RequestParam(value = "dryRun", defaultValue = "true") boolean dryRun) {
+
+        // S3 버킷에서 DB에 없는 이미지 확인 (dryRun=false 일 때만 삭제)
+        return ResponseEntity.ok(fileCheckTask.reconcile(dryRun));
+    }
+
 }
 
 
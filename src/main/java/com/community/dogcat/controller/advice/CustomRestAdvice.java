@@ -21,6 +21,8 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
 
+import com.community.dogcat.service.user.password.PasswordHashRejectedException;
+
 import javax.servlet.http.HttpServletResponse;
 
 @Slf4j
@@ -62,6 +64,16 @@ public class CustomRestAdvice {
         response.sendRedirect("/error");
     }
 
+    // 비밀번호 해시 대기열이 가득 찬 경우, 잠시 후 재시도
+    @ExceptionHandler(PasswordHashRejectedException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS) // 429
+    public void handlePasswordHashRejected(PasswordHashRejectedException e, HttpServletResponse response) {
+
+        log.warn(e.getMessage());
+
+        response.setHeader("Retry-After", "1");
+    }
+
     @ExceptionHandler({
         NoSuchElementException.class,
         EmptyResultDataAccessException.class})
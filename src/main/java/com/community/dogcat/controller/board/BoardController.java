@@ -31,6 +31,7 @@ import com.community.dogcat.domain.Post;
 import com.community.dogcat.dto.board.BoardListDTO;
 import com.community.dogcat.dto.board.BoardPageRequestDTO;
 import com.community.dogcat.dto.board.BoardPageResponseDTO;
+import com.community.dogcat.dto.board.BoardSliceResponseDTO;
 import com.community.dogcat.dto.board.PostReadDTO;
 import com.community.dogcat.dto.board.post.PostDTO;
 import com.community.dogcat.dto.board.postLike.PostLikeDTO;
@@ -337,4 +338,15 @@ public class BoardController extends BaseController {
 		}
 		return returnUrl;
 	}
+
+	// 게시판별목록 커서 페이징 (showoff 무한 스크롤), 다음 요청시 nextCursor를 cursor로 전달
+	@ResponseBody
+	@GetMapping(value = "/{boardCode}/slice", produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<BoardSliceResponseDTO<BoardListDTO>> listByCursor(@PathVariable String boardCode,
+		BoardPageRequestDTO pageRequestDTO) {
+
+		pageRequestDTO.setBoardCode(boardCode);
+
+		return ResponseEntity.ok(boardService.listByCursor(pageRequestDTO));
+	}
 }
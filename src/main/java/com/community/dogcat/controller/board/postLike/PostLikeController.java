@@ -14,6 +14,7 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -91,4 +92,30 @@ public class PostLikeController extends BaseController {
 		return ResponseEntity.ok(response);
 	}
 
+	@Operation(summary = "like Toggle", description = "게시물 좋아요/싫어요/취소 상태 지정, 같은 요청을 반복해도 결과 동일")
+	@PutMapping(value = "/{postNo}", consumes = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<PostLikeDTO> toggle(@PathVariable("postNo") Long postNo,
+		@RequestBody PostLikeDTO postLikeDTO, Model model) {
+
+		// 모델에서 사용자 정보를 가져옴
+		String userId = (String)model.getAttribute("username");
+
+		// 로그인 사용자 확인
+		if (userId == null) {
+			log.error("PostLikeController Toggle Error : 401 Unauthorized");
+			return ResponseEntity.status(UNAUTHORIZED).build(); // 로그인되지 않은 경우 401 오류
+		}
+
+		// 좋아요와 싫어요를 동시에 지정할 수 없음
+		if (postLikeDTO.isLikeState() && postLikeDTO.isDislikeState()) {
+			log.error("PostLikeController Toggle Error : 400 Bad Request");
+			return ResponseEntity.status(BAD_REQUEST).build();
+		}
+
+		PostLikeDTO result = postLikeService.toggle(postNo, userId, postLikeDTO.isLikeState(),
+			postLikeDTO.isDislikeState());
+
+		return ResponseEntity.ok(result);
+	}
+
 }
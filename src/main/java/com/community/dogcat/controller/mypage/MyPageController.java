@@ -40,15 +40,14 @@ public class MyPageController extends BaseController {
 	@GetMapping("/user-detail")
 	public void userDetail(HttpServletRequest request, Model model) {
 
-		String accessToken = extractTokenFromCookie(request);
+		// JWTFilter 에서 검증한 access 토큰의 회원 아이디
+		String username = currentUsername(request);
 
-		if (accessToken == null) {
+		if (username == null) {
 			model.addAttribute("user", null);
 			return;
 		}
 
-		String username = jwtUtil.getUsername(accessToken);
-
 		UserDetailDTO user = userService.findByUserId(username);
 		model.addAttribute("user", user);
 
@@ -3,11 +3,14 @@ package com.community.dogcat.controller.mypage;
 import javax.transaction.Transactional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
 
 import com.community.dogcat.controller.BaseController;
 import com.community.dogcat.dto.myPage.activity.UserPageRequestDTO;
@@ -15,6 +18,7 @@ import com.community.dogcat.dto.myPage.activity.UserPageResponseDTO;
 import com.community.dogcat.dto.myPage.activity.UserPostsActivityDTO;
 import com.community.dogcat.dto.myPage.activity.UserRepliesActivityDTO;
 import com.community.dogcat.dto.myPage.activity.UserScrapsActivityDTO;
+import com.community.dogcat.dto.myPage.activity.UserSliceResponseDTO;
 import com.community.dogcat.jwt.JWTUtil;
 import com.community.dogcat.service.myPage.activity.UserActivityService;
 import com.community.dogcat.service.user.UserService;
@@ -68,4 +72,35 @@ public class UserActivityController extends BaseController {
 		return "my/userScrapsActivity";
 	}
 
+	// 커서 페이징 (무한 스크롤), 다음 요청시 nextCursor를 cursor로 전달
+	@ResponseBody
+	@GetMapping(value = "/userActivity/{userId}/posts/slice", produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<UserSliceResponseDTO<UserPostsActivityDTO>> sliceWithPosts(@PathVariable String userId,
+		UserPageRequestDTO pageRequestDTO) {
+
+		pageRequestDTO.setUserId(userId);
+
+		return ResponseEntity.ok(userActivityService.sliceWithPosts(pageRequestDTO));
+	}
+
+	@ResponseBody
+	@GetMapping(value = "/userActivity/{userId}/replies/slice", produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<UserSliceResponseDTO<UserRepliesActivityDTO>> sliceWithReplies(@PathVariable String userId,
+		UserPageRequestDTO pageRequestDTO) {
+
+		pageRequestDTO.setUserId(userId);
+
+		return ResponseEntity.ok(userActivityService.sliceWithReplies(pageRequestDTO));
+	}
+
+	@ResponseBody
+	@GetMapping(value = "/userActivity/{userId}/scraps/slice", produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<UserSliceResponseDTO<UserScrapsActivityDTO>> sliceWithScraps(@PathVariable String userId,
+		UserPageRequestDTO pageRequestDTO) {
+
+		pageRequestDTO.setUserId(userId);
+
+		return ResponseEntity.ok(userActivityService.sliceWithScraps(pageRequestDTO));
+	}
+
 }
@@ -21,6 +21,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import com.community.dogcat.annotation.MultipartParam;
 import com.community.dogcat.domain.Post;
+import com.community.dogcat.dto.uploadImage.ImageIngestStatusDTO;
 import com.community.dogcat.dto.uploadImage.UploadPostImageDTO;
 import com.community.dogcat.dto.uploadImage.UploadPostImageResultDTO;
 import com.community.dogcat.service.upload.UploadImageService;
@@ -50,6 +51,16 @@ public class UploadController {
 		return uploadImageService.uploadS3Image(multipartFile, postNo, uuid);
 	}
 
+	// S3 업로드 처리 상태 (PROCESSING, DONE, FAILED)
+	@Operation(summary = "Upload S3 Status", description = "S3 업로드 처리 상태")
+	@GetMapping("/s3/status/{postNo}")
+	public ResponseEntity<ImageIngestStatusDTO> cloudUploadStatus(@PathVariable("postNo") Long postNo) {
+
+		ImageIngestStatusDTO status = uploadImageService.getS3UploadStatus(postNo);
+
+		return status != null ? ResponseEntity.ok(status) : ResponseEntity.notFound().build();
+	}
+
 	// 게시글 등록 전 썸머노트로 이미지를 임시폴더에 저장
 	@Operation(summary = "SummerNote Image Upload", description = "썸머노트 임시 이미지 업로드")
 	@PostMapping(value = "/summernote-upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.community.dogcat.domain.UsersVet;
 import com.community.dogcat.service.user.UserService;
 import com.community.dogcat.service.user.VetService;
+import com.community.dogcat.service.user.password.PasswordAttemptLimiter;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -30,6 +31,7 @@ public class JoinVerificationController {
 
 	private final VetService vetService;
 	private final UserService userService;
+	private final PasswordAttemptLimiter passwordAttemptLimiter;
 
 	@PostMapping("/userId")
 	public ResponseEntity<Map<String, Boolean>> checkUserId(@RequestBody Map<String, String> requestBody) {
@@ -45,10 +47,17 @@ public class JoinVerificationController {
 	}
 
 	@PostMapping("/password")
-	public ResponseEntity<Map<String, Boolean>> checkPassword(@RequestBody Map<String, String> requestBody) {
+	public ResponseEntity<Map<String, Boolean>> checkPassword(@RequestBody Map<String, String> requestBody,
+		HttpServletRequest request) {
 
 		String userId = requestBody.get("userId");
 		String inputPassword = requestBody.get("password");
+
+		// 요청 한도 초과시 BCrypt 검증 없이 바로 거절
+		if (!passwordAttemptLimiter.tryAcquire(userId, request)) {
+			return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).header("Retry-After", "1").build();
+		}
+
 		boolean valid = userService.checkPassword(userId, inputPassword);
 
 		Map<String, Boolean> response = new HashMap<>();
@@ -0,0 +1,87 @@
+package com.community.dogcat.domain;
+
+import java.time.Instant;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 회원 탈퇴 작업, 요청시 계정을 비활성화하고 행만 저장, 실제 삭제는 AccountDeletionTask 가 단계별로 처리
+// 단계(step)와 삭제한 행 수를 기록해 두고 중단되면 현재 단계부터 다시 실행
+@Entity
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "account_deletion_job",
+	indexes = @Index(name = "idx_account_deletion_job_pending", columnList = "completed_at, requested_at"))
+public class AccountDeletionJob {
+
+	// 처리 순서, 각 단계는 남은 행이 없을 때까지 반복하므로 다시 실행해도 결과가 같음
+	public enum Step {
+
+		// 누른 좋아요/싫어요 (게시글 좋아요 수 보정 후 삭제)
+		LIKES,
+
+		// 작성한 글/댓글에 접수된 신고, 직접 접수한 신고
+		REPORTS,
+
+		// 스크랩, 작성한 글에 다른 회원이 누른 좋아요
+		SCRAPS,
+
+		// 작성한 댓글 (게시글 댓글 수 보정 후 삭제), 작성한 글에 달린 댓글
+		REPLIES,
+
+		// 작성한 글의 첨부 이미지 (S3 삭제는 outbox 에 등록)
+		IMAGES,
+
+		// 작성한 글
+		POSTS,
+
+		// 회원, 권한, refresh 토큰
+		ACCOUNT,
+
+		DONE
+	}
+
+	@Id
+	@Column(name = "user_id", length = 50)
+	private String userId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "step", length = 20, nullable = false)
+	private Step step;
+
+	// 지금까지 삭제/갱신한 행 수
+	@Column(name = "processed_rows", nullable = false)
+	private long processedRows;
+
+	// 실패 횟수
+	@Column(name = "attempts", nullable = false)
+	private int attempts;
+
+	@Column(name = "last_error", length = 500)
+	private String lastError;
+
+	@Column(name = "requested_at", nullable = false)
+	private Instant requestedAt;
+
+	@Column(name = "updated_at")
+	private Instant updatedAt;
+
+	@Column(name = "completed_at")
+	private Instant completedAt;
+
+	public boolean isCompleted() {
+		return completedAt != null;
+	}
+}
@@ -62,6 +62,10 @@ public class ImgBoard {
 	@Column(name = "thumbnail_Path")
 	private String thumbnailPath;
 
+	// 너비별 rendition 주소, img srcset 형식 ("url 200w, url 480w, ...")
+	@Column(name = "renditions", length = 1000)
+	private String renditions;
+
 	public void setPostNo(Post post) {
 
 	}
@@ -62,6 +62,15 @@ public class Post {
 	@Column(name = "post_content", nullable = false, columnDefinition = "TEXT")
 	private String postContent;
 
+	// 목록용 본문 미리보기, HTML 제거 후 앞부분만 저장 (목록 조회시 post_content 를 읽지 않기 위함)
+	@Size(max = 200)
+	@Column(name = "excerpt", length = 200)
+	private String excerpt;
+
+	// 목록용 대표 썸네일, 첫 번째 첨부 이미지의 썸네일 경로 (이미지 업로드/삭제시 갱신)
+	@Column(name = "cover_thumbnail")
+	private String coverThumbnail;
+
 	@Column(name = "reg_date", nullable = false)
 	@ColumnDefault("CURRENT_TIMESTAMP")
 	private Instant regDate;
@@ -91,6 +100,11 @@ public class Post {
 	@ColumnDefault("0")
 	private Long viewCount;
 
+	// 게시글에 달린 댓글 수, 댓글 등록/삭제시 갱신
+	@Column(name = "reply_count")
+	@ColumnDefault("0")
+	private Long replyCount;
+
 	@ColumnDefault("false")
 	@Column(name = "reply_auth", nullable = false)
 	private boolean replyAuth;
@@ -133,6 +147,11 @@ public class Post {
 		this.replyAuth = replyAuth;
 	}
 
+	// 본문 미리보기 갱신
+	public void updateExcerpt(String excerpt) {
+		this.excerpt = excerpt;
+	}
+
 	// 게시글 좋아요/싫어요 count
 	public void count(Long likeCount, Long disLikeCount) {
 		this.likeCount = likeCount;
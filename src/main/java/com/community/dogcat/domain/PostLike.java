@@ -9,6 +9,7 @@ import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import javax.validation.constraints.NotNull;
 
 import org.hibernate.annotations.ColumnDefault;
@@ -25,7 +26,9 @@ import lombok.NoArgsConstructor;
 @DynamicInsert
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "postlike", schema = "dogcat")
+@Table(name = "postlike", schema = "dogcat",
+	// 회원당 게시글 하나에 좋아요/싫어요 한 건만 허용
+	uniqueConstraints = @UniqueConstraint(name = "uk_postlike_post_user", columnNames = {"post_no", "user_id"}))
 public class PostLike {
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
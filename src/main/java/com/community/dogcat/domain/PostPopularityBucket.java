@@ -0,0 +1,44 @@
+package com.community.dogcat.domain;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 실시간 인기글 점수 체크포인트 (게시글별 시간 구간 점수), 재시작시 복원용
+@Getter
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "post_popularity_bucket", schema = "dogcat",
+	uniqueConstraints = @UniqueConstraint(name = "uk_popularity_post_bucket", columnNames = {"post_no", "bucket_epoch"}),
+	indexes = @Index(name = "idx_popularity_bucket_epoch", columnList = "bucket_epoch"))
+public class PostPopularityBucket {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "bucket_no", nullable = false)
+	private Long bucketNo;
+
+	// 게시글 삭제와 무관하게 보관, 복원시 없는 게시글은 목록 조회에서 제외됨
+	@Column(name = "post_no", nullable = false)
+	private Long postNo;
+
+	// epoch millis / 구간 길이
+	@Column(name = "bucket_epoch", nullable = false)
+	private Long bucketEpoch;
+
+	// 조회 1, 댓글, 좋아요 가중치를 합산한 점수
+	@Column(name = "points", nullable = false)
+	private Long points;
+}
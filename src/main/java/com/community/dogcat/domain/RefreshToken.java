@@ -1,27 +1,46 @@
 package com.community.dogcat.domain;
 
+import java.time.Instant;
+
+import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+// refresh 토큰 원문 대신 고정 길이 digest 로 저장, 만료 시각은 timestamp 컬럼 (만료 토큰 주기적 삭제)
 @Entity
 @Builder
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(name = "refresh_token",
+	uniqueConstraints = @UniqueConstraint(name = "uk_refresh_token_hash", columnNames = "token_hash"),
+	indexes = {
+		@Index(name = "idx_refresh_token_username", columnList = "username"),
+		@Index(name = "idx_refresh_token_expires_at", columnList = "expires_at")
+	})
 public class RefreshToken {
 
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
 
+	@Column(name = "username")
 	private String username;
-	private String refresh;
-	private String expiration;
+
+	// refresh 토큰 SHA-256 (hex 64자)
+	@Column(name = "token_hash", length = 64)
+	private String tokenHash;
+
+	@Column(name = "expires_at")
+	private Instant expiresAt;
 }
@@ -4,10 +4,13 @@ import java.time.Instant;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
@@ -26,8 +29,16 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "report_log", schema = "dogcat")
+@Table(name = "report_log", schema = "dogcat",
+	indexes = @Index(name = "idx_report_log_reported_user", columnList = "reported_user_id, report_no"))
 public class ReportLog {
+
+	// 신고 대상
+	public enum TargetType {
+		POST,
+		REPLY
+	}
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	@Column(name = "report_no", nullable = false)
@@ -46,6 +57,14 @@ public class ReportLog {
 	@JoinColumn(name = "reply_no")
 	private Reply replyNo;
 
+	// 신고 받은 회원 (게시글/댓글 작성자), 신고 시점에 저장해 게시글/댓글 조인 없이 조회
+	@Column(name = "reported_user_id", length = 50)
+	private String reportedUserId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "target_type", length = 10)
+	private TargetType targetType;
+
 	@NotNull
 	@Column(name = "report_title", nullable = false, length = 50)
 	private String reportTitle;
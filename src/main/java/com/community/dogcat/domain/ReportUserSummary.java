@@ -0,0 +1,42 @@
+package com.community.dogcat.domain;
+
+import java.time.Instant;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 회원별 받은 신고 수, 신고 등록/삭제시 같은 트랜잭션에서 증감 (ReportUserSummaryRepository)
+// 관리자 신고 목록 count, 회원 신고 내역 요약에 사용
+@Entity
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "report_user_summary", schema = "dogcat",
+	indexes = @Index(name = "idx_report_user_summary_count", columnList = "report_count"))
+public class ReportUserSummary {
+
+	@Id
+	@Column(name = "user_id", length = 50)
+	private String userId;
+
+	@Column(name = "report_count", nullable = false)
+	private long reportCount;
+
+	@Column(name = "post_report_count", nullable = false)
+	private long postReportCount;
+
+	@Column(name = "reply_report_count", nullable = false)
+	private long replyReportCount;
+
+	@Column(name = "last_reported_at")
+	private Instant lastReportedAt;
+}
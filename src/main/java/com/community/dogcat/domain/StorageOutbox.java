@@ -0,0 +1,71 @@
+package com.community.dogcat.domain;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// S3 삭제 작업 outbox, 게시글/이미지/회원 삭제와 같은 트랜잭션에서 저장하고 StorageOutboxTask 가 처리
+// 한 행에 key 최대 1000개 (DeleteObjects 한 번)
+@Entity
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "storage_outbox",
+	indexes = @Index(name = "idx_storage_outbox_due", columnList = "dead, next_attempt_at"))
+public class StorageOutbox {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	// 줄바꿈으로 구분한 S3 key
+	@Column(name = "object_keys", columnDefinition = "TEXT", nullable = false)
+	private String objectKeys;
+
+	@Column(name = "attempts", nullable = false)
+	private int attempts;
+
+	@Column(name = "next_attempt_at", nullable = false)
+	private Instant nextAttemptAt;
+
+	@Column(name = "created_at", nullable = false)
+	private Instant createdAt;
+
+	@Column(name = "last_error", length = 500)
+	private String lastError;
+
+	// 최대 시도 횟수를 넘겨 더 이상 처리하지 않는 행 (dead letter)
+	@Column(name = "dead", nullable = false)
+	private boolean dead;
+
+	public List<String> getKeys() {
+		return Arrays.asList(objectKeys.split("\n"));
+	}
+
+	// 실패한 key 만 남기고 다음 시도 시각 지정
+	public void retryLater(List<String> failedKeys, String error, Instant nextAttemptAt) {
+
+		this.objectKeys = String.join("\n", failedKeys);
+		this.attempts++;
+		this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+		this.nextAttemptAt = nextAttemptAt;
+	}
+
+	public void markDead() {
+		this.dead = true;
+	}
+}
@@ -71,6 +71,14 @@ public class User {
 	@ColumnDefault("false")
 	private boolean userVet;
 
+	// 탈퇴 요청 시각, 값이 있으면 로그인 불가 (글/댓글 등 실제 삭제는 AccountDeletionTask)
+	@Column(name = "deleted_at")
+	private Instant deletedAt;
+
+	public boolean isDeleted() {
+		return deletedAt != null;
+	}
+
 	// exp 값을 증가시키는 메서드
 	public void incrementExp() {
 
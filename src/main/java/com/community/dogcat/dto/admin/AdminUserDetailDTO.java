@@ -2,11 +2,14 @@ package com.community.dogcat.dto.admin;
 
 import java.time.Instant;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
+// 관리자 회원 목록, AdminRepository 조회 결과를 생성자로 바로 받음
 @Data
 @Builder
+@AllArgsConstructor
 public class AdminUserDetailDTO {
 
 	private String userId;
@@ -1,9 +1,6 @@
 package com.community.dogcat.dto.board;
 
 import java.time.Instant;
-import java.util.List;
-
-import com.community.dogcat.domain.ImgBoard;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -34,6 +31,7 @@ public class BoardListDTO {
 
 	private String postTitle;
 
+	// 본문 미리보기 (post.excerpt, HTML 제거된 일부)
 	private String postContent;
 
 	private Instant regDate;
@@ -50,8 +48,8 @@ public class BoardListDTO {
 
 	private boolean completeQna;
 
-	// 게시물의 첨부파일 정보
-	private List<ImgBoard> imgBoards;
+	// 대표 썸네일 (첫 번째 첨부 이미지), 첨부 이미지가 없으면 null
+	private String coverThumbnail;
 
 	// 게시물에 달린 댓글 수
 	private Long replyCount;
@@ -37,6 +37,9 @@ public class BoardPageRequestDTO {
 	// BoardList
 	private String order;
 
+	// 커서 페이징 : 이전 응답의 nextCursor, 없으면 첫 페이지
+	private String cursor;
+
 	public String[] getTypes() {
 		if (type == null || type.isEmpty()) {
 			return null;
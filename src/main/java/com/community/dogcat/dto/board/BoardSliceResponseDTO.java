@@ -0,0 +1,25 @@
+package com.community.dogcat.dto.board;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+// 커서 페이징(무한 스크롤) 응답
+@Getter
+@Builder
+@ToString
+public class BoardSliceResponseDTO<E> {
+
+	private int size;
+
+	// DTO->List
+	private List<E> dtoList;
+
+	// 다음 페이지 존재 여부
+	private boolean hasNext;
+
+	// 다음 요청에 넘길 커서, 마지막 페이지면 null
+	private String nextCursor;
+}
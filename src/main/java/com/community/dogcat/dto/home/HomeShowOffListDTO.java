@@ -1,9 +1,6 @@
 package com.community.dogcat.dto.home;
 
 import java.time.Instant;
-import java.util.List;
-
-import com.community.dogcat.domain.ImgBoard;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -30,6 +27,7 @@ public class HomeShowOffListDTO {
 
 	private String postTitle;
 
+	// 본문 미리보기 (post.excerpt, HTML 제거된 일부)
 	private String postContent;
 
 	private Instant regDate;
@@ -42,6 +40,7 @@ public class HomeShowOffListDTO {
 
 	private Long viewCount;
 
-	private List<ImgBoard> imgBoards;
+	// 대표 썸네일 (첫 번째 첨부 이미지), 첨부 이미지가 없으면 null
+	private String coverThumbnail;
 
 }
@@ -0,0 +1,26 @@
+package com.community.dogcat.dto.home;
+
+import java.time.Instant;
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 홈 화면 스냅샷, 생성 후 변경하지 않음 (읽는 쪽은 락 없이 참조만)
+@Getter
+@Builder
+public class HomeSnapshotDTO {
+
+	private final List<HomeTodayListDTO> todayList;
+
+	private final List<HomeShowOffListDTO> showOffList;
+
+	private final List<HomeGeneralListDTO> generalList;
+
+	private final List<HomeTipListDTO> tipList;
+
+	private final List<HomeQnaListDTO> qnaList;
+
+	// 스냅샷 생성 시각
+	private final Instant builtAt;
+}
@@ -1,9 +1,6 @@
 package com.community.dogcat.dto.myPage.activity;
 
 import java.time.Instant;
-import java.util.List;
-
-import com.community.dogcat.domain.ImgBoard;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -32,6 +29,7 @@ public class UserScrapsActivityDTO {
 
 	private String postTitle;
 
+	// 본문 미리보기 (post.excerpt, HTML 제거된 일부)
 	private String postContent;
 
 	private Instant regDate;
@@ -48,7 +46,8 @@ public class UserScrapsActivityDTO {
 
 	private boolean completeQna;
 
-	private List<ImgBoard> imgBoards;
+	// 대표 썸네일 (첫 번째 첨부 이미지), 첨부 이미지가 없으면 null
+	private String coverThumbnail;
 
 	private Long postReplyCount;
 
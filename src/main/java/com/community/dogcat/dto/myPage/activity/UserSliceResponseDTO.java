@@ -0,0 +1,27 @@
+package com.community.dogcat.dto.myPage.activity;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+// 마이 페이지 커서 페이징(무한 스크롤) 응답
+@Getter
+@Builder
+@ToString
+public class UserSliceResponseDTO<E> {
+
+	private int size;
+
+	// DTO->List
+	private List<E> dtoList;
+
+	// 다음 페이지 존재 여부
+	private boolean hasNext;
+
+	// 다음 요청에 넘길 커서, 마지막 페이지면 null
+	private String nextCursor;
+
+	private String userId;
+}
@@ -0,0 +1,51 @@
+package com.community.dogcat.dto.search;
+
+import java.time.Instant;
+
+import com.community.dogcat.domain.Post;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 검색 색인에 필요한 게시글 정보
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostIndexSourceDTO {
+
+	private Long postNo;
+
+	// 게시글 작성자 아이디
+	private String userId;
+
+	// 게시글 작성자 닉네임
+	private String nickname;
+
+	private String boardCode;
+
+	private String postTag;
+
+	private boolean secret;
+
+	private Instant regDate;
+
+	private String postTitle;
+
+	private String postContent;
+
+	// Entity -> DTO
+	public PostIndexSourceDTO(Post post) {
+		this.postNo = post.getPostNo();
+		this.userId = post.getUserId().getUserId();
+		this.nickname = post.getUserId().getNickname();
+		this.boardCode = post.getBoardCode();
+		this.postTag = post.getPostTag();
+		this.secret = post.isSecret();
+		this.regDate = post.getRegDate();
+		this.postTitle = post.getPostTitle();
+		this.postContent = post.getPostContent();
+	}
+}
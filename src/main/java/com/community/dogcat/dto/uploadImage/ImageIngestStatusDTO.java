@@ -0,0 +1,30 @@
+package com.community.dogcat.dto.uploadImage;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 게시글 첨부 이미지 처리 상태
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageIngestStatusDTO {
+
+	private Long postNo;
+
+	// PROCESSING | DONE | FAILED (일부 이미지 실패)
+	private String state;
+
+	private int total;
+
+	private int completed;
+
+	private int failed;
+
+	// fileUuid -> 처리 단계 (STAGED, RESIZED, UPLOADED, PERSISTED, FAILED)
+	private Map<String, String> images;
+}
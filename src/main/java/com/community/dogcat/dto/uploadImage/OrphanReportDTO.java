@@ -0,0 +1,46 @@
+package com.community.dogcat.dto.uploadImage;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// S3 버킷과 DB(img_board) 비교 결과
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrphanReportDTO {
+
+	// true 면 삭제하지 않고 집계만
+	private boolean dryRun;
+
+	// DB 에 저장된 fileUuid 수
+	private long storedImages;
+
+	// 확인한 S3 오브젝트 수
+	private long scannedObjects;
+
+	// 최근 업로드라 건너뛴 오브젝트 수 (DB 저장 전일 수 있음)
+	private long recentObjects;
+
+	// 업로드 규칙에 맞지 않는 key 라 건너뛴 오브젝트 수
+	private long unknownObjects;
+
+	// DB 에 없는 오브젝트 수, 크기
+	private long orphanObjects;
+
+	private long orphanBytes;
+
+	// 실제 삭제/실패 수 (dryRun 이면 0)
+	private long deleted;
+
+	private long failed;
+
+	// 고아 오브젝트 key 일부
+	private List<String> sampleKeys;
+
+	private long elapsedMillis;
+}
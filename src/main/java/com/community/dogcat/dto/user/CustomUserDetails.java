@@ -3,8 +3,6 @@ package com.community.dogcat.dto.user;
 import java.util.Collection;
 import java.util.List;
 
-import javax.servlet.http.Cookie;
-
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.context.request.RequestContextHolder;
@@ -12,6 +10,8 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 
 import com.community.dogcat.domain.User;
 import com.community.dogcat.jwt.JWTUtil;
+import com.community.dogcat.jwt.JwtRequestContext;
+import com.community.dogcat.jwt.VerifiedJwt;
 
 import lombok.RequiredArgsConstructor;
 
@@ -43,28 +43,17 @@ public class CustomUserDetails implements UserDetails {
 
 	@Override
 	public Collection<? extends GrantedAuthority> getAuthorities() {
-		String token = getTokenFromCookie();
-		if (token == null || token.isEmpty()) {
+		ServletRequestAttributes attrs = (ServletRequestAttributes)RequestContextHolder.currentRequestAttributes();
+		// JWTFilter 에서 검증한 access 토큰 사용 (다시 파싱하지 않음)
+		VerifiedJwt accessToken = JwtRequestContext.resolve(attrs.getRequest(), jwtUtil);
+		if (accessToken == null) {
 			// 예외 처리: 토큰이 없을 경우 기본 역할 반환 또는 예외 던지기
 			return List.of(); // 기본값으로 빈 권한 반환
 		}
-		String role = jwtUtil.getRole(token); // JWTUtil 로 ROLE 가져오기
+		String role = accessToken.getRole(); // 토큰의 ROLE 가져오기
 		return List.of(() -> role); // 단일 권한으로 반환
 	}
 
-	private String getTokenFromCookie() {
-		ServletRequestAttributes attrs = (ServletRequestAttributes)RequestContextHolder.currentRequestAttributes();
-		Cookie[] cookies = attrs.getRequest().getCookies();
-		if (cookies != null) {
-			for (Cookie cookie : cookies) {
-				if (cookie.getName().equals("access")) { // 쿠키 이름을 확인
-					return cookie.getValue(); // JWT 토큰 반환
-				}
-			}
-		}
-		return null; // 쿠키가 없을 경우 null 반환
-	}
-
 	@Override
 	public String getPassword() {
 		return user.getUserPw();
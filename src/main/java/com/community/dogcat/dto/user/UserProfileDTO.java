@@ -0,0 +1,19 @@
+package com.community.dogcat.dto.user;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 화면 공통 영역(닉네임, 권한, 레벨)에 쓰는 회원 정보, 캐시에 보관하므로 생성 후 변경하지 않음
+@Getter
+@Builder
+public class UserProfileDTO {
+
+	private final String userId;
+
+	private final String nickname;
+
+	// ROLE_USER, ROLE_VET, ROLE_ADMIN
+	private final String role;
+
+	private final long exp;
+}
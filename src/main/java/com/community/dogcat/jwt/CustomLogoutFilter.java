@@ -9,7 +9,7 @@ import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import org.springframework.web.filter.GenericFilterBean;
-import com.community.dogcat.repository.user.RefreshRepository;
+import com.community.dogcat.service.user.refresh.RefreshTokenStore;
 import io.jsonwebtoken.ExpiredJwtException;
 import lombok.extern.slf4j.Slf4j;
 
@@ -17,12 +17,12 @@ import lombok.extern.slf4j.Slf4j;
 public class CustomLogoutFilter extends GenericFilterBean {
 
 	private final JWTUtil jwtUtil;
-	private final RefreshRepository refreshRepository;
+	private final RefreshTokenStore refreshTokenStore;
 
-	public CustomLogoutFilter(JWTUtil jwtUtil, RefreshRepository refreshRepository) {
+	public CustomLogoutFilter(JWTUtil jwtUtil, RefreshTokenStore refreshTokenStore) {
 
 		this.jwtUtil = jwtUtil;
-		this.refreshRepository = refreshRepository;
+		this.refreshTokenStore = refreshTokenStore;
 
 	}
 
@@ -72,9 +72,11 @@ public class CustomLogoutFilter extends GenericFilterBean {
 
 		}
 
+		VerifiedJwt verified;
+
 		try {
 
-			jwtUtil.isExpired(refresh);
+			verified = jwtUtil.verify(refresh);
 
 		} catch (ExpiredJwtException e) {
 
@@ -84,9 +86,7 @@ public class CustomLogoutFilter extends GenericFilterBean {
 
 		}
 
-		String category = jwtUtil.getCategory(refresh);
-
-		if (!category.equals("refresh")) {
+		if (!"refresh".equals(verified.getCategory())) {
 
 			log.warn("Invalid token category: {}", refresh);
 			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
@@ -94,7 +94,7 @@ public class CustomLogoutFilter extends GenericFilterBean {
 
 		}
 
-		Boolean isExist = refreshRepository.existsByRefresh(refresh);
+		boolean isExist = refreshTokenStore.exists(refresh);
 
 		if (!isExist) {
 
@@ -104,7 +104,7 @@ public class CustomLogoutFilter extends GenericFilterBean {
 
 		}
 
-		refreshRepository.deleteByRefresh(refresh);
+		refreshTokenStore.delete(refresh);
 		clearCookies(response);
 		response.setStatus(HttpServletResponse.SC_OK);
 		redirectToHome(response, request);
@@ -5,7 +5,6 @@ import java.io.PrintWriter;
 
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
-import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
@@ -33,7 +32,7 @@ public class JWTFilter extends OncePerRequestFilter {
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
 		throws ServletException, IOException {
 
-		String accessToken = extractJwtFromCookie(request);
+		String accessToken = JwtRequestContext.extractAccessToken(request);
 
 		if (accessToken == null) {
 
@@ -43,9 +42,12 @@ public class JWTFilter extends OncePerRequestFilter {
 
 		}
 
+		// 서명/만료 검증과 claim 조회를 한 번에 처리
+		VerifiedJwt verified;
+
 		try {
 
-			jwtUtil.isExpired(accessToken);
+			verified = jwtUtil.verify(accessToken);
 
 		} catch (ExpiredJwtException e) {
 
@@ -63,9 +65,7 @@ public class JWTFilter extends OncePerRequestFilter {
 
 		}
 
-		String category = jwtUtil.getCategory(accessToken);
-
-		if (!category.equals("access")) {
+		if (!"access".equals(verified.getCategory())) {
 
 			PrintWriter writer = response.getWriter();
 			writer.print("Invalid access token");
@@ -76,6 +76,9 @@ public class JWTFilter extends OncePerRequestFilter {
 
 		}
 
+		// 이후 컨트롤러, CustomUserDetails 는 요청 속성의 검증 결과 사용
+		JwtRequestContext.bind(request, verified);
+
 		User user = new User();
 
 		CustomUserDetails customUserDetails = new CustomUserDetails(user, jwtUtil);
@@ -86,20 +89,4 @@ public class JWTFilter extends OncePerRequestFilter {
 
 	}
 
-	private String extractJwtFromCookie(HttpServletRequest request) {
-
-		Cookie[] cookies = request.getCookies();
-
-		if (cookies != null) {
-
-			for (Cookie cookie : cookies) {
-				if (cookie.getName().equals("access")) {
-					return cookie.getValue();
-				}
-			}
-		}
-		return null;
-
-	}
-
 }
@@ -1,10 +1,14 @@
 package com.community.dogcat.jwt;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -17,49 +21,96 @@ public class JWTUtil {
 
 	private final String secretKey;
 
-	public JWTUtil(@Value("${spring.jwt.secret}") String secretKey) {
+	// 서명 키, 요청마다 secret 에서 다시 만들지 않음
+	private final byte[] signingKey;
+
+	// 최근 검증한 토큰 digest -> claim (LRU), 만료된 항목은 조회시 제거 후 다시 검증
+	private final Map<String, VerifiedJwt> verifiedTokens;
+
+	// 통계
+	private final LongAdder cacheHits = new LongAdder();
+
+	private final LongAdder cacheMisses = new LongAdder();
+
+	public JWTUtil(@Value("${spring.jwt.secret}") String secretKey,
+		@Value("${jwt.verifiedCache.maxSize:10000}") int verifiedCacheSize) {
+
 		this.secretKey = secretKey;
+		this.signingKey = secretKey.getBytes(StandardCharsets.UTF_8);
+		this.verifiedTokens = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, VerifiedJwt> eldest) {
+				return size() > verifiedCacheSize;
+			}
+		};
 	}
 
-	public String getUsername(String token) {
+	// 토큰 검증 + claim 조회, 만료시 ExpiredJwtException, 서명 오류시 JwtException
+	public VerifiedJwt verify(String token) {
+
+		String digest = digest(token);
+
+		VerifiedJwt cached;
+		synchronized (verifiedTokens) {
+			cached = verifiedTokens.get(digest);
+		}
+
+		if (cached != null) {
+			if (!cached.isExpired(System.currentTimeMillis())) {
+				cacheHits.increment();
+				return cached;
+			}
+			synchronized (verifiedTokens) {
+				verifiedTokens.remove(digest);
+			}
+		}
+
+		cacheMisses.increment();
 
 		Claims claims = Jwts.parser()
-			.setSigningKey(secretKey.getBytes(StandardCharsets.UTF_8))
+			.setSigningKey(signingKey)
 			.parseClaimsJws(token)
 			.getBody();
 
-		return claims.get("username", String.class);
+		// 만료 시각이 없는 토큰은 캐시하지 않음
+		Date expiration = claims.getExpiration();
+
+		VerifiedJwt verified = new VerifiedJwt(
+			claims.get("category", String.class),
+			claims.get("username", String.class),
+			claims.get("role", String.class),
+			expiration != null ? expiration.getTime() : Long.MAX_VALUE);
+
+		if (expiration != null) {
+			synchronized (verifiedTokens) {
+				verifiedTokens.put(digest, verified);
+			}
+		}
 
+		return verified;
 	}
 
-	public String getRole(String token) {
+	public String getUsername(String token) {
 
-		Claims claims = Jwts.parser()
-			.setSigningKey(secretKey.getBytes(StandardCharsets.UTF_8))
-			.parseClaimsJws(token)
-			.getBody();
+		return verify(token).getUsername();
+
+	}
 
-		return claims.get("role", String.class);
+	public String getRole(String token) {
+
+		return verify(token).getRole();
 
 	}
 
 	public String getCategory(String token) {
 
-		Claims claims = Jwts.parser()
-			.setSigningKey(secretKey.getBytes(StandardCharsets.UTF_8))
-			.parseClaimsJws(token)
-			.getBody();
-
-		return claims.get("category", String.class);
+		return verify(token).getCategory();
 
 	}
 
 	public void isExpired(String token) {
 
-		Claims claims = Jwts.parser()
-			.setSigningKey(secretKey.getBytes(StandardCharsets.UTF_8))
-			.parseClaimsJws(token)
-			.getBody();
+		verify(token);
 
 	}
 
@@ -71,7 +122,7 @@ public class JWTUtil {
 			.claim("role", role)
 			.setIssuedAt(new Date(System.currentTimeMillis()))
 			.setExpiration(new Date(System.currentTimeMillis() + expiredMs))
-			.signWith(SignatureAlgorithm.HS256, secretKey.getBytes(StandardCharsets.UTF_8))
+			.signWith(SignatureAlgorithm.HS256, signingKey)
 			.compact();
 
 	}
@@ -86,4 +137,30 @@ public class JWTUtil {
 		}
 	}
 
-}
\ No newline at end of file
+	public long getVerifiedCacheHits() {
+		return cacheHits.sum();
+	}
+
+	public long getVerifiedCacheMisses() {
+		return cacheMisses.sum();
+	}
+
+	public int getVerifiedCacheSize() {
+		synchronized (verifiedTokens) {
+			return verifiedTokens.size();
+		}
+	}
+
+	// 캐시 키는 토큰 원문 대신 SHA-256 digest (메모리 고정, 토큰 원문 보관 안 함)
+	private String digest(String token) {
+
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+
+			return Base64.getEncoder().encodeToString(hash);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
@@ -0,0 +1,73 @@
+package com.community.dogcat.jwt;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+
+import io.jsonwebtoken.JwtException;
+import lombok.extern.slf4j.Slf4j;
+
+// 요청 단위 인증 정보
+// JWTFilter 에서 한 번 검증한 access 토큰을 요청 속성에 보관하고, 컨트롤러/UserDetails 는 여기서 읽음
+@Slf4j
+public final class JwtRequestContext {
+
+	private static final String ATTRIBUTE = JwtRequestContext.class.getName() + ".ACCESS";
+
+	// access 토큰이 없거나 유효하지 않은 요청 표시
+	private static final Object UNAUTHENTICATED = new Object();
+
+	private JwtRequestContext() {
+	}
+
+	// JWTFilter 에서 검증한 access 토큰 등록
+	public static void bind(HttpServletRequest request, VerifiedJwt accessToken) {
+		request.setAttribute(ATTRIBUTE, accessToken);
+	}
+
+	// 현재 요청의 검증된 access 토큰, 없거나 유효하지 않으면 null
+	// JWTFilter 를 거치지 않은 요청은 여기서 한 번 검증하고 결과를 요청 속성에 보관
+	public static VerifiedJwt resolve(HttpServletRequest request, JWTUtil jwtUtil) {
+
+		Object bound = request.getAttribute(ATTRIBUTE);
+
+		if (bound != null) {
+			return bound instanceof VerifiedJwt ? (VerifiedJwt)bound : null;
+		}
+
+		VerifiedJwt accessToken = null;
+		String token = extractAccessToken(request);
+
+		if (token != null) {
+			try {
+				VerifiedJwt verified = jwtUtil.verify(token);
+
+				if ("access".equals(verified.getCategory())) {
+					accessToken = verified;
+				}
+			} catch (JwtException | IllegalArgumentException e) {
+				log.debug("Invalid access token: {}", e.getMessage());
+			}
+		}
+
+		request.setAttribute(ATTRIBUTE, accessToken != null ? accessToken : UNAUTHENTICATED);
+
+		return accessToken;
+	}
+
+	public static String extractAccessToken(HttpServletRequest request) {
+
+		Cookie[] cookies = request.getCookies();
+
+		if (cookies != null) {
+
+			for (Cookie cookie : cookies) {
+				if (cookie.getName().equals("access")) {
+					return cookie.getValue();
+				}
+			}
+		}
+		return null;
+
+	}
+
+}
@@ -1,7 +1,7 @@
 package com.community.dogcat.jwt;
 
 import java.io.IOException;
-import java.util.Date;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -17,12 +17,14 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
-import com.community.dogcat.domain.RefreshToken;
 import com.community.dogcat.domain.User;
 import com.community.dogcat.domain.UsersAuth;
-import com.community.dogcat.repository.user.RefreshRepository;
 import com.community.dogcat.repository.user.UserRepository;
 import com.community.dogcat.repository.user.UsersAuthRepository;
+import com.community.dogcat.service.user.UserProfileCache;
+import com.community.dogcat.service.user.password.PasswordAttemptLimiter;
+import com.community.dogcat.service.user.password.PasswordHashRejectedException;
+import com.community.dogcat.service.user.refresh.RefreshTokenStore;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -31,21 +33,26 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 
 	private final JWTUtil jwtUtil;
 	private final UserRepository userRepository;
-	private final RefreshRepository refreshRepository;
+	private final RefreshTokenStore refreshTokenStore;
 	private final UsersAuthRepository usersAuthRepository;
 	private final AuthenticationManager authenticationManager;
 	private final CustomAuthenticationFailureHandler customAuthenticationFailureHandler;
+	private final UserProfileCache userProfileCache;
+	private final PasswordAttemptLimiter passwordAttemptLimiter;
 
 	public LoginFilter(AuthenticationManager authenticationManager, JWTUtil jwtUtil,
-		RefreshRepository refreshRepository, UsersAuthRepository usersAuthRepository, UserRepository userRepository,
-		CustomAuthenticationFailureHandler customAuthenticationFailureHandler) {
+		RefreshTokenStore refreshTokenStore, UsersAuthRepository usersAuthRepository, UserRepository userRepository,
+		CustomAuthenticationFailureHandler customAuthenticationFailureHandler, UserProfileCache userProfileCache,
+		PasswordAttemptLimiter passwordAttemptLimiter) {
 
 		this.authenticationManager = authenticationManager;
 		this.jwtUtil = jwtUtil;
-		this.refreshRepository = refreshRepository;
+		this.refreshTokenStore = refreshTokenStore;
 		this.usersAuthRepository = usersAuthRepository;
 		this.userRepository = userRepository;
 		this.customAuthenticationFailureHandler = customAuthenticationFailureHandler;
+		this.userProfileCache = userProfileCache;
+		this.passwordAttemptLimiter = passwordAttemptLimiter;
 		setFilterProcessesUrl("/user/loginProc");
 
 	}
@@ -67,7 +74,20 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 		UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(username, password, null);
 		authToken.setDetails(loginDetails);
 
-		return authenticationManager.authenticate(authToken);
+		// 요청 한도 초과시 BCrypt 검증 전에 거절 (로그인 실패 횟수에 포함하지 않음)
+		if (!passwordAttemptLimiter.tryAcquire(username, request)) {
+			rejectTooManyRequests(response);
+			return null;
+		}
+
+		try {
+			return authenticationManager.authenticate(authToken);
+		} catch (PasswordHashRejectedException e) {
+			// 해시 대기열이 가득 찬 경우
+			log.warn(e.getMessage());
+			rejectTooManyRequests(response);
+			return null;
+		}
 	}
 
 	@Override
@@ -109,6 +129,7 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 		if (user != null) {
 			user.incrementExp();
 			userRepository.save(user);
+			userProfileCache.invalidate(userId);
 		}
 
 		String access = jwtUtil.createJwt("access", userId, role, 86400000L); //1day
@@ -146,17 +167,22 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 
 	}
 
-	private void addRefreshToken(String username, String refresh) {
+	private void rejectTooManyRequests(HttpServletResponse response) {
 
-		Date date = new Date(System.currentTimeMillis() + 604800000L);
+		try {
+			response.setContentType("text/plain;charset=UTF-8");
+			response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value()); // 429 Too Many Requests 상태 코드 반환
+			response.setHeader("Retry-After", "1");
+			response.getWriter().write("TOO_MANY_REQUESTS");
+		} catch (IOException e) {
+			log.error("IOException occurred while redirecting", e);
+		}
+
+	}
 
-		RefreshToken refreshToken = RefreshToken.builder()
-			.username(username)
-			.refresh(refresh)
-			.expiration(date.toString())
-			.build();
+	private void addRefreshToken(String username, String refresh) {
 
-		refreshRepository.save(refreshToken);
+		refreshTokenStore.save(username, refresh, Instant.now().plusMillis(604800000L));
 
 	}
 
@@ -0,0 +1,24 @@
+package com.community.dogcat.jwt;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 서명/만료 검증이 끝난 JWT 의 claim, 한 번 파싱한 결과를 요청 안에서 재사용
+@Getter
+@RequiredArgsConstructor
+public class VerifiedJwt {
+
+	private final String category;
+
+	private final String username;
+
+	private final String role;
+
+	// 만료 시각 (epoch millis)
+	private final long expiresAt;
+
+	public boolean isExpired(long now) {
+		return now >= expiresAt;
+	}
+
+}
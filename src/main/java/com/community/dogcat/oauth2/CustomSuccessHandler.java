@@ -1,8 +1,8 @@
 package com.community.dogcat.oauth2;
 
 import java.io.IOException;
+import java.time.Instant;
 import java.util.Collection;
-import java.util.Date;
 import java.util.Iterator;
 
 import javax.servlet.ServletException;
@@ -15,14 +15,14 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
 
-import com.community.dogcat.domain.RefreshToken;
 import com.community.dogcat.domain.User;
 import com.community.dogcat.domain.UsersAuth;
 import com.community.dogcat.dto.user.CustomOAuth2User;
 import com.community.dogcat.jwt.JWTUtil;
-import com.community.dogcat.repository.user.RefreshRepository;
 import com.community.dogcat.repository.user.UserRepository;
 import com.community.dogcat.repository.user.UsersAuthRepository;
+import com.community.dogcat.service.user.UserProfileCache;
+import com.community.dogcat.service.user.refresh.RefreshTokenStore;
 
 import lombok.RequiredArgsConstructor;
 
@@ -31,9 +31,10 @@ import lombok.RequiredArgsConstructor;
 public class CustomSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
 	private final JWTUtil jwtUtil;
-	private final RefreshRepository refreshRepository;
+	private final RefreshTokenStore refreshTokenStore;
 	private final UsersAuthRepository usersAuthRepository;
 	private final UserRepository userRepository;
+	private final UserProfileCache userProfileCache;
 
 
 	@Override
@@ -49,6 +50,7 @@ public class CustomSuccessHandler extends SimpleUrlAuthenticationSuccessHandler
 		if (user != null) {
 			user.incrementExp();
 			userRepository.save(user);
+			userProfileCache.invalidate(userId);
 		}
 
 		String access = jwtUtil.createJwt("access", userId, role, 86400000L); //1day
@@ -74,12 +76,7 @@ public class CustomSuccessHandler extends SimpleUrlAuthenticationSuccessHandler
 
 	private void addRefreshToken(String username, String refresh) {
 
-		Date date = new Date(System.currentTimeMillis() + 604800000L);
-
-		RefreshToken refreshToken = RefreshToken.builder()
-			.username(username).refresh(refresh).expiration(date.toString()).build();
-
-		refreshRepository.save(refreshToken);
+		refreshTokenStore.save(username, refresh, Instant.now().plusMillis(604800000L));
 
 	}
 
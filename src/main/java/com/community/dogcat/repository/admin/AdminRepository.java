@@ -1,6 +1,7 @@
 package com.community.dogcat.repository.admin;
 
 import com.community.dogcat.domain.User;
+import com.community.dogcat.dto.admin.AdminUserDetailDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -23,15 +24,27 @@ public interface AdminRepository extends JpaRepository<User, String> {
     @Query("UPDATE User u SET u.block = false WHERE u.userId = :userId")
     int restoreUserByUserId(@Param("userId") String userId);
 
-    // 차단당하지 않은 유저 목록
-    @Query("SELECT u FROM User u WHERE u.block = false AND (u.nickname LIKE %:keyword1% OR u.userName LIKE %:keyword2%)")
-    Page<User> findByBlockFalseKeyword(@Param("keyword1") String keyword1, @Param("keyword2") String keyword2, Pageable pageable);
-    Page<User> findByBlockFalse(Pageable pageable);
+    // 차단당하지 않은 유저 목록 (권한 포함), users_auth 를 조인해 한 번에 조회
+    // keyword 가 null 이면 전체, 관리자 우선/유저 우선 정렬과 count 도 DB 에서 처리
+    String USER_DETAIL_SELECT = "SELECT new com.community.dogcat.dto.admin.AdminUserDetailDTO("
+        + "u.userId, u.userName, u.regDate, u.nickname, u.userVet, a.authorities) ";
 
-    // 차단당하지 않은 유저 숫자
-    @Query("SELECT COUNT(u) FROM User u WHERE u.block = false AND (u.nickname LIKE %:keyword1% OR u.userName LIKE %:keyword2%)")
-    long countByBlockFalseKeyword(@Param("keyword1") String keyword1, @Param("keyword2") String keyword2);
-    long countByBlockFalse();
+    String USER_DETAIL_FROM = "FROM UsersAuth a JOIN a.users u "
+        + "WHERE u.block = false AND u.deletedAt IS NULL "
+        + "AND (:keyword IS NULL OR u.nickname LIKE CONCAT('%', :keyword, '%') "
+        + "OR u.userName LIKE CONCAT('%', :keyword, '%')) ";
+
+    String USER_DETAIL_COUNT = "SELECT COUNT(a) " + USER_DETAIL_FROM;
+
+    @Query(value = USER_DETAIL_SELECT + USER_DETAIL_FROM
+        + "ORDER BY CASE WHEN a.authorities = 'ROLE_ADMIN' THEN 0 ELSE 1 END, u.userId DESC",
+        countQuery = USER_DETAIL_COUNT)
+    Page<AdminUserDetailDTO> findUserDetailsAdminFirst(@Param("keyword") String keyword, Pageable pageable);
+
+    @Query(value = USER_DETAIL_SELECT + USER_DETAIL_FROM
+        + "ORDER BY CASE WHEN a.authorities = 'ROLE_ADMIN' THEN 1 ELSE 0 END, u.userId DESC",
+        countQuery = USER_DETAIL_COUNT)
+    Page<AdminUserDetailDTO> findUserDetailsAdminLast(@Param("keyword") String keyword, Pageable pageable);
 
     // 차단당한 유저 목록
     @Query("SELECT u FROM User u WHERE u.block = true AND (u.nickname LIKE %:keyword1% OR u.userName LIKE %:keyword2%)")
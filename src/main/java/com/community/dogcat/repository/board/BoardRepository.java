@@ -15,11 +15,77 @@ import java.util.Optional;
 
 public interface BoardRepository extends JpaRepository<Post, Long>, BoardSearch {
 
-    // 상세페이지 접속시 조회수 증가
+    // 상세페이지 접속시 조회수 증가 (단건, 일반 경로는 ViewCountBuffer 사용)
     @Modifying
     @Query("UPDATE Post p SET p.viewCount = p.viewCount+1 WHERE p.postNo = :postNo")
     void updateViewCount(@Param("postNo") Long postNo);
 
+    // 좋아요/싫어요 수 증감, 읽고 계산해서 저장하지 않고 한 문장으로 처리 (동시 요청시 갱신 손실 방지)
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = COALESCE(p.likeCount, 0) + :likeDelta, "
+        + "p.dislikeCount = COALESCE(p.dislikeCount, 0) + :dislikeDelta WHERE p.postNo = :postNo")
+    int adjustLikeCount(@Param("postNo") Long postNo, @Param("likeDelta") long likeDelta,
+                        @Param("dislikeDelta") long dislikeDelta);
+
+    // 댓글 등록시 댓글 수 증가
+    @Modifying
+    @Query("UPDATE Post p SET p.replyCount = p.replyCount + 1 WHERE p.postNo = :postNo")
+    int increaseReplyCount(@Param("postNo") Long postNo);
+
+    // 댓글 삭제시 댓글 수 감소
+    @Modifying
+    @Query("UPDATE Post p SET p.replyCount = p.replyCount - 1 WHERE p.postNo = :postNo AND p.replyCount > 0")
+    int decreaseReplyCount(@Param("postNo") Long postNo);
+
+    // 댓글 수를 실제 댓글 테이블 기준으로 다시 계산 (회원 탈퇴 등 일괄 삭제 후)
+    @Modifying
+    @Transactional
+    @Query("UPDATE Post p SET p.replyCount = (SELECT COUNT(r) FROM Reply r WHERE r.postNo = p) WHERE p.postNo IN :postNos")
+    int reconcileReplyCount(@Param("postNos") List<Long> postNos);
+
+    // 댓글 수 백필/정합성 보정, postNo 구간 단위로 실행
+    @Modifying
+    @Transactional
+    @Query("UPDATE Post p SET p.replyCount = (SELECT COUNT(r) FROM Reply r WHERE r.postNo = p) "
+        + "WHERE p.postNo BETWEEN :fromPostNo AND :toPostNo")
+    int reconcileReplyCountBetween(@Param("fromPostNo") Long fromPostNo, @Param("toPostNo") Long toPostNo);
+
+    // 대표 썸네일 갱신, 가장 먼저 업로드된 첨부 이미지 기준 (이미지 업로드/삭제 후 호출)
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE post p SET p.cover_thumbnail = (SELECT i.thumbnail_path FROM img_board i "
+        + "WHERE i.post_no = p.post_no ORDER BY i.upload_time, i.file_uuid LIMIT 1) WHERE p.post_no = :postNo",
+        nativeQuery = true)
+    int refreshCoverThumbnail(@Param("postNo") Long postNo);
+
+    // 대표 썸네일 백필, postNo 구간 단위로 실행
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE post p SET p.cover_thumbnail = (SELECT i.thumbnail_path FROM img_board i "
+        + "WHERE i.post_no = p.post_no ORDER BY i.upload_time, i.file_uuid LIMIT 1) "
+        + "WHERE p.post_no BETWEEN :fromPostNo AND :toPostNo AND p.cover_thumbnail IS NULL",
+        nativeQuery = true)
+    int backfillCoverThumbnailBetween(@Param("fromPostNo") Long fromPostNo, @Param("toPostNo") Long toPostNo);
+
+    // 본문 미리보기 백필 대상, postNo 구간 중 excerpt 가 비어있는 게시글
+    @Query("SELECT p.postNo AS postNo, p.postContent AS postContent FROM Post p "
+        + "WHERE p.postNo BETWEEN :fromPostNo AND :toPostNo AND p.excerpt IS NULL")
+    List<ContentView> findExcerptBackfillTargets(@Param("fromPostNo") Long fromPostNo,
+                                                 @Param("toPostNo") Long toPostNo);
+
+    // 게시글 삭제 (연관 행은 각 repository 의 bulkDeleteByPostNo 로 먼저 삭제)
+    // 영속성 컨텍스트에 남은 게시글, 연관 엔티티는 비움
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Post p WHERE p.postNo = :postNo")
+    int bulkDeleteByPostNo(@Param("postNo") Long postNo);
+
+    @Query("SELECT MAX(p.postNo) FROM Post p")
+    Long findMaxPostNo();
+
+    // 검색 색인 스냅샷 로드 후 삭제된 게시글 확인용
+    @Query("SELECT p.postNo FROM Post p")
+    List<Long> findAllPostNos();
+
     // userId 와 postNo 가 일치하는 게시물 찾기
     @Query("SELECT p FROM Post p WHERE p.postNo = :postNo AND p.userId = :userId")
     Optional<Post> findByPostNoAndUserId(@Param("postNo") Long postNo, @Param("userId") User userId);
@@ -46,4 +112,11 @@ public interface BoardRepository extends JpaRepository<Post, Long>, BoardSearch
 
     List<Post> findAllByUserId(User user);
 
+    interface ContentView {
+
+        Long getPostNo();
+
+        String getPostContent();
+    }
+
 }
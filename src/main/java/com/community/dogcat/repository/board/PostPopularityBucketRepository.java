@@ -0,0 +1,21 @@
+package com.community.dogcat.repository.board;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.community.dogcat.domain.PostPopularityBucket;
+
+public interface PostPopularityBucketRepository extends JpaRepository<PostPopularityBucket, Long> {
+
+	// 서버 시작시 window 안의 구간만 복원
+	List<PostPopularityBucket> findByBucketEpochGreaterThanEqual(Long bucketEpoch);
+
+	// window 를 벗어난 구간 삭제 (체크포인트)
+	@Modifying
+	@Query("DELETE FROM PostPopularityBucket b WHERE b.bucketEpoch < :minEpoch")
+	int deleteByBucketEpochLessThan(@Param("minEpoch") Long minEpoch);
+}
@@ -3,7 +3,11 @@ package com.community.dogcat.repository.board.postLike;
 import java.util.List;
 import java.util.Optional;
 
+import javax.persistence.LockModeType;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,6 +22,45 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
 	@Query("SELECT pl FROM PostLike pl WHERE pl.postNo = :postNo AND pl.userId = :userId")
 	Optional<PostLike> findByPostAndUser(@Param("postNo") Post postNo, @Param("userId") User userId);
 
+	// 상태 변경 전 해당 회원의 좋아요 행 잠금 (같은 회원의 동시 요청 직렬화, 게시글 행은 잠그지 않음)
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT pl FROM PostLike pl WHERE pl.postNo.postNo = :postNo AND pl.userId.userId = :userId")
+	Optional<PostLike> findForUpdate(@Param("postNo") Long postNo, @Param("userId") String userId);
+
+	// 삭제 전 행 잠금, 잠근 뒤의 상태로 카운트 감소 (동시에 들어온 toggle 과 직렬화)
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT pl FROM PostLike pl WHERE pl.likeNo = :likeNo")
+	Optional<PostLike> findByLikeNoForUpdate(@Param("likeNo") Long likeNo);
+
+	// (post_no, user_id) 유니크 키 기준 upsert, 이미 있으면 무시하고 0 반환
+	@Modifying
+	@Query(value = "INSERT IGNORE INTO postlike (post_no, user_id, like_state, dislike_state) "
+		+ "VALUES (:postNo, :userId, :likeState, :dislikeState)", nativeQuery = true)
+	int insertIgnore(@Param("postNo") Long postNo, @Param("userId") String userId,
+		@Param("likeState") boolean likeState, @Param("dislikeState") boolean dislikeState);
+
+	// toggle 용, 행이 없으면 취소 상태로 생성하고 있으면 배타 락만 획득
+	// (빈 구간 FOR UPDATE 의 gap 락 후 INSERT, INSERT IGNORE 의 공유 락 후 FOR UPDATE 는 동시 요청끼리 교착)
+	@Modifying
+	@Query(value = "INSERT INTO postlike (post_no, user_id, like_state, dislike_state) "
+		+ "VALUES (:postNo, :userId, false, false) ON DUPLICATE KEY UPDATE like_no = like_no", nativeQuery = true)
+	int insertOrLock(@Param("postNo") Long postNo, @Param("userId") String userId);
+
+	@Modifying
+	@Query("UPDATE PostLike pl SET pl.likeState = :likeState, pl.dislikeState = :dislikeState WHERE pl.likeNo = :likeNo")
+	int updateState(@Param("likeNo") Long likeNo, @Param("likeState") boolean likeState,
+		@Param("dislikeState") boolean dislikeState);
+
+	// 삭제된 행 수 반환, 0이면 이미 삭제된 경우라 카운트 감소하지 않음
+	@Modifying
+	@Query("DELETE FROM PostLike pl WHERE pl.likeNo = :likeNo")
+	int deleteByLikeNo(@Param("likeNo") Long likeNo);
+
+	// 게시글 삭제시 좋아요/싫어요 일괄 삭제
+	@Modifying
+	@Query("DELETE FROM PostLike pl WHERE pl.postNo.postNo = :postNo")
+	int bulkDeleteByPostNo(@Param("postNo") Long postNo);
+
 	@Transactional
 	void deleteAllByUserId(User user);
 
@@ -8,6 +8,7 @@ import com.community.dogcat.repository.search.ReplySearch;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,9 +22,13 @@ public interface ReplyRepository extends JpaRepository<Reply, Long>, ReplySearch
     @Query("SELECT r FROM Reply r WHERE r.postNo.postNo = :postNo")
     List<Reply> findByPostNo(@Param("postNo") Long postNo);
 
-    // 게시물 하나에 달린 댓글 갯수 카운트
-    @Query("SELECT count(r) FROM Reply r WHERE r.postNo.postNo = :postNo")
-    Long countRepliesByPost(@Param("postNo") Long postNo);
+    // 댓글 번호로 댓글이 달린 게시물 번호 찾기
+    @Query("SELECT r.postNo.postNo FROM Reply r WHERE r.replyNo = :replyNo")
+    Optional<Long> findPostNoByReplyNo(@Param("replyNo") Long replyNo);
+
+    // userId가 댓글을 작성한 게시물 번호 목록 (회원 탈퇴시 댓글 수 보정용)
+    @Query("SELECT DISTINCT r.postNo.postNo FROM Reply r WHERE r.userId = :userId")
+    List<Long> findPostNosByUserId(@Param("userId") User userId);
 
     // userId 와 replyNo 가 일치하는 댓글 찾기
     @Query("SELECT r FROM Reply r WHERE r.replyNo = :replyNo AND r.userId = :userId")
@@ -39,6 +44,11 @@ public interface ReplyRepository extends JpaRepository<Reply, Long>, ReplySearch
 
     Reply findByReplyNo(Long replyNo);
 
+    // 게시글 삭제시 댓글 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM Reply r WHERE r.postNo.postNo = :postNo")
+    int bulkDeleteByPostNo(@Param("postNo") Long postNo);
+
     @Transactional
     void deleteAllByUserId(User user);
 
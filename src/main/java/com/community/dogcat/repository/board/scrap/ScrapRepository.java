@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,4 +34,9 @@ public interface ScrapRepository extends JpaRepository<Scrap, Long>, ScrapSearch
 
 	@Transactional
 	void deleteAllByUserId(User user);
+
+	// 게시글 삭제시 보관 일괄 삭제
+	@Modifying
+	@Query("DELETE FROM Scrap s WHERE s.postNo.postNo = :postNo")
+	int bulkDeleteByPostNo(@Param("postNo") Long postNo);
 }
@@ -5,12 +5,12 @@ import com.community.dogcat.domain.Reply;
 import com.community.dogcat.domain.ReportLog;
 import com.community.dogcat.domain.User;
 import com.community.dogcat.dto.report.ReportLogDTO;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -27,34 +27,53 @@ public interface ReportLogRepository extends JpaRepository<ReportLog, Long> {
     List<Long> findByReplyNo(@Param("replyNo") Long replyNo);
 
 
-    // 신고 받았으면서 차단 당하지 않은 사람들 목록
-    @Query("SELECT r FROM ReportLog r " +
-            "LEFT JOIN r.postNo.userId pu " +
-            "LEFT JOIN r.replyNo.userId rpu " +
-            "WHERE (pu.block = false OR rpu.block = false) " +
+    // 신고 받았으면서 차단 당하지 않은 회원에 대한 신고 목록
+    // 신고 받은 회원은 reported_user_id 로 바로 조인, count 는 별도 (키워드 없으면 report_user_summary)
+    @Query("SELECT r FROM ReportLog r JOIN FETCH r.userId " +
+            "LEFT JOIN FETCH r.postNo LEFT JOIN FETCH r.replyNo " +
+            "JOIN User u ON u.userId = r.reportedUserId " +
+            "WHERE u.block = false " +
             "AND (r.reportContent LIKE %:keyword% OR r.reportTitle LIKE %:keyword%)")
-    Page<ReportLog> findByReportNotBlockedKeyword(@Param("keyword") String keyword, Pageable pageable);
+    List<ReportLog> findByReportNotBlockedKeyword(@Param("keyword") String keyword, Pageable pageable);
 
-    @Query("SELECT r FROM ReportLog r " +
-            "LEFT JOIN r.postNo.userId pu " +
-            "LEFT JOIN r.replyNo.userId rpu " +
-            "WHERE pu.block = false OR rpu.block = false")
-    Page<ReportLog> findByReportNotBlocked(Pageable pageable);
+    @Query("SELECT r FROM ReportLog r JOIN FETCH r.userId " +
+            "LEFT JOIN FETCH r.postNo LEFT JOIN FETCH r.replyNo " +
+            "JOIN User u ON u.userId = r.reportedUserId " +
+            "WHERE u.block = false")
+    List<ReportLog> findByReportNotBlocked(Pageable pageable);
 
 
-    // 신고 받았으면서 차단당하지 않은 인원수
+    // 신고 받았으면서 차단당하지 않은 회원에 대한 신고 수 (키워드 검색)
     @Query("SELECT COUNT(r) FROM ReportLog r " +
-            "LEFT JOIN r.postNo.userId pu " +
-            "LEFT JOIN r.replyNo.userId rpu " +
-            "WHERE (pu.block = false OR rpu.block = false) " +
+            "JOIN User u ON u.userId = r.reportedUserId " +
+            "WHERE u.block = false " +
             "AND (r.reportContent LIKE %:keyword% OR r.reportTitle LIKE %:keyword%)")
     long countByReportNotBlockedKeyword(@Param("keyword") String keyword);
 
-    @Query("SELECT COUNT(r) FROM ReportLog r " +
-            "LEFT JOIN r.postNo.userId pu " +
-            "LEFT JOIN r.replyNo.userId rpu " +
-            "WHERE pu.block = false OR rpu.block = false")
-    long countByReportNotBlocked();
+    // 회원이 받은 신고 (관리자 회원 신고 내역), reported_user_id 인덱스
+    @Query("SELECT r FROM ReportLog r LEFT JOIN FETCH r.postNo LEFT JOIN FETCH r.replyNo " +
+            "WHERE r.reportedUserId = :userId ORDER BY r.reportNo")
+    List<ReportLog> findAllByReportedUserId(@Param("userId") String userId);
+
+    // reported_user_id, target_type 컬럼 추가 전 신고 백필, reportNo 구간 단위로 실행
+    @Query("SELECT MAX(r.reportNo) FROM ReportLog r")
+    Long findMaxReportNo();
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE report_log r JOIN post p ON p.post_no = r.post_no " +
+            "SET r.reported_user_id = p.user_id, r.target_type = 'POST' " +
+            "WHERE r.reported_user_id IS NULL AND r.report_no BETWEEN :fromReportNo AND :toReportNo",
+            nativeQuery = true)
+    int backfillPostReportsBetween(@Param("fromReportNo") Long fromReportNo, @Param("toReportNo") Long toReportNo);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE report_log r JOIN reply p ON p.reply_no = r.reply_no " +
+            "SET r.reported_user_id = p.user_id, r.target_type = 'REPLY' " +
+            "WHERE r.post_no IS NULL AND r.reported_user_id IS NULL " +
+            "AND r.report_no BETWEEN :fromReportNo AND :toReportNo", nativeQuery = true)
+    int backfillReplyReportsBetween(@Param("fromReportNo") Long fromReportNo, @Param("toReportNo") Long toReportNo);
 
 
     // 신고 삭제
@@ -62,6 +81,12 @@ public interface ReportLogRepository extends JpaRepository<ReportLog, Long> {
     @Query("DELETE FROM ReportLog rl WHERE rl.reportNo = :reportNo")
     int deleteReportLog(@Param("reportNo") Long reportNo);
 
+    // 게시글 삭제시 게시글과 게시글의 댓글에 접수된 신고 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM ReportLog rl WHERE rl.postNo.postNo = :postNo "
+        + "OR rl.replyNo IN (SELECT r FROM Reply r WHERE r.postNo.postNo = :postNo)")
+    int bulkDeleteByPostNo(@Param("postNo") Long postNo);
+
     void deleteByPostNo(Post post);
     void deleteByReplyNo(Reply reply);
 
@@ -0,0 +1,70 @@
+package com.community.dogcat.repository.report;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.community.dogcat.domain.ReportUserSummary;
+
+// 회원별 받은 신고 수 증감, 신고 등록/삭제와 같은 트랜잭션에서 호출
+// 감소는 삭제 전에 호출 (삭제할 신고를 report_log 에서 집계)
+public interface ReportUserSummaryRepository extends JpaRepository<ReportUserSummary, String> {
+
+	// 신고 1건 반영, 행이 없으면 생성
+	@Modifying
+	@Query(value = "INSERT INTO report_user_summary "
+		+ "(user_id, report_count, post_report_count, reply_report_count, last_reported_at) "
+		+ "VALUES (:userId, 1, :postReports, :replyReports, :now) "
+		+ "ON DUPLICATE KEY UPDATE report_count = report_count + 1, "
+		+ "post_report_count = post_report_count + VALUES(post_report_count), "
+		+ "reply_report_count = reply_report_count + VALUES(reply_report_count), "
+		+ "last_reported_at = VALUES(last_reported_at)", nativeQuery = true)
+	int increment(@Param("userId") String userId, @Param("postReports") int postReports,
+		@Param("replyReports") int replyReports, @Param("now") Instant now);
+
+	// 삭제할 신고만큼 감소, 회원별로 묶어서 한 문장으로 처리
+	@Modifying
+	@Query(value = "UPDATE report_user_summary s JOIN (SELECT reported_user_id, COUNT(*) AS total, "
+		+ "SUM(CASE WHEN target_type = 'POST' THEN 1 ELSE 0 END) AS posts FROM report_log "
+		+ "WHERE report_no IN (:reportNos) AND reported_user_id IS NOT NULL GROUP BY reported_user_id) d "
+		+ "ON d.reported_user_id = s.user_id "
+		+ "SET s.report_count = GREATEST(s.report_count - d.total, 0), "
+		+ "s.post_report_count = GREATEST(s.post_report_count - d.posts, 0), "
+		+ "s.reply_report_count = GREATEST(s.reply_report_count - (d.total - d.posts), 0)", nativeQuery = true)
+	int subtractByReportNos(@Param("reportNos") List<Long> reportNos);
+
+	// 게시글 삭제시 게시글과 게시글의 댓글에 접수된 신고만큼 감소
+	@Modifying
+	@Query(value = "UPDATE report_user_summary s JOIN (SELECT reported_user_id, COUNT(*) AS total, "
+		+ "SUM(CASE WHEN target_type = 'POST' THEN 1 ELSE 0 END) AS posts FROM report_log "
+		+ "WHERE (post_no = :postNo OR reply_no IN (SELECT r.reply_no FROM reply r WHERE r.post_no = :postNo)) "
+		+ "AND reported_user_id IS NOT NULL GROUP BY reported_user_id) d "
+		+ "ON d.reported_user_id = s.user_id "
+		+ "SET s.report_count = GREATEST(s.report_count - d.total, 0), "
+		+ "s.post_report_count = GREATEST(s.post_report_count - d.posts, 0), "
+		+ "s.reply_report_count = GREATEST(s.reply_report_count - (d.total - d.posts), 0)", nativeQuery = true)
+	int subtractByPostNo(@Param("postNo") Long postNo);
+
+	// 차단당하지 않은 회원이 받은 신고 수 합계 (관리자 신고 목록 count)
+	@Query("SELECT COALESCE(SUM(s.reportCount), 0) FROM ReportUserSummary s, User u "
+		+ "WHERE u.userId = s.userId AND u.block = false AND s.reportCount > 0")
+	long sumReportCountNotBlocked();
+
+	// 전체 재계산 (reported_user_id 백필 후)
+	@Modifying
+	@Query(value = "DELETE FROM report_user_summary", nativeQuery = true)
+	int deleteAllRows();
+
+	@Modifying
+	@Query(value = "INSERT INTO report_user_summary "
+		+ "(user_id, report_count, post_report_count, reply_report_count, last_reported_at) "
+		+ "SELECT reported_user_id, COUNT(*), SUM(CASE WHEN target_type = 'POST' THEN 1 ELSE 0 END), "
+		+ "SUM(CASE WHEN target_type = 'REPLY' THEN 1 ELSE 0 END), MAX(reg_date) FROM report_log "
+		+ "WHERE reported_user_id IS NOT NULL GROUP BY reported_user_id", nativeQuery = true)
+	int insertFromReportLog();
+
+}
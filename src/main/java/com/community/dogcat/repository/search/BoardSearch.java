@@ -1,10 +1,12 @@
 package com.community.dogcat.repository.search;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import com.community.dogcat.dto.board.BoardListDTO;
 import com.community.dogcat.dto.home.HomeGeneralListDTO;
@@ -14,12 +16,16 @@ import com.community.dogcat.dto.home.HomeTipListDTO;
 import com.community.dogcat.dto.home.HomeTodayListDTO;
 import com.community.dogcat.dto.myPage.activity.UserPostsActivityDTO;
 import com.community.dogcat.dto.home.search.AllSearchDTO;
+import com.community.dogcat.dto.search.PostIndexSourceDTO;
 
 public interface BoardSearch {
 
 	// 통합 검색 : 첨부파일 유/무 + 비밀글 제외
 	Page<AllSearchDTO> searchAll(String[] types, String keyword, Pageable pageable);
 
+	// 통합 검색 : 검색 색인 결과(postNo 순위)로 목록 조회, postNos 순서 유지
+	List<AllSearchDTO> searchAllByPostNos(List<Long> postNos);
+
 	// 게시판 : 게시물에 달린 댓글수 + 첨부파일 유/무 + boardCode정렬 (readDetial list에 사용)
 	Page<BoardListDTO> listWithBoard(Pageable pageable, String boardCode);
 
@@ -27,12 +33,31 @@ public interface BoardSearch {
 	Page<BoardListDTO> listWithAll(String[] types, String keyword, Pageable pageable, String boardCode, String PostTag,
 		String order);
 
+	// 게시판 : 검색 색인에서 찾은 postNo 중 listWithAll 조건/정렬 적용
+	Page<BoardListDTO> listWithAllByPostNos(Collection<Long> postNos, Pageable pageable, String boardCode,
+		String postTag, String order);
+
+	// 게시판 : 실시간 인기순(order=hot), rankedPostNos 순서대로 listWithAll 조건 적용
+	Page<BoardListDTO> listWithAllByRank(List<Long> rankedPostNos, String[] types, String keyword, Pageable pageable,
+		String boardCode, String postTag);
+
+	// 게시판 : listWithAll 커서(seek) 페이징, 무한 스크롤용
+	Slice<BoardListDTO> listWithAllByCursor(String[] types, String keyword, int size, String boardCode, String postTag,
+		String order, String cursor);
+
 	// 마이 페이지 : 회원이 작성한 게시물 검색 및 페이징
 	Page<UserPostsActivityDTO> postListWithUser(String[] types, String keyword, Pageable pageable, String userId);
 
+	// 마이 페이지 : 회원이 작성한 게시물 커서(seek) 페이징
+	Slice<UserPostsActivityDTO> postListWithUserByCursor(String[] types, String keyword, int size, String userId,
+		String cursor);
+
 	// 홈 : 실시간 인기 게시글 리스트
 	List<HomeTodayListDTO> todayList(Instant startOfDay, Instant endOfDay, int size);
 
+	// 홈 : 실시간 인기 게시글 리스트, rankedPostNos 순서 유지 + 비밀글 제외
+	List<HomeTodayListDTO> todayListByPostNos(List<Long> rankedPostNos, int size);
+
 	// 홈 : showOff 리스트
 	List<HomeShowOffListDTO> showOffList(int size);
 
@@ -45,4 +70,10 @@ public interface BoardSearch {
 	// 홈 : qna 리스트
 	List<HomeQnaListDTO> qnaList(int size);
 
+	// 검색 색인 : postNo 구간의 게시글 색인 정보
+	List<PostIndexSourceDTO> findIndexSources(Long fromPostNo, Long toPostNo);
+
+	// 검색 색인 : since 이후 등록/수정된 게시글 색인 정보
+	List<PostIndexSourceDTO> findIndexSourcesModifiedSince(Instant since);
+
 }
@@ -3,30 +3,36 @@ package com.community.dogcat.repository.search;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
-import com.community.dogcat.domain.ImgBoard;
 import com.community.dogcat.domain.Post;
 import com.community.dogcat.domain.QPost;
-import com.community.dogcat.domain.QReply;
 import com.community.dogcat.domain.QUser;
 import com.community.dogcat.dto.board.BoardListDTO;
-import com.community.dogcat.dto.home.HomeTodayListDTO;
-import com.community.dogcat.dto.myPage.activity.UserPostsActivityDTO;
 import com.community.dogcat.dto.home.HomeGeneralListDTO;
 import com.community.dogcat.dto.home.HomeQnaListDTO;
 import com.community.dogcat.dto.home.HomeShowOffListDTO;
 import com.community.dogcat.dto.home.HomeTipListDTO;
 import com.community.dogcat.dto.home.HomeTodayListDTO;
 import com.community.dogcat.dto.home.search.AllSearchDTO;
+import com.community.dogcat.dto.myPage.activity.UserPostsActivityDTO;
+import com.community.dogcat.dto.search.PostIndexSourceDTO;
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.JPQLQuery;
 
 import lombok.extern.slf4j.Slf4j;
@@ -42,7 +48,11 @@ public class BoardSearchImpl extends QuerydslRepositorySupport implements BoardS
 	@Override
 	public Page<AllSearchDTO> searchAll(String[] types, String keyword, Pageable pageable) {
 		QPost post = QPost.post;
-		JPQLQuery<Post> query = from(post);
+		QUser user = QUser.user;
+		// 목록에 필요한 컬럼만 조회, 작성자는 조인으로 함께 조회
+		JPQLQuery<AllSearchDTO> query = from(post)
+			.join(post.userId, user)
+			.select(Projections.fields(AllSearchDTO.class, postColumns(post, user, post.replyCount)));
 		query.where(post.secret.isFalse());
 
 		BooleanBuilder booleanBuilder = new BooleanBuilder();
@@ -68,7 +78,7 @@ public class BoardSearchImpl extends QuerydslRepositorySupport implements BoardS
 							booleanBuilder.or(post.postContent.contains(keyword));
 							break;
 						case "u":
-							booleanBuilder.or(post.userId.nickname.contains(keyword));
+							booleanBuilder.or(user.nickname.contains(keyword));
 							break;
 					}
 				}
@@ -89,56 +99,44 @@ public class BoardSearchImpl extends QuerydslRepositorySupport implements BoardS
 		this.getQuerydsl().applyPagination(pageable, query);
 
 		// 쿼리 실행 및 반환
-		List<Post> list = query.fetch();
-
-		// BoardListDTO List 생성
-		List<AllSearchDTO> dtoList = new ArrayList<>();
-
-		for (Post post1 : list) {
-
-			AllSearchDTO allSearchDTO = AllSearchDTO.builder()
-				.postNo(post1.getPostNo())
-				.userId(post1.getUserId().getUserId())
-				.nickname(post1.getUserId().getNickname())
-				.exp(post1.getUserId().getExp())
-				.userVet(post1.getUserId().isUserVet())
-				.boardCode(post1.getBoardCode())
-				.postTitle(post1.getPostTitle())
-				.postContent(post1.getPostContent())
-				.regDate(post1.getRegDate())
-				.modDate(post1.getModDate())
-				.postTag(post1.getPostTag())
-				.secret(post1.isSecret())
-				.viewCount(post1.getViewCount())
-				.build();
-
-			List<ImgBoard> imgBoards = post1.getImages().stream()
-				.map(image -> ImgBoard.builder()
-					.fileUuid(image.getFileUuid())
-					.build()
-				).collect(Collectors.toList());
-
-			allSearchDTO.setImgBoards(imgBoards);
-
-			// 생성한 boardListDTO를 dtoList에 추가
-			dtoList.add(allSearchDTO);
-		}
+		List<AllSearchDTO> dtoList = query.fetch();
+
 		//전체 갯수
 		Long count = query.fetchCount();
 
 		return new PageImpl<>(dtoList, pageable, count);
 	}
 
+	// 통합 검색 : 검색 색인 결과(postNo 순위)로 목록 조회, postNos 순서 유지
+	@Override
+	public List<AllSearchDTO> searchAllByPostNos(List<Long> postNos) {
+
+		if (postNos.isEmpty()) {
+			return new ArrayList<>();
+		}
+
+		QPost post = QPost.post;
+		QUser user = QUser.user;
+
+		List<AllSearchDTO> list = from(post)
+			.join(post.userId, user)
+			.select(Projections.fields(AllSearchDTO.class, postColumns(post, user, post.replyCount)))
+			.where(post.postNo.in(postNos).and(post.secret.isFalse()))
+			.fetch();
+
+		return orderByRank(list, postNos, AllSearchDTO::getPostNo);
+	}
+
 	// 게시판 : 게시물에 달린 댓글수 + 첨부파일 유/무 + boardCode정렬 (readDetial list에 사용)
 	@Override
 	public Page<BoardListDTO> listWithBoard(Pageable pageable, String boardCode) {
 
-		// replyCount를 위한 쿼리 설정
+		// 댓글 수는 post.reply_count 컬럼 사용 (reply 조인 없음)
 		QPost post = QPost.post;
-		QReply reply = QReply.reply;
-		JPQLQuery<Post> query = from(post);
-		query.leftJoin(reply).on(reply.postNo.eq(post));
-		query.groupBy(post);
+		QUser user = QUser.user;
+		JPQLQuery<BoardListDTO> query = from(post)
+			.join(post.userId, user)
+			.select(boardListProjection(post, user));
 
 		BooleanBuilder booleanBuilder = new BooleanBuilder();
 		// post의 boardCode와 비교
@@ -159,47 +157,8 @@ public class BoardSearchImpl extends QuerydslRepositorySupport implements BoardS
 		// 페이징 처리
 		this.getQuerydsl().applyPagination(pageable, query);
 
-		// SELECT절 설정, countDistinct() 중복을 제거한 카운트 반환
-		JPQLQuery<Tuple> tupleQuery = query.select(post, reply.countDistinct());
-		// 반환 결과 List<Tuple> 형태로 저장
-		List<Tuple> tupleList = tupleQuery.fetch();
-
-		// 각 Tuple을 BoardDTO로 변환
-		List<BoardListDTO> dtoList = tupleList.stream().map(tuple -> {
-
-			Post post1 = tuple.get(post);
-			Long replyCount = tuple.get(1, Long.class);
-
-			BoardListDTO boardListDTO = BoardListDTO.builder()
-				.postNo(post1.getPostNo())
-				.userId(post1.getUserId().getUserId())
-				.nickname(post1.getUserId().getNickname())
-				.exp(post1.getUserId().getExp())
-				.userVet(post1.getUserId().isUserVet())
-				.boardCode(post1.getBoardCode())
-				.postTitle(post1.getPostTitle())
-				.postContent(post1.getPostContent())
-				.regDate(post1.getRegDate())
-				.modDate(post1.getModDate())
-				.postTag(post1.getPostTag())
-				.secret(post1.isSecret())
-				.viewCount(post1.getViewCount())
-				.replyAuth(post1.isReplyAuth())
-				.completeQna(post1.isCompleteQna())
-				.replyCount(replyCount)
-				.build();
-
-			List<ImgBoard> imgBoards = post1.getImages().stream()
-				.map(image -> ImgBoard.builder()
-					.fileUuid(image.getFileUuid())
-					.thumbnailPath(image.getThumbnailPath())
-					.build()
-				).collect(Collectors.toList());
-
-			boardListDTO.setImgBoards(imgBoards);
-
-			return boardListDTO;
-		}).collect(Collectors.toList());
+		// 쿼리 실행 및 반환
+		List<BoardListDTO> dtoList = query.fetch();
 
 		//전체 갯수
 		Long count = query.fetchCount();
@@ -212,12 +171,186 @@ public class BoardSearchImpl extends QuerydslRepositorySupport implements BoardS
 	public Page<BoardListDTO> listWithAll(String[] types, String keyword, Pageable pageable, String boardCode,
 		String postTag, String order) {
 
-		// replyCount를 위한 쿼리 설정
+		// 댓글 수는 post.reply_count 컬럼 사용 (reply 조인 없음)
 		QPost post = QPost.post;
-		QReply reply = QReply.reply;
-		JPQLQuery<Post> query = from(post);
-		query.leftJoin(reply).on(reply.postNo.eq(post));
-		query.groupBy(post);
+		QUser user = QUser.user;
+		JPQLQuery<BoardListDTO> query = from(post)
+			.join(post.userId, user)
+			.select(boardListProjection(post, user));
+
+		BooleanBuilder booleanBuilder = listWithAllCondition(post, user, types, keyword, boardCode, postTag);
+
+		return listWithAll(query, booleanBuilder, pageable, order);
+	}
+
+	// 게시판 : 검색 색인에서 찾은 postNo 중 listWithAll 조건/정렬 적용 (LIKE 검색 대신 postNo IN 조건)
+	@Override
+	public Page<BoardListDTO> listWithAllByPostNos(Collection<Long> postNos, Pageable pageable, String boardCode,
+		String postTag, String order) {
+
+		if (postNos.isEmpty()) {
+			return new PageImpl<>(new ArrayList<>(), pageable, 0);
+		}
+
+		QPost post = QPost.post;
+		QUser user = QUser.user;
+		JPQLQuery<BoardListDTO> query = from(post)
+			.join(post.userId, user)
+			.select(boardListProjection(post, user));
+
+		BooleanBuilder booleanBuilder = listWithAllCondition(post, user, null, null, boardCode, postTag);
+		// 검색 시 secret=false 조건 추가
+		booleanBuilder.and(post.secret.isFalse());
+		booleanBuilder.and(post.postNo.in(postNos));
+
+		return listWithAll(query, booleanBuilder, pageable, order);
+	}
+
+	// 게시판 : 실시간 인기순(order=hot), 랭킹 상위 K개 안에서만 조회하고 순서/페이징은 랭킹 기준
+	@Override
+	public Page<BoardListDTO> listWithAllByRank(List<Long> rankedPostNos, String[] types, String keyword,
+		Pageable pageable, String boardCode, String postTag) {
+
+		if (rankedPostNos.isEmpty()) {
+			return new PageImpl<>(new ArrayList<>(), pageable, 0);
+		}
+
+		QPost post = QPost.post;
+		QUser user = QUser.user;
+
+		BooleanBuilder booleanBuilder = listWithAllCondition(post, user, types, keyword, boardCode, postTag);
+		booleanBuilder.and(post.postNo.in(rankedPostNos));
+
+		List<BoardListDTO> list = from(post)
+			.join(post.userId, user)
+			.select(boardListProjection(post, user))
+			.where(booleanBuilder)
+			.fetch();
+
+		List<BoardListDTO> ranked = orderByRank(list, rankedPostNos, BoardListDTO::getPostNo);
+
+		int from = (int)Math.min(pageable.getOffset(), ranked.size());
+		int to = Math.min(from + pageable.getPageSize(), ranked.size());
+
+		List<BoardListDTO> dtoList = new ArrayList<>(ranked.subList(from, to));
+
+		return new PageImpl<>(dtoList, pageable, ranked.size());
+	}
+
+	// rankedPostNos 순서로 정렬
+	private <T> List<T> orderByRank(List<T> list, List<Long> rankedPostNos, Function<T, Long> postNoGetter) {
+
+		Map<Long, T> byPostNo = list.stream().collect(Collectors.toMap(postNoGetter, dto -> dto));
+
+		return rankedPostNos.stream()
+			.map(byPostNo::get)
+			.filter(Objects::nonNull)
+			.collect(Collectors.toList());
+	}
+
+	// listWithAll 정렬, 페이징, 첨부파일 설정
+	private Page<BoardListDTO> listWithAll(JPQLQuery<BoardListDTO> query, BooleanBuilder booleanBuilder,
+		Pageable pageable, String order) {
+
+		QPost post = QPost.post;
+
+		// 최신순, 댓글 많은 순, 조회수 많은 순 정렬
+		if (order != null && !order.isEmpty()) {
+			switch (order) {
+				case "l":
+					query.orderBy(post.regDate.desc());
+					break;
+				case "r":
+					query.orderBy(post.replyCount.desc());
+					break;
+				case "v":
+					query.orderBy(post.viewCount.desc());
+					break;
+			}
+		} else {
+			//order가 없을때는 기본 정렬 기준으로 처리
+		}
+
+		// 정렬 조건 추가 regDate 최신순
+		query.orderBy(post.regDate.desc());
+
+		// 조건 적용
+		query.where(booleanBuilder);
+
+		// 페이징 처리
+		this.getQuerydsl().applyPagination(pageable, query);
+
+		// 쿼리 실행 및 반환
+		List<BoardListDTO> dtoList = query.fetch();
+
+		//전체 갯수
+		Long count = query.fetchCount();
+
+		return new PageImpl<>(dtoList, pageable, count);
+	}
+
+	// 게시판 : listWithAll 의 커서(seek) 페이징 버전, offset/count 쿼리 없이 (정렬값, postNo) 기준으로 다음 페이지 조회
+	@Override
+	public Slice<BoardListDTO> listWithAllByCursor(String[] types, String keyword, int size, String boardCode,
+		String postTag, String order, String cursor) {
+
+		QPost post = QPost.post;
+		QUser user = QUser.user;
+		JPQLQuery<BoardListDTO> query = from(post)
+			.join(post.userId, user)
+			.select(boardListProjection(post, user));
+
+		BooleanBuilder booleanBuilder = listWithAllCondition(post, user, types, keyword, boardCode, postTag);
+
+		KeysetCursor keysetCursor = KeysetCursor.decode(cursor,
+			"r".equals(order) || "v".equals(order) ? KeysetCursor.Type.LONG : KeysetCursor.Type.INSTANT);
+
+		// 정렬값이 같을 경우 postNo로 순서 고정
+		switch (order != null ? order : "l") {
+			case "r":
+				if (keysetCursor != null) {
+					Long replyCount = keysetCursor.longValue();
+					booleanBuilder.and(post.replyCount.lt(replyCount)
+						.or(post.replyCount.eq(replyCount).and(post.postNo.lt(keysetCursor.getId()))));
+				}
+				query.orderBy(post.replyCount.desc(), post.postNo.desc());
+				break;
+			case "v":
+				if (keysetCursor != null) {
+					Long viewCount = keysetCursor.longValue();
+					booleanBuilder.and(post.viewCount.lt(viewCount)
+						.or(post.viewCount.eq(viewCount).and(post.postNo.lt(keysetCursor.getId()))));
+				}
+				query.orderBy(post.viewCount.desc(), post.postNo.desc());
+				break;
+			default:
+				if (keysetCursor != null) {
+					Instant regDate = keysetCursor.instantValue();
+					booleanBuilder.and(post.regDate.lt(regDate)
+						.or(post.regDate.eq(regDate).and(post.postNo.lt(keysetCursor.getId()))));
+				}
+				query.orderBy(post.regDate.desc(), post.postNo.desc());
+				break;
+		}
+
+		// 조건 적용
+		query.where(booleanBuilder);
+
+		// 다음 페이지 존재 여부 확인을 위해 size + 1 조회
+		query.limit(size + 1);
+
+		List<BoardListDTO> list = query.fetch();
+
+		boolean hasNext = list.size() > size;
+
+		List<BoardListDTO> dtoList = hasNext ? new ArrayList<>(list.subList(0, size)) : list;
+
+		return new SliceImpl<>(dtoList, PageRequest.of(0, size), hasNext);
+	}
+
+	// listWithAll 검색, boardCode, 태그, 비밀글 조건
+	private BooleanBuilder listWithAllCondition(QPost post, QUser user, String[] types, String keyword,
+		String boardCode, String postTag) {
 
 		BooleanBuilder booleanBuilder = new BooleanBuilder();
 		// 검색 조건
@@ -231,7 +364,7 @@ public class BoardSearchImpl extends QuerydslRepositorySupport implements BoardS
 						booleanBuilder.or(post.postContent.contains(keyword));
 						break;
 					case "u":
-						booleanBuilder.or(post.userId.nickname.contains(keyword));
+						booleanBuilder.or(user.nickname.contains(keyword));
 						break;
 				}
 			}
@@ -255,78 +388,46 @@ public class BoardSearchImpl extends QuerydslRepositorySupport implements BoardS
 			}
 		}
 
-		// 최신순, 댓글 많은 순, 조회수 많은 순 정렬
-		if (order != null && !order.isEmpty()) {
-			switch (order) {
-				case "l":
-					query.orderBy(post.regDate.desc());
-					break;
-				case "r":
-					query.orderBy(reply.countDistinct().desc());
-					break;
-				case "v":
-					query.orderBy(post.viewCount.desc());
-					break;
-			}
-		} else {
-			//order가 없을때는 기본 정렬 기준으로 처리
-		}
-
-		// 정렬 조건 추가 regDate 최신순
-		query.orderBy(post.regDate.desc());
-
 		// 검색 시 secret=false 조건 추가
 		if (keyword != null && !keyword.isEmpty()) {
 			booleanBuilder.and(post.secret.isFalse());
 		}
 
+		return booleanBuilder;
+	}
+
+	// BoardListDTO 조회 컬럼
+	private Expression<BoardListDTO> boardListProjection(QPost post, QUser user) {
+
+		return Projections.fields(BoardListDTO.class,
+			postColumns(post, user, post.replyAuth, post.completeQna, post.replyCount));
+	}
+
+	// 마이 페이지 : 회원이 작성한 게시물 검색 및 페이징
+	@Override
+	public Page<UserPostsActivityDTO> postListWithUser(String[] types, String keyword, Pageable pageable,
+		String userId) {
+
+		// userId에 해당하는 post 찾는 쿼리 설정
+		QUser user = QUser.user;
+		QPost post = QPost.post;
+		JPQLQuery<UserPostsActivityDTO> query = from(post)
+			.join(post.userId, user)
+			.select(userPostsProjection(post, user));
+		query.where(user.userId.eq(userId));
+
+		BooleanBuilder booleanBuilder = postListWithUserCondition(post, user, types, keyword, userId);
+
+		// 정렬 조건 추가 regDate 최신순
+		query.orderBy(post.regDate.desc());
 		// 조건 적용
 		query.where(booleanBuilder);
 
 		// 페이징 처리
 		this.getQuerydsl().applyPagination(pageable, query);
 
-		// SELECT절 설정, countDistinct() 중복을 제거한 카운트 반환
-		JPQLQuery<Tuple> tupleQuery = query.select(post, reply.countDistinct());
-		// 반환 결과 List<Tuple> 형태로 저장
-		List<Tuple> tupleList = tupleQuery.fetch();
-
-		// 각 Tuple을 BoardDTO로 변환
-		List<BoardListDTO> dtoList = tupleList.stream().map(tuple -> {
-
-			Post post1 = tuple.get(post);
-			Long replyCount = tuple.get(1, Long.class);
-
-			BoardListDTO boardListDTO = BoardListDTO.builder()
-				.postNo(post1.getPostNo())
-				.userId(post1.getUserId().getUserId())
-				.nickname(post1.getUserId().getNickname())
-				.exp(post1.getUserId().getExp())
-				.userVet(post1.getUserId().isUserVet())
-				.boardCode(post1.getBoardCode())
-				.postTitle(post1.getPostTitle())
-				.postContent(post1.getPostContent())
-				.regDate(post1.getRegDate())
-				.modDate(post1.getModDate())
-				.postTag(post1.getPostTag())
-				.secret(post1.isSecret())
-				.viewCount(post1.getViewCount())
-				.replyAuth(post1.isReplyAuth())
-				.completeQna(post1.isCompleteQna())
-				.replyCount(replyCount)
-				.build();
-
-			List<ImgBoard> imgBoards = post1.getImages().stream()
-				.map(image -> ImgBoard.builder()
-					.fileUuid(image.getFileUuid())
-					.thumbnailPath(image.getThumbnailPath())
-					.build()
-				).collect(Collectors.toList());
-
-			boardListDTO.setImgBoards(imgBoards);
-
-			return boardListDTO;
-		}).collect(Collectors.toList());
+		// 쿼리 실행 및 반환
+		List<UserPostsActivityDTO> dtoList = query.fetch();
 
 		//전체 갯수
 		Long count = query.fetchCount();
@@ -334,17 +435,45 @@ public class BoardSearchImpl extends QuerydslRepositorySupport implements BoardS
 		return new PageImpl<>(dtoList, pageable, count);
 	}
 
-	// 마이 페이지 : 회원이 작성한 게시물 검색 및 페이징
+	// 마이 페이지 : 회원이 작성한 게시물 커서(seek) 페이징, (regDate, postNo) 기준
 	@Override
-	public Page<UserPostsActivityDTO> postListWithUser(String[] types, String keyword, Pageable pageable,
-		String userId) {
+	public Slice<UserPostsActivityDTO> postListWithUserByCursor(String[] types, String keyword, int size,
+		String userId, String cursor) {
 
-		// userId에 해당하는 post 찾는 쿼리 설정
 		QUser user = QUser.user;
 		QPost post = QPost.post;
-		JPQLQuery<Post> query = from(post);
-		query.join(post.userId, user);
-		query.where(user.userId.eq(userId));
+		JPQLQuery<UserPostsActivityDTO> query = from(post)
+			.join(post.userId, user)
+			.select(userPostsProjection(post, user));
+
+		BooleanBuilder booleanBuilder = postListWithUserCondition(post, user, types, keyword, userId);
+
+		KeysetCursor keysetCursor = KeysetCursor.decode(cursor, KeysetCursor.Type.INSTANT);
+
+		if (keysetCursor != null) {
+			Instant regDate = keysetCursor.instantValue();
+			booleanBuilder.and(post.regDate.lt(regDate)
+				.or(post.regDate.eq(regDate).and(post.postNo.lt(keysetCursor.getId()))));
+		}
+
+		query.orderBy(post.regDate.desc(), post.postNo.desc());
+		query.where(booleanBuilder);
+
+		// 다음 페이지 존재 여부 확인을 위해 size + 1 조회
+		query.limit(size + 1);
+
+		List<UserPostsActivityDTO> list = query.fetch();
+
+		boolean hasNext = list.size() > size;
+
+		List<UserPostsActivityDTO> dtoList = hasNext ? new ArrayList<>(list.subList(0, size)) : list;
+
+		return new SliceImpl<>(dtoList, PageRequest.of(0, size), hasNext);
+	}
+
+	// postListWithUser 검색, 사용자 조건
+	private BooleanBuilder postListWithUserCondition(QPost post, QUser user, String[] types, String keyword,
+		String userId) {
 
 		BooleanBuilder booleanBuilder = new BooleanBuilder();
 		// 검색 조건
@@ -368,56 +497,14 @@ public class BoardSearchImpl extends QuerydslRepositorySupport implements BoardS
 			//userId가 없을때는 기본 정렬 기준으로 처리 됨
 		}
 
-		// 정렬 조건 추가 regDate 최신순
-		query.orderBy(post.regDate.desc());
-		// 조건 적용
-		query.where(booleanBuilder);
-
-		// 페이징 처리
-		this.getQuerydsl().applyPagination(pageable, query);
-
-		// 쿼리 실행 및 반환
-		List<Post> list = query.fetch();
-
-		// UserPostsActivityDTO List 생성
-		List<UserPostsActivityDTO> dtoList = new ArrayList<>();
-
-		for (Post post1 : list) {
-
-			UserPostsActivityDTO userPostsActivityDTO = UserPostsActivityDTO.builder()
-				.postNo(post1.getPostNo())
-				.userId(post1.getUserId().getUserId())
-				.nickname(post1.getUserId().getNickname())
-				.exp(post1.getUserId().getExp())
-				.userVet(post1.getUserId().isUserVet())
-				.boardCode(post1.getBoardCode())
-				.postTitle(post1.getPostTitle())
-				.postContent(post1.getPostContent())
-				.regDate(post1.getRegDate())
-				.modDate(post1.getModDate())
-				.postTag(post1.getPostTag())
-				.secret(post1.isSecret())
-				.viewCount(post1.getViewCount())
-				.replyAuth(post1.isReplyAuth())
-				.completeQna(post1.isCompleteQna())
-				.build();
-
-			List<ImgBoard> imgBoards = post1.getImages().stream()
-				.map(image -> ImgBoard.builder()
-					.fileUuid(image.getFileUuid())
-					.build()
-				).collect(Collectors.toList());
-
-			userPostsActivityDTO.setImgBoards(imgBoards);
-
-			// 생성한 userPostsActivityDTO를 dtoList에 추가
-			dtoList.add(userPostsActivityDTO);
-		}
+		return booleanBuilder;
+	}
 
-		//전체 갯수
-		Long count = query.fetchCount();
+	// UserPostsActivityDTO 조회 컬럼, 댓글 수는 postReplyCount로 매핑
+	private Expression<UserPostsActivityDTO> userPostsProjection(QPost post, QUser user) {
 
-		return new PageImpl<>(dtoList, pageable, count);
+		return Projections.fields(UserPostsActivityDTO.class,
+			postColumns(post, user, post.replyAuth, post.completeQna, post.replyCount.as("postReplyCount")));
 	}
 
 	// 홈 : 실시간 인기 게시글 리스트
@@ -425,242 +512,152 @@ public class BoardSearchImpl extends QuerydslRepositorySupport implements BoardS
 	public List<HomeTodayListDTO> todayList(Instant startOfDay, Instant endOfDay, int size) {
 
 		QPost post = QPost.post;
-		JPQLQuery<Post> query = from(post);
+		QUser user = QUser.user;
+		JPQLQuery<HomeTodayListDTO> query = from(post)
+			.join(post.userId, user)
+			.select(Projections.fields(HomeTodayListDTO.class, postColumns(post, user)));
 		query.where(post.regDate.between(startOfDay, endOfDay).and(post.secret.isFalse()));
 		query.orderBy(post.viewCount.desc());
 		query.limit(size);
 
 		// 쿼리 실행 및 반환
-		List<Post> list = query.fetch();
-
-		// HomeTodayListDTO List 생성
-		List<HomeTodayListDTO> dtoList = new ArrayList<>();
-
-		for (Post post1 : list) {
-
-			HomeTodayListDTO homeTodayListDTO = HomeTodayListDTO.builder()
-				.postNo(post1.getPostNo())
-				.userId(post1.getUserId().getUserId())
-				.nickname(post1.getUserId().getNickname())
-				.exp(post1.getUserId().getExp())
-				.userVet(post1.getUserId().isUserVet())
-				.boardCode(post1.getBoardCode())
-				.postTitle(post1.getPostTitle())
-				.postContent(post1.getPostContent())
-				.regDate(post1.getRegDate())
-				.modDate(post1.getModDate())
-				.postTag(post1.getPostTag())
-				.secret(post1.isSecret())
-				.viewCount(post1.getViewCount())
-				.build();
-
-			List<ImgBoard> imgBoards = post1.getImages().stream()
-				.map(image -> ImgBoard.builder()
-					.fileUuid(image.getFileUuid())
-					.build()
-				).collect(Collectors.toList());
-
-			homeTodayListDTO.setImgBoards(imgBoards);
-
-			// 생성한 homeTodayListDTO를 dtoList에 추가
-			dtoList.add(homeTodayListDTO);
-		}
+		List<HomeTodayListDTO> dtoList = query.fetch();
 
 		return dtoList;
 	}
 
-	// 홈 : 게시판별 리스트 showOff, 첨부파일 유/무 + 비밀글 제외
+	// 홈 : 실시간 인기 게시글 리스트, 랭킹 순서 유지 + 비밀글 제외
 	@Override
-	public List<HomeShowOffListDTO> showOffList(int size) {
-		QPost post = QPost.post;
-		JPQLQuery<Post> query = from(post);
-		query.where(post.secret.isFalse().and(post.boardCode.eq("showOff")));
-		query.orderBy(post.regDate.desc());
-		query.limit(size);
+	public List<HomeTodayListDTO> todayListByPostNos(List<Long> rankedPostNos, int size) {
 
-		// 쿼리 실행 및 반환
-		List<Post> list = query.fetch();
-
-		// HomeSowOffListDTO List 생성
-		List<HomeShowOffListDTO> dtoList = new ArrayList<>();
-
-		for (Post post1 : list) {
-
-			HomeShowOffListDTO homeShowOffListDTO = HomeShowOffListDTO.builder()
-				.postNo(post1.getPostNo())
-				.userId(post1.getUserId().getUserId())
-				.nickname(post1.getUserId().getNickname())
-				.exp(post1.getUserId().getExp())
-				.userVet(post1.getUserId().isUserVet())
-				.boardCode(post1.getBoardCode())
-				.postTitle(post1.getPostTitle())
-				.postContent(post1.getPostContent())
-				.regDate(post1.getRegDate())
-				.modDate(post1.getModDate())
-				.postTag(post1.getPostTag())
-				.secret(post1.isSecret())
-				.viewCount(post1.getViewCount())
-				.build();
-
-			List<ImgBoard> imgBoards = post1.getImages().stream()
-				.map(image -> ImgBoard.builder()
-					.fileUuid(image.getFileUuid())
-					.thumbnailPath(image.getThumbnailPath())
-					.build()
-				).collect(Collectors.toList());
-
-			homeShowOffListDTO.setImgBoards(imgBoards);
-
-			// 생성한 homeShowOffListDTO를 dtoList에 추가
-			dtoList.add(homeShowOffListDTO);
+		if (rankedPostNos.isEmpty()) {
+			return new ArrayList<>();
 		}
 
-		return dtoList;
+		QPost post = QPost.post;
+		QUser user = QUser.user;
+
+		List<HomeTodayListDTO> list = from(post)
+			.join(post.userId, user)
+			.select(Projections.fields(HomeTodayListDTO.class, postColumns(post, user)))
+			.where(post.postNo.in(rankedPostNos).and(post.secret.isFalse()))
+			.fetch();
+
+		List<HomeTodayListDTO> ranked = orderByRank(list, rankedPostNos, HomeTodayListDTO::getPostNo);
+
+		return new ArrayList<>(ranked.subList(0, Math.min(size, ranked.size())));
+	}
+
+	// 홈 : 게시판별 리스트 showOff, 첨부파일 유/무 + 비밀글 제외
+	@Override
+	public List<HomeShowOffListDTO> showOffList(int size) {
+
+		return homeBoardList(HomeShowOffListDTO.class, "showOff", size);
 	}
 
 	// 홈 : 게시판별 리스트 general, 첨부파일 유/무 + 비밀글 제외
 	@Override
 	public List<HomeGeneralListDTO> generalList(int size) {
-		QPost post = QPost.post;
-		JPQLQuery<Post> query = from(post);
-		query.where(post.secret.isFalse().and(post.boardCode.eq("general")));
-		query.orderBy(post.regDate.desc());
-		query.limit(size);
 
-		// 쿼리 실행 및 반환
-		List<Post> list = query.fetch();
-
-		// HomeGeneralListDTO List 생성
-		List<HomeGeneralListDTO> dtoList = new ArrayList<>();
-
-		for (Post post1 : list) {
-
-			HomeGeneralListDTO homeGeneralListDTO = HomeGeneralListDTO.builder()
-				.postNo(post1.getPostNo())
-				.userId(post1.getUserId().getUserId())
-				.nickname(post1.getUserId().getNickname())
-				.exp(post1.getUserId().getExp())
-				.userVet(post1.getUserId().isUserVet())
-				.boardCode(post1.getBoardCode())
-				.postTitle(post1.getPostTitle())
-				.postContent(post1.getPostContent())
-				.regDate(post1.getRegDate())
-				.modDate(post1.getModDate())
-				.postTag(post1.getPostTag())
-				.secret(post1.isSecret())
-				.viewCount(post1.getViewCount())
-				.build();
-
-			List<ImgBoard> imgBoards = post1.getImages().stream()
-				.map(image -> ImgBoard.builder()
-					.fileUuid(image.getFileUuid())
-					.build()
-				).collect(Collectors.toList());
-
-			homeGeneralListDTO.setImgBoards(imgBoards);
-
-			// 생성한 homeGeneralListDTO를 dtoList에 추가
-			dtoList.add(homeGeneralListDTO);
-		}
-
-		return dtoList;
+		return homeBoardList(HomeGeneralListDTO.class, "general", size);
 	}
 
 	// 홈 : 게시판별 리스트 tip, 첨부파일 유/무 + 비밀글 제외
 	@Override
 	public List<HomeTipListDTO> tipList(int size) {
-		QPost post = QPost.post;
-		JPQLQuery<Post> query = from(post);
-		query.where(post.secret.isFalse().and(post.boardCode.eq("tip")));
-		query.orderBy(post.regDate.desc());
-		query.limit(size);
-
-		// 쿼리 실행 및 반환
-		List<Post> list = query.fetch();
-
-		// HomeTipListDTO List 생성
-		List<HomeTipListDTO> dtoList = new ArrayList<>();
-
-		for (Post post1 : list) {
-
-			HomeTipListDTO homeTipListDTO = HomeTipListDTO.builder()
-				.postNo(post1.getPostNo())
-				.userId(post1.getUserId().getUserId())
-				.nickname(post1.getUserId().getNickname())
-				.exp(post1.getUserId().getExp())
-				.userVet(post1.getUserId().isUserVet())
-				.boardCode(post1.getBoardCode())
-				.postTitle(post1.getPostTitle())
-				.postContent(post1.getPostContent())
-				.regDate(post1.getRegDate())
-				.modDate(post1.getModDate())
-				.postTag(post1.getPostTag())
-				.secret(post1.isSecret())
-				.viewCount(post1.getViewCount())
-				.build();
-
-			List<ImgBoard> imgBoards = post1.getImages().stream()
-				.map(image -> ImgBoard.builder()
-					.fileUuid(image.getFileUuid())
-					.build()
-				).collect(Collectors.toList());
-
-			homeTipListDTO.setImgBoards(imgBoards);
-
-			// 생성한 homeTipListDTO를 dtoList에 추가
-			dtoList.add(homeTipListDTO);
-		}
 
-		return dtoList;
+		return homeBoardList(HomeTipListDTO.class, "tip", size);
 	}
 
 	// 홈 : 게시판별 리스트 qna, 첨부파일 유/무 + 비밀글 제외
 	@Override
 	public List<HomeQnaListDTO> qnaList(int size) {
+
+		return homeBoardList(HomeQnaListDTO.class, "qna", size);
+	}
+
+	// 홈 게시판별 최신글 조회, qna는 답변 여부 컬럼 추가
+	private <T> List<T> homeBoardList(Class<T> dtoClass, String boardCode, int size) {
+
 		QPost post = QPost.post;
-		JPQLQuery<Post> query = from(post);
-		query.where(post.secret.isFalse().and(post.boardCode.eq("qna")));
+		QUser user = QUser.user;
+
+		Expression<?>[] columns = "qna".equals(boardCode)
+			? postColumns(post, user, post.replyAuth, post.completeQna)
+			: postColumns(post, user);
+
+		JPQLQuery<T> query = from(post)
+			.join(post.userId, user)
+			.select(Projections.fields(dtoClass, columns));
+		query.where(post.secret.isFalse().and(post.boardCode.eq(boardCode)));
 		query.orderBy(post.regDate.desc());
 		query.limit(size);
 
-		// 쿼리 실행 및 반환
-		List<Post> list = query.fetch();
-
-		// HomeQnaListDTO List 생성
-		List<HomeQnaListDTO> dtoList = new ArrayList<>();
-
-		for (Post post1 : list) {
-
-			HomeQnaListDTO homeQnaListDTO = HomeQnaListDTO.builder()
-				.postNo(post1.getPostNo())
-				.userId(post1.getUserId().getUserId())
-				.nickname(post1.getUserId().getNickname())
-				.exp(post1.getUserId().getExp())
-				.userVet(post1.getUserId().isUserVet())
-				.boardCode(post1.getBoardCode())
-				.postTitle(post1.getPostTitle())
-				.postContent(post1.getPostContent())
-				.regDate(post1.getRegDate())
-				.modDate(post1.getModDate())
-				.postTag(post1.getPostTag())
-				.secret(post1.isSecret())
-				.viewCount(post1.getViewCount())
-				.replyAuth(post1.isReplyAuth())
-				.completeQna(post1.isCompleteQna())
-				.build();
-
-			List<ImgBoard> imgBoards = post1.getImages().stream()
-				.map(image -> ImgBoard.builder()
-					.fileUuid(image.getFileUuid())
-					.build()
-				).collect(Collectors.toList());
-
-			homeQnaListDTO.setImgBoards(imgBoards);
-
-			// 생성한 homeQnaListDTO를 dtoList에 추가
-			dtoList.add(homeQnaListDTO);
-		}
+		return query.fetch();
+	}
 
-		return dtoList;
+	// 목록 DTO 공통 컬럼, 작성자 정보는 user 조인에서 조회
+	// 본문(TEXT)과 첨부파일 대신 미리 계산해둔 excerpt, cover_thumbnail 만 조회
+	private Expression<?>[] postColumns(QPost post, QUser user, Expression<?>... extra) {
+
+		List<Expression<?>> columns = new ArrayList<>(Arrays.asList(
+			post.postNo,
+			user.userId,
+			user.nickname,
+			user.exp,
+			user.userVet,
+			post.boardCode,
+			post.postTitle,
+			post.excerpt.as("postContent"),
+			post.coverThumbnail,
+			post.regDate,
+			post.modDate,
+			post.postTag,
+			post.secret,
+			post.viewCount));
+
+		columns.addAll(Arrays.asList(extra));
+
+		return columns.toArray(new Expression<?>[0]);
+	}
+
+	// 검색 색인 : postNo 구간의 게시글 색인 정보
+	@Override
+	public List<PostIndexSourceDTO> findIndexSources(Long fromPostNo, Long toPostNo) {
+
+		QPost post = QPost.post;
+
+		return indexSourceQuery(post)
+			.where(post.postNo.between(fromPostNo, toPostNo))
+			.fetch();
+	}
+
+	// 검색 색인 : since 이후 등록/수정된 게시글 색인 정보
+	@Override
+	public List<PostIndexSourceDTO> findIndexSourcesModifiedSince(Instant since) {
+
+		QPost post = QPost.post;
+
+		return indexSourceQuery(post)
+			.where(post.regDate.goe(since).or(post.modDate.goe(since)))
+			.fetch();
+	}
+
+	private JPQLQuery<PostIndexSourceDTO> indexSourceQuery(QPost post) {
+
+		QUser user = QUser.user;
+
+		return from(post)
+			.join(post.userId, user)
+			.select(Projections.fields(PostIndexSourceDTO.class,
+				post.postNo,
+				user.userId,
+				user.nickname,
+				post.boardCode,
+				post.postTag,
+				post.secret,
+				post.regDate,
+				post.postTitle,
+				post.postContent));
 	}
-}
\ No newline at end of file
+}
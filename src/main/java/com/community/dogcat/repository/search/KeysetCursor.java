@@ -0,0 +1,86 @@
+package com.community.dogcat.repository.search;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+// 커서(seek) 페이징용 커서 : "정렬값_식별번호" 형태의 문자열
+// 정렬값은 regDate(ISO-8601) 또는 viewCount/replyCount 숫자
+@Slf4j
+@Getter
+public class KeysetCursor {
+
+	private static final char DELIMITER = '_';
+
+	// 정렬값 종류, decode 에서 이 형식으로 파싱되지 않으면 잘못된 커서
+	public enum Type {
+		INSTANT,
+		LONG
+	}
+
+	private final String value;
+
+	private final Long id;
+
+	// decode 에서 파싱한 정렬값 (Instant 또는 Long)
+	private final Object sortValue;
+
+	private KeysetCursor(String value, Long id, Object sortValue) {
+		this.value = value;
+		this.id = id;
+		this.sortValue = sortValue;
+	}
+
+	public static KeysetCursor of(Object value, Long id) {
+
+		if (value instanceof Date) {
+			value = ((Date)value).toInstant();
+		}
+		return new KeysetCursor(String.valueOf(value), id, value);
+	}
+
+	// 잘못된 커서(구분자 없음, 정렬값/식별번호 형식 오류)는 첫 페이지로 처리
+	public static KeysetCursor decode(String cursor, Type type) {
+
+		if (cursor == null || cursor.isEmpty()) {
+			return null;
+		}
+
+		int index = cursor.lastIndexOf(DELIMITER);
+
+		if (index <= 0 || index == cursor.length() - 1) {
+			log.warn("Invalid keyset cursor: {}", cursor);
+			return null;
+		}
+
+		String value = cursor.substring(0, index);
+
+		try {
+			Object sortValue = type == Type.LONG ? (Object)Long.parseLong(value) : Instant.parse(value);
+
+			return new KeysetCursor(value, Long.parseLong(cursor.substring(index + 1)), sortValue);
+		} catch (NumberFormatException | DateTimeParseException e) {
+			log.warn("Invalid keyset cursor: {}", cursor);
+			return null;
+		}
+	}
+
+	public String encode() {
+		return value + DELIMITER + id;
+	}
+
+	public Long longValue() {
+		return (Long)sortValue;
+	}
+
+	public Instant instantValue() {
+		return (Instant)sortValue;
+	}
+
+	public Date dateValue() {
+		return Date.from(instantValue());
+	}
+}
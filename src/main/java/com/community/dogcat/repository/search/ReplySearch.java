@@ -2,6 +2,7 @@ package com.community.dogcat.repository.search;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import com.community.dogcat.dto.myPage.activity.UserRepliesActivityDTO;
 
@@ -9,4 +10,7 @@ public interface ReplySearch {
 
 	// 마이 페이지 : 회원이 작성한 댓글 찾기
 	Page<UserRepliesActivityDTO> repliesListWithUser(String[] types, String keyword, Pageable pageable, String userId);
+
+	// 마이 페이지 : 회원이 작성한 댓글 커서(seek) 페이징
+	Slice<UserRepliesActivityDTO> repliesListWithUserByCursor(String keyword, int size, String userId, String cursor);
 }
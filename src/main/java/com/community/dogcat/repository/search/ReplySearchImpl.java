@@ -1,18 +1,25 @@
 package com.community.dogcat.repository.search;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
+import com.community.dogcat.domain.QPost;
 import com.community.dogcat.domain.QReply;
 import com.community.dogcat.domain.QUser;
 import com.community.dogcat.domain.Reply;
 import com.community.dogcat.dto.myPage.activity.UserRepliesActivityDTO;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.JPQLQuery;
 
 public class ReplySearchImpl extends QuerydslRepositorySupport implements ReplySearch {
@@ -29,8 +36,11 @@ public class ReplySearchImpl extends QuerydslRepositorySupport implements ReplyS
 		// userId에 해당하는 reply 찾는 쿼리 설정
 		QUser user = QUser.user;
 		QReply reply = QReply.reply;
-		JPQLQuery<Reply> query = from(reply);
-		query.join(reply.userId, user);
+		QPost post = QPost.post;
+		JPQLQuery<UserRepliesActivityDTO> query = from(reply)
+			.join(reply.userId, user)
+			.join(reply.postNo, post)
+			.select(userRepliesProjection(reply, user, post));
 		query.where(user.userId.eq(userId));
 
 		BooleanBuilder booleanBuilder = new BooleanBuilder();
@@ -55,31 +65,72 @@ public class ReplySearchImpl extends QuerydslRepositorySupport implements ReplyS
 		this.getQuerydsl().applyPagination(pageable, query);
 
 		// 쿼리 실행 및 반환
-		List<Reply> list = query.fetch();
+		List<UserRepliesActivityDTO> dtoList = query.fetch();
 
-		// UserRepliesActivityDTO List 생성
-		List<UserRepliesActivityDTO> dtoList = new ArrayList<>();
+		//전체 갯수
+		Long count = query.fetchCount();
+
+		return new PageImpl<>(dtoList, pageable, count);
+	}
 
-		for (Reply reply1 : list) {
+	// 마이 페이지 : 회원이 작성한 댓글 커서(seek) 페이징, (regDate, replyNo) 기준
+	@Override
+	public Slice<UserRepliesActivityDTO> repliesListWithUserByCursor(String keyword, int size, String userId,
+		String cursor) {
 
-			UserRepliesActivityDTO userRepliesActivityDTO = UserRepliesActivityDTO.builder()
-				.replyNo(reply1.getReplyNo())
-				.userId(reply1.getUserId().getUserId())
-				.nickname(reply1.getUserId().getNickname())
-				.postNo(reply1.getPostNo().getPostNo())
-				.boardCode(reply1.getPostNo().getBoardCode())
-				.replyContent(reply1.getReplyContent())
-				.regDate(reply1.getRegDate())
-				.build();
+		QUser user = QUser.user;
+		QReply reply = QReply.reply;
+		QPost post = QPost.post;
+		JPQLQuery<UserRepliesActivityDTO> query = from(reply)
+			.join(reply.userId, user)
+			.join(reply.postNo, post)
+			.select(userRepliesProjection(reply, user, post));
 
-			// 생성한 userRepliesActivityDTO를 dtoList에 추가
-			dtoList.add(userRepliesActivityDTO);
+		BooleanBuilder booleanBuilder = new BooleanBuilder();
+		// 검색 조건
+		if (keyword != null) {
+			booleanBuilder.and(reply.replyContent.contains(keyword));
 		}
 
-		//전체 갯수
-		Long count = query.fetchCount();
+		// 사용자 ID 필터
+		if (userId != null) {
+			booleanBuilder.and(user.userId.eq(userId));
+		}
 
-		return new PageImpl<>(dtoList, pageable, count);
+		KeysetCursor keysetCursor = KeysetCursor.decode(cursor, KeysetCursor.Type.INSTANT);
+
+		if (keysetCursor != null) {
+			Date regDate = keysetCursor.dateValue();
+			booleanBuilder.and(reply.regDate.lt(regDate)
+				.or(reply.regDate.eq(regDate).and(reply.replyNo.lt(keysetCursor.getId()))));
+		}
+
+		query.where(booleanBuilder);
+		query.orderBy(reply.regDate.desc(), reply.replyNo.desc());
+
+		// 다음 페이지 존재 여부 확인을 위해 size + 1 조회
+		query.limit(size + 1);
+
+		List<UserRepliesActivityDTO> list = query.fetch();
+
+		boolean hasNext = list.size() > size;
+
+		List<UserRepliesActivityDTO> dtoList = hasNext ? new ArrayList<>(list.subList(0, size)) : list;
+
+		return new SliceImpl<>(dtoList, PageRequest.of(0, size), hasNext);
+	}
+
+	// UserRepliesActivityDTO 조회 컬럼
+	private Expression<UserRepliesActivityDTO> userRepliesProjection(QReply reply, QUser user, QPost post) {
+
+		return Projections.fields(UserRepliesActivityDTO.class,
+			reply.replyNo,
+			user.userId,
+			user.nickname,
+			post.postNo,
+			post.boardCode,
+			reply.replyContent,
+			reply.regDate);
 	}
 
-}
\ No newline at end of file
+}
@@ -2,6 +2,7 @@ package com.community.dogcat.repository.search;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import com.community.dogcat.dto.myPage.activity.UserScrapsActivityDTO;
 
@@ -9,4 +10,8 @@ public interface ScrapSearch {
 
 	// 마이 페이지 : 회원이 보관한 게시글 찾기
 	Page<UserScrapsActivityDTO> scrapsListWithUser(String[] types, String keyword, Pageable pageable, String userId);
+
+	// 마이 페이지 : 회원이 보관한 게시글 커서(seek) 페이징
+	Slice<UserScrapsActivityDTO> scrapsListWithUserByCursor(String[] types, String keyword, int size, String userId,
+		String cursor);
 }
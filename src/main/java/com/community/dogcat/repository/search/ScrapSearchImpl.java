@@ -2,20 +2,23 @@ package com.community.dogcat.repository.search;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
-import com.community.dogcat.domain.ImgBoard;
 import com.community.dogcat.domain.QPost;
 import com.community.dogcat.domain.QScrap;
 import com.community.dogcat.domain.QUser;
 import com.community.dogcat.domain.Scrap;
 import com.community.dogcat.dto.myPage.activity.UserScrapsActivityDTO;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.JPQLQuery;
 
 public class ScrapSearchImpl extends QuerydslRepositorySupport implements ScrapSearch {
@@ -29,15 +32,79 @@ public class ScrapSearchImpl extends QuerydslRepositorySupport implements ScrapS
 	public Page<UserScrapsActivityDTO> scrapsListWithUser(String[] types, String keyword, Pageable pageable,
 		String userId) {
 
-		// userId에 해당하는 scrap과 scrap한 post 찾는 쿼리 설정
+		// userId에 해당하는 scrap과 scrap한 post 찾는 쿼리 설정, 게시글 작성자는 writer로 조인
 		QUser user = QUser.user;
+		QUser writer = new QUser("writer");
 		QScrap scrap = QScrap.scrap;
 		QPost post = QPost.post;
-		JPQLQuery<Scrap> query = from(scrap);
-		query.join(scrap.userId, user);
-		query.join(scrap.postNo, post);
+		JPQLQuery<UserScrapsActivityDTO> query = from(scrap)
+			.join(scrap.userId, user)
+			.join(scrap.postNo, post)
+			.join(post.userId, writer)
+			.select(userScrapsProjection(scrap, post, writer));
 		query.where(user.userId.eq(userId));
 
+		BooleanBuilder booleanBuilder = scrapsListWithUserCondition(post, user, types, keyword, userId);
+
+		// 조건 적용
+		query.where(booleanBuilder);
+		// 정렬 조건 추가 post regDate 최신순
+		query.orderBy(scrap.scrapNo.desc());
+
+		// 페이징 처리
+		this.getQuerydsl().applyPagination(pageable, query);
+
+		// 쿼리 실행 및 반환
+		List<UserScrapsActivityDTO> dtoList = query.fetch();
+
+		//전체 갯수
+		Long count = query.fetchCount();
+
+		return new PageImpl<>(dtoList, pageable, count);
+	}
+
+	// 마이 페이지 : 회원이 보관한 게시글 커서(seek) 페이징, scrapNo 기준
+	@Override
+	public Slice<UserScrapsActivityDTO> scrapsListWithUserByCursor(String[] types, String keyword, int size,
+		String userId, String cursor) {
+
+		QUser user = QUser.user;
+		QUser writer = new QUser("writer");
+		QScrap scrap = QScrap.scrap;
+		QPost post = QPost.post;
+		JPQLQuery<UserScrapsActivityDTO> query = from(scrap)
+			.join(scrap.userId, user)
+			.join(scrap.postNo, post)
+			.join(post.userId, writer)
+			.select(userScrapsProjection(scrap, post, writer));
+
+		BooleanBuilder booleanBuilder = scrapsListWithUserCondition(post, user, types, keyword, userId);
+
+		KeysetCursor keysetCursor = KeysetCursor.decode(cursor, KeysetCursor.Type.LONG);
+
+		if (keysetCursor != null) {
+			booleanBuilder.and(scrap.scrapNo.lt(keysetCursor.getId()));
+		}
+
+		query.where(booleanBuilder);
+		query.orderBy(scrap.scrapNo.desc());
+
+		// 다음 페이지 존재 여부 확인을 위해 size + 1 조회
+		query.limit(size + 1);
+
+		List<UserScrapsActivityDTO> list = query.fetch();
+
+		boolean hasNext = list.size() > size;
+
+		List<UserScrapsActivityDTO> dtoList = hasNext ? new ArrayList<>(list.subList(0, size)) : list;
+
+		return new SliceImpl<>(dtoList, PageRequest.of(0, size), hasNext);
+	}
+
+	// scrapsListWithUser 검색, 사용자 조건
+	private BooleanBuilder scrapsListWithUserCondition(QPost post, QUser user, String[] types, String keyword,
+		String userId) {
+
 		BooleanBuilder booleanBuilder = new BooleanBuilder();
 		// 검색 조건
 		if ((types != null && types.length > 0) && keyword != null) {
@@ -60,57 +127,31 @@ public class ScrapSearchImpl extends QuerydslRepositorySupport implements ScrapS
 			//userId가 없을때는 기본 정렬 기준으로 처리
 		}
 
-		// 조건 적용
-		query.where(booleanBuilder);
-		// 정렬 조건 추가 post regDate 최신순
-		query.orderBy(scrap.scrapNo.desc());
-
-		// 페이징 처리
-		this.getQuerydsl().applyPagination(pageable, query);
-
-		// 쿼리 실행 및 반환
-		List<Scrap> list = query.fetch();
-
-		// UserScrapsActivityDTO List 생성
-		List<UserScrapsActivityDTO> dtoList = new ArrayList<>();
-
-		for (Scrap scrap1 : list) {
-
-			UserScrapsActivityDTO userScrapsActivityDTO = UserScrapsActivityDTO.builder()
-				.scrapNo(scrap1. getScrapNo())
-				.postNo(scrap1.getPostNo().getPostNo())
-				.userId(scrap1.getPostNo().getUserId().getUserId())
-				.nickname(scrap1.getPostNo().getUserId().getNickname())
-				.exp(scrap1.getPostNo().getUserId().getExp())
-				.userVet(scrap1.getPostNo().getUserId().isUserVet())
-				.boardCode(scrap1.getPostNo().getBoardCode())
-				.postTitle(scrap1.getPostNo().getPostTitle())
-				.postContent(scrap1.getPostNo().getPostContent())
-				.regDate(scrap1.getPostNo().getRegDate())
-				.modDate(scrap1.getPostNo().getModDate())
-				.postTag(scrap1.getPostNo().getPostTag())
-				.secret(scrap1.getPostNo().isSecret())
-				.viewCount(scrap1.getPostNo().getViewCount())
-				.replyAuth(scrap1.getPostNo().isReplyAuth())
-				.completeQna(scrap1.getPostNo().isCompleteQna())
-				.build();
-
-			List<ImgBoard> imgBoards = scrap1.getPostNo().getImages().stream()
-				.map(image -> ImgBoard.builder()
-					.fileUuid(image.getFileUuid())
-					.build()
-				).collect(Collectors.toList());
-
-			userScrapsActivityDTO.setImgBoards(imgBoards);
-
-			// 생성한 userScrapsActivityDTO를 dtoList에 추가
-			dtoList.add(userScrapsActivityDTO);
-		}
-
-		//전체 갯수
-		Long count = query.fetchCount();
+		return booleanBuilder;
+	}
 
-		return new PageImpl<>(dtoList, pageable, count);
+	// UserScrapsActivityDTO 조회 컬럼, 작성자 정보는 게시글 작성자(writer) 기준
+	private Expression<UserScrapsActivityDTO> userScrapsProjection(QScrap scrap, QPost post, QUser writer) {
+
+		return Projections.fields(UserScrapsActivityDTO.class,
+			scrap.scrapNo,
+			post.postNo,
+			writer.userId,
+			writer.nickname,
+			writer.exp,
+			writer.userVet,
+			post.boardCode,
+			post.postTitle,
+			post.excerpt.as("postContent"),
+			post.coverThumbnail,
+			post.regDate,
+			post.modDate,
+			post.postTag,
+			post.secret,
+			post.viewCount,
+			post.replyAuth,
+			post.completeQna,
+			post.replyCount.as("postReplyCount"));
 	}
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,46 @@
+package com.community.dogcat.repository.upload;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.community.dogcat.domain.StorageOutbox;
+
+public interface StorageOutboxRepository extends JpaRepository<StorageOutbox, Long> {
+
+	// 처리할 시각이 된 작업, 오래된 순
+	@Query("SELECT O FROM StorageOutbox O WHERE O.dead = false AND O.nextAttemptAt <= :now ORDER BY O.id")
+	List<StorageOutbox> findDue(@Param("now") Instant now, Pageable pageable);
+
+	// 처리 전 행 선점, 다음 시도 시각을 claimedUntil 로 미뤄서 다른 서버의 findDue/claim 에서 제외
+	// 1 이면 선점 성공, 0 이면 다른 서버가 먼저 가져간 행 (처리 중 종료되면 claimedUntil 이후 다시 처리)
+	@Transactional
+	@Modifying
+	@Query("UPDATE StorageOutbox O SET O.nextAttemptAt = :claimedUntil "
+		+ "WHERE O.id = :id AND O.dead = false AND O.nextAttemptAt <= :now")
+	int claim(@Param("id") Long id, @Param("now") Instant now, @Param("claimedUntil") Instant claimedUntil);
+
+	// 선점한 행만 삭제 (선점이 만료되어 다른 서버가 가져간 경우 0)
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM StorageOutbox O WHERE O.id = :id AND O.nextAttemptAt = :claimedUntil")
+	int deleteClaimed(@Param("id") Long id, @Param("claimedUntil") Instant claimedUntil);
+
+	// 선점한 행에 실패 결과 기록 (save 로 병합하지 않으므로 삭제된 행을 다시 만들지 않음)
+	@Transactional
+	@Modifying
+	@Query("UPDATE StorageOutbox O SET O.objectKeys = :objectKeys, O.attempts = :attempts, O.lastError = :lastError, "
+		+ "O.nextAttemptAt = :nextAttemptAt, O.dead = :dead WHERE O.id = :id AND O.nextAttemptAt = :claimedUntil")
+	int retryClaimed(@Param("id") Long id, @Param("objectKeys") String objectKeys, @Param("attempts") int attempts,
+		@Param("lastError") String lastError, @Param("nextAttemptAt") Instant nextAttemptAt, @Param("dead") boolean dead,
+		@Param("claimedUntil") Instant claimedUntil);
+
+	long countByDead(boolean dead);
+
+}
@@ -1,10 +1,14 @@
 package com.community.dogcat.repository.upload;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.hibernate.annotations.SQLDelete;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.web.bind.annotation.DeleteMapping;
 
 import com.community.dogcat.domain.ImgBoard;
@@ -15,6 +19,21 @@ public interface UploadRepository extends JpaRepository<ImgBoard, String> {
 	@Query("SELECT I FROM ImgBoard I WHERE I.postNo.postNo = :postNo")
 	List<ImgBoard> findByPostNo(Long postNo);
 
+	Optional<ImgBoard> findFirstByUploadPath(String uploadPath);
+
 	void deleteByUploadPath(String uploadPath);
 
+	// 게시글 삭제시 첨부 이미지 기록 일괄 삭제
+	@Modifying
+	@Query("DELETE FROM ImgBoard I WHERE I.postNo.postNo = :postNo")
+	int bulkDeleteByPostNo(@Param("postNo") Long postNo);
+
+	// fileUuid 순서대로 after 다음부터 한 페이지씩 (S3 정리 작업에서 전체 목록을 나눠서 조회)
+	@Query("SELECT I.fileUuid FROM ImgBoard I WHERE I.fileUuid > :after ORDER BY I.fileUuid")
+	List<String> findFileUuidsAfter(@Param("after") String after, Pageable pageable);
+
+	// 이미지 삭제 후 대표 썸네일을 다시 계산할 게시글 번호
+	@Query("SELECT DISTINCT I.postNo.postNo FROM ImgBoard I WHERE I.uploadPath IN :uploadPaths")
+	List<Long> findPostNosByUploadPaths(@Param("uploadPaths") List<String> uploadPaths);
+
 }
@@ -0,0 +1,128 @@
+package com.community.dogcat.repository.user;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.community.dogcat.domain.AccountDeletionJob;
+import com.community.dogcat.domain.ImgBoard;
+
+// 회원 탈퇴 작업과 단계별 일괄 삭제 쿼리
+// 삭제는 limit 건씩 (긴 락 방지), 호출한 쪽 트랜잭션에서 실행
+public interface AccountDeletionJobRepository extends JpaRepository<AccountDeletionJob, String> {
+
+	// 처리할 작업, 요청 순 (최대 시도 횟수를 넘긴 작업 제외)
+	@Query("SELECT J FROM AccountDeletionJob J WHERE J.completedAt IS NULL AND J.attempts < :maxAttempts "
+		+ "ORDER BY J.requestedAt")
+	List<AccountDeletionJob> findPending(@Param("maxAttempts") int maxAttempts, Pageable pageable);
+
+	long countByCompletedAtIsNull();
+
+	@Modifying
+	@Query("UPDATE AccountDeletionJob J SET J.processedRows = J.processedRows + :rows, J.updatedAt = :now "
+		+ "WHERE J.userId = :userId")
+	int addProgress(@Param("userId") String userId, @Param("rows") long rows, @Param("now") Instant now);
+
+	@Modifying
+	@Query("UPDATE AccountDeletionJob J SET J.step = :step, J.updatedAt = :now WHERE J.userId = :userId")
+	int moveTo(@Param("userId") String userId, @Param("step") AccountDeletionJob.Step step, @Param("now") Instant now);
+
+	@Modifying
+	@Query("UPDATE AccountDeletionJob J SET J.step = com.community.dogcat.domain.AccountDeletionJob.Step.DONE, "
+		+ "J.updatedAt = :now, J.completedAt = :now WHERE J.userId = :userId")
+	int complete(@Param("userId") String userId, @Param("now") Instant now);
+
+	// 실패 기록, 다음 시도는 첫 단계부터
+	@Modifying
+	@Query("UPDATE AccountDeletionJob J SET J.attempts = J.attempts + 1, J.lastError = :error, J.updatedAt = :now, "
+		+ "J.step = com.community.dogcat.domain.AccountDeletionJob.Step.LIKES WHERE J.userId = :userId")
+	int recordFailure(@Param("userId") String userId, @Param("error") String error, @Param("now") Instant now);
+
+	// LIKES: 회원이 누른 좋아요/싫어요
+	@Query("SELECT L.likeNo FROM PostLike L WHERE L.userId.userId = :userId ORDER BY L.likeNo")
+	List<Long> findLikeNos(@Param("userId") String userId, Pageable pageable);
+
+	// 게시글 좋아요/싫어요 수 감소, 게시글마다 읽고 저장하지 않고 한 문장으로 처리
+	// (회원당 게시글 하나에 좋아요 한 건이므로 게시글별로 한 번씩만 갱신됨)
+	@Modifying
+	@Query(value = "UPDATE post p JOIN postlike l ON l.post_no = p.post_no "
+		+ "SET p.like_count = GREATEST(COALESCE(p.like_count, 0) - (CASE WHEN l.like_state THEN 1 ELSE 0 END), 0), "
+		+ "p.dislike_count = GREATEST(COALESCE(p.dislike_count, 0) - (CASE WHEN l.dislike_state THEN 1 ELSE 0 END), 0) "
+		+ "WHERE l.like_no IN (:likeNos)", nativeQuery = true)
+	int subtractLikeCounts(@Param("likeNos") List<Long> likeNos);
+
+	@Modifying
+	@Query("DELETE FROM PostLike L WHERE L.likeNo IN :likeNos")
+	int deleteLikes(@Param("likeNos") List<Long> likeNos);
+
+	// REPORTS: 회원이 접수한 신고, 회원이 받은 신고, 회원의 글에 달린 댓글에 접수된 신고
+	@Query("SELECT R.reportNo FROM ReportLog R LEFT JOIN R.postNo P LEFT JOIN R.replyNo RP LEFT JOIN RP.postNo RPP "
+		+ "WHERE R.userId.userId = :userId OR R.reportedUserId = :userId OR P.userId.userId = :userId "
+		+ "OR RP.userId.userId = :userId OR RPP.userId.userId = :userId ORDER BY R.reportNo")
+	List<Long> findReportNos(@Param("userId") String userId, Pageable pageable);
+
+	@Modifying
+	@Query("DELETE FROM ReportLog R WHERE R.reportNo IN :reportNos")
+	int deleteReports(@Param("reportNos") List<Long> reportNos);
+
+	// SCRAPS: 회원의 스크랩, 회원의 글을 스크랩한 기록
+	@Modifying
+	@Query(value = "DELETE FROM scrap WHERE user_id = :userId "
+		+ "OR post_no IN (SELECT p.post_no FROM post p WHERE p.user_id = :userId) LIMIT :limit", nativeQuery = true)
+	int deleteScraps(@Param("userId") String userId, @Param("limit") int limit);
+
+	// 회원의 글에 다른 회원이 누른 좋아요 (글이 삭제되므로 좋아요 수 보정 없음)
+	@Modifying
+	@Query(value = "DELETE FROM postlike "
+		+ "WHERE post_no IN (SELECT p.post_no FROM post p WHERE p.user_id = :userId) LIMIT :limit", nativeQuery = true)
+	int deleteLikesOnPosts(@Param("userId") String userId, @Param("limit") int limit);
+
+	// REPLIES: 회원이 작성한 댓글
+	@Query("SELECT R.replyNo FROM Reply R WHERE R.userId.userId = :userId ORDER BY R.replyNo")
+	List<Long> findReplyNos(@Param("userId") String userId, Pageable pageable);
+
+	@Query("SELECT DISTINCT R.postNo.postNo FROM Reply R WHERE R.replyNo IN :replyNos")
+	List<Long> findPostNosByReplyNos(@Param("replyNos") List<Long> replyNos);
+
+	@Modifying
+	@Query("DELETE FROM Reply R WHERE R.replyNo IN :replyNos")
+	int deleteReplies(@Param("replyNos") List<Long> replyNos);
+
+	// 회원의 글에 달린 댓글 (글이 삭제되므로 댓글 수 보정 없음)
+	@Modifying
+	@Query(value = "DELETE FROM reply "
+		+ "WHERE post_no IN (SELECT p.post_no FROM post p WHERE p.user_id = :userId) LIMIT :limit", nativeQuery = true)
+	int deleteRepliesOnPosts(@Param("userId") String userId, @Param("limit") int limit);
+
+	// IMAGES: 회원의 글에 첨부된 이미지
+	@Query("SELECT I FROM ImgBoard I WHERE I.postNo.userId.userId = :userId ORDER BY I.fileUuid")
+	List<ImgBoard> findImages(@Param("userId") String userId, Pageable pageable);
+
+	@Modifying
+	@Query("DELETE FROM ImgBoard I WHERE I.fileUuid IN :fileUuids")
+	int deleteImages(@Param("fileUuids") List<String> fileUuids);
+
+	// POSTS: 회원이 작성한 글
+	@Modifying
+	@Query(value = "DELETE FROM post WHERE user_id = :userId LIMIT :limit", nativeQuery = true)
+	int deletePosts(@Param("userId") String userId, @Param("limit") int limit);
+
+	// ACCOUNT
+	@Modifying
+	@Query("DELETE FROM UsersAuth A WHERE A.userId = :userId")
+	int deleteAuth(@Param("userId") String userId);
+
+	@Modifying
+	@Query("DELETE FROM ReportUserSummary S WHERE S.userId = :userId")
+	int deleteReportSummary(@Param("userId") String userId);
+
+	@Modifying
+	@Query("DELETE FROM User U WHERE U.userId = :userId")
+	int deleteUser(@Param("userId") String userId);
+
+}
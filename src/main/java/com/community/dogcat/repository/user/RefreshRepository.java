@@ -1,18 +1,43 @@
 package com.community.dogcat.repository.user;
 
+import java.time.Instant;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.community.dogcat.domain.RefreshToken;
 
 public interface RefreshRepository extends JpaRepository<RefreshToken, Long> {
 
-	Boolean existsByRefresh(String refresh);
+	// token_hash 유니크 인덱스 조회, 만료된 토큰은 없는 것으로 처리
+	boolean existsByTokenHashAndExpiresAtAfter(String tokenHash, Instant now);
+
+	@Modifying
+	@Transactional
+	@Query("DELETE FROM RefreshToken r WHERE r.tokenHash = :tokenHash")
+	int deleteByTokenHash(@Param("tokenHash") String tokenHash);
+
+	@Modifying
+	@Transactional
+	@Query("DELETE FROM RefreshToken r WHERE r.username = :username")
+	int deleteAllByUsername(@Param("username") String username);
 
+	// 만료된 토큰 삭제, 긴 락을 피하기 위해 limit 건씩
+	@Modifying
 	@Transactional
-	void deleteByRefresh(String refresh);
+	@Query(value = "DELETE FROM refresh_token WHERE expires_at < :now LIMIT :limit", nativeQuery = true)
+	int deleteExpired(@Param("now") Instant now, @Param("limit") int limit);
 
+	// 토큰 원문(refresh), 문자열 만료일(expiration)로 저장된 기존 데이터 변환
+	// 만료 시각은 알 수 없으므로 최대 유효기간(1주)으로 설정, 실제 만료는 JWT exp 로 검증
+	@Modifying
 	@Transactional
-	void deleteAllByUsername(String userName);
+	@Query(value = "UPDATE refresh_token SET token_hash = SHA2(refresh, 256), "
+		+ "expires_at = DATE_ADD(NOW(), INTERVAL 7 DAY), refresh = NULL "
+		+ "WHERE token_hash IS NULL AND refresh IS NOT NULL", nativeQuery = true)
+	int migrateLegacyTokens();
 
 }
@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, String> {
@@ -28,7 +29,28 @@ public interface UserRepository extends JpaRepository<User, String> {
     void updatePassword(@Param("userName") String userName, @Param("userId") String userId,
                         @Param("password") String password, @Param("modDate") Instant modDate);
 
+    // 로그인시 BCrypt cost 변경에 따른 재해시, 회원정보 수정일은 변경하지 않음
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.userPw = :password WHERE u.userId = :userId")
+    int updatePasswordHash(@Param("userId") String userId, @Param("password") String password);
+
+    // 회원 탈퇴 요청, 계정 비활성화 (이미 요청된 경우 변경 없음)
+    @Modifying
+    @Query("UPDATE User u SET u.deletedAt = :now WHERE u.userId = :userId AND u.deletedAt IS NULL")
+    int markDeleted(@Param("userId") String userId, @Param("now") Instant now);
+
     @Query("SELECT u.userPw FROM User u WHERE u.userId = ?1")
     String findPasswordHashByUsername(String userId);
 
+    // 검색 색인 닉네임 갱신용
+    List<NicknameView> findAllProjectedBy();
+
+    interface NicknameView {
+
+        String getUserId();
+
+        String getNickname();
+    }
+
 }
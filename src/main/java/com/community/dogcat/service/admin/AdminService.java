@@ -8,7 +8,9 @@ import com.community.dogcat.dto.board.BoardPageRequestDTO;
 import com.community.dogcat.dto.report.ReportDetailDTO;
 import com.community.dogcat.repository.admin.AdminRepository;
 import com.community.dogcat.repository.report.ReportLogRepository;
+import com.community.dogcat.repository.report.ReportUserSummaryRepository;
 import com.community.dogcat.repository.user.UsersAuthRepository;
+import com.community.dogcat.service.user.UserProfileCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -26,82 +28,44 @@ import java.util.stream.Collectors;
 public class AdminService {
 
     private final ReportLogRepository reportLogRepository;
+    private final ReportUserSummaryRepository reportUserSummaryRepository;
     private final AdminRepository adminRepository;
     private final UsersAuthRepository usersAuthRepository;
+    private final UserProfileCache userProfileCache;
 
-    public List<AdminUserDetailDTO> findAllUsers(BoardPageRequestDTO pageRequestDTO, String viewStyle) {
+    // 회원 목록 (권한 포함), 한 쿼리로 조회하고 정렬/count 도 DB 에서 처리
+    // 관리자 우선보기는 페이지 안에서가 아니라 전체 목록 기준
+    public Page<AdminUserDetailDTO> findAllUsers(BoardPageRequestDTO pageRequestDTO, String viewStyle) {
 
-        Pageable pageable = pageRequestDTO.getPageable("userId");
-        Page<User> userPage;
-
-        // null, 값이 없는 유저 제외
-        if (pageRequestDTO.getKeyword() != null && !pageRequestDTO.getKeyword().isEmpty()) {
-            String keyword = pageRequestDTO.getKeyword();
-            // keyword로 검색하여 block되지 않은 유저목록 불러옴
-            userPage = adminRepository.findByBlockFalseKeyword(keyword, keyword, pageable);
-        } else {
-            userPage = adminRepository.findByBlockFalse(pageable);
-        }
-
-        // 사용자 목록을 가져와 AdminUserDetailDTO 리스트로 변환
-        List<AdminUserDetailDTO> users = userPage.getContent().stream()
-                .map(user -> {
-                    UsersAuth userAuth = usersAuthRepository.findByUserId(user.getUserId());
-                    return AdminUserDetailDTO.builder()
-                            .userId(user.getUserId())
-                            .userName(user.getUserName())
-                            .regDate(user.getRegDate())
-                            .nickname(user.getNickname())
-                            .userVet(user.isUserVet())
-                            .authorities(userAuth.getAuthorities()) // 유저 권한 가져옴
-                            .build();
-                })
-                .collect(Collectors.toList());
-
-        // 권한이 "ROLE_ADMIN"인 사용자와 그렇지 않은 사용자로 분리
-        List<AdminUserDetailDTO> adminUsers = users.stream()
-                .filter(user -> user.getAuthorities().contains("ROLE_ADMIN"))
-                .collect(Collectors.toList());
-        List<AdminUserDetailDTO> nonAdminUsers = users.stream()
-                .filter(user -> !user.getAuthorities().contains("ROLE_ADMIN"))
-                .collect(Collectors.toList());
+        // 정렬은 쿼리에 포함 (권한 -> userId 역순)
+        Pageable pageable = pageRequestDTO.getPageable();
+        String keyword = pageRequestDTO.getKeyword() != null && !pageRequestDTO.getKeyword().isEmpty() ?
+                pageRequestDTO.getKeyword() : null;
 
         // viewStyle 관리자 우선보기일 경우
         if ("adminFirst".equalsIgnoreCase(viewStyle)) {
-            adminUsers.addAll(nonAdminUsers);
-            return adminUsers;
-        } else {
-            // 아닐 경우 유저 우선보기
-            nonAdminUsers.addAll(adminUsers);
-            return nonAdminUsers;
+            return adminRepository.findUserDetailsAdminFirst(keyword, pageable);
         }
-    }
 
-
-    public int countAllUsers(BoardPageRequestDTO pageRequestDTO) {
-        // 차단당하지 않은 유저 인원수
-        if (pageRequestDTO.getKeyword() != null && !pageRequestDTO.getKeyword().isEmpty()) {
-            String keyword = pageRequestDTO.getKeyword();
-            return (int) adminRepository.countByBlockFalseKeyword(keyword, keyword);
-        } else {
-            return (int) adminRepository.countByBlockFalse();
-        }
+        // 아닐 경우 유저 우선보기
+        return adminRepository.findUserDetailsAdminLast(keyword, pageable);
     }
 
     public List<ReportListDTO> findAllReportedUsers(BoardPageRequestDTO pageRequestDTO) {
-        Pageable pageable = pageRequestDTO.getPageable("userId");
-        Page<ReportLog> reportLogPage;
+        // 최근 신고 순, count 는 countAllReportUser 에서 따로 조회
+        Pageable pageable = pageRequestDTO.getPageable("reportNo");
+        List<ReportLog> reportLogs;
 
         // null, 값이 없는유저 제외
         if (pageRequestDTO.getKeyword() != null && !pageRequestDTO.getKeyword().isEmpty()) {
             String keyword = pageRequestDTO.getKeyword();
             // 신고 목록 불러옴
-            reportLogPage = reportLogRepository.findByReportNotBlockedKeyword(keyword, pageable);
+            reportLogs = reportLogRepository.findByReportNotBlockedKeyword(keyword, pageable);
         } else {
-            reportLogPage = reportLogRepository.findByReportNotBlocked(pageable);
+            reportLogs = reportLogRepository.findByReportNotBlocked(pageable);
         }
 
-        return reportLogPage.getContent().stream()
+        return reportLogs.stream()
                 .map(reportLog -> ReportListDTO.builder()
                         .user(reportLog.getUserId()) //신고한 유저
                         .nickname(reportLog.getUserId().getNickname())
@@ -123,7 +87,8 @@ public class AdminService {
             String keyword = pageRequestDTO.getKeyword();
             return (int) reportLogRepository.countByReportNotBlockedKeyword(keyword);
         } else {
-            return (int) reportLogRepository.countByReportNotBlocked();
+            // 회원별 신고 수 합계 (report_log 전체를 세지 않음)
+            return (int) reportUserSummaryRepository.sumReportCountNotBlocked();
         }
     }
 
@@ -201,6 +166,7 @@ public class AdminService {
         if (updatedCount < 1) {
             log.warn("User not found with userId '" + userId + "'.");
         }
+        userProfileCache.invalidate(userId);
     }
 
     //관리자 지정
@@ -208,6 +174,7 @@ public class AdminService {
         UsersAuth usersAuth = UsersAuth.builder().userId(userId).authorities("ROLE_ADMIN").build();
 
         usersAuthRepository.save(usersAuth);
+        userProfileCache.invalidate(userId);
     }
 
     //유저 차단 해제
@@ -216,6 +183,7 @@ public class AdminService {
         if (updateCount > 0){
             log.warn("User not found with userId '" + userId + "'.");
         }
+        userProfileCache.invalidate(userId);
     }
 
 }
@@ -6,6 +6,7 @@ import com.community.dogcat.domain.Post;
 import com.community.dogcat.dto.board.BoardListDTO;
 import com.community.dogcat.dto.board.BoardPageRequestDTO;
 import com.community.dogcat.dto.board.BoardPageResponseDTO;
+import com.community.dogcat.dto.board.BoardSliceResponseDTO;
 import com.community.dogcat.dto.board.PostReadDTO;
 import com.community.dogcat.dto.board.post.PostDTO;
 
@@ -35,6 +36,9 @@ public interface BoardService {
 	// regDate(최신순), boarCode에 따라 정렬, 첨부파일 정보 추가 + 정렬기준선택가능
 	BoardPageResponseDTO<BoardListDTO> list(BoardPageRequestDTO pageRequestDTO);
 
+	// list의 커서 페이징 버전 (showoff 무한 스크롤)
+	BoardSliceResponseDTO<BoardListDTO> listByCursor(BoardPageRequestDTO pageRequestDTO);
+
 	Post findPostByPostNo(Long postNo);
 
 	List<String> getImages(Long postNo);
@@ -2,13 +2,16 @@ package com.community.dogcat.service.board;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,16 +20,17 @@ import org.springframework.web.bind.annotation.RestController;
 import com.community.dogcat.domain.ImgBoard;
 import com.community.dogcat.domain.Post;
 import com.community.dogcat.domain.PostLike;
-import com.community.dogcat.domain.Reply;
 import com.community.dogcat.domain.Scrap;
 import com.community.dogcat.domain.User;
 import com.community.dogcat.domain.UsersAuth;
 import com.community.dogcat.dto.board.BoardListDTO;
 import com.community.dogcat.dto.board.BoardPageRequestDTO;
 import com.community.dogcat.dto.board.BoardPageResponseDTO;
+import com.community.dogcat.dto.board.BoardSliceResponseDTO;
 import com.community.dogcat.dto.board.PostReadDTO;
 import com.community.dogcat.dto.board.post.PostDTO;
 import com.community.dogcat.dto.report.UserReportDetailDTO;
+import com.community.dogcat.dto.search.PostIndexSourceDTO;
 import com.community.dogcat.dto.uploadImage.UploadPostImageResultDTO;
 import com.community.dogcat.mapper.UploadResultMappingImgBoard;
 import com.community.dogcat.repository.board.BoardRepository;
@@ -34,10 +38,20 @@ import com.community.dogcat.repository.board.postLike.PostLikeRepository;
 import com.community.dogcat.repository.board.reply.ReplyRepository;
 import com.community.dogcat.repository.board.scrap.ScrapRepository;
 import com.community.dogcat.repository.report.ReportLogRepository;
+import com.community.dogcat.repository.report.ReportUserSummaryRepository;
+import com.community.dogcat.repository.search.KeysetCursor;
 import com.community.dogcat.repository.upload.UploadRepository;
 import com.community.dogcat.repository.user.UserRepository;
 import com.community.dogcat.repository.user.UsersAuthRepository;
-import com.community.dogcat.util.uploader.S3Uploader;
+import com.community.dogcat.service.board.popularity.PostPopularityService;
+import com.community.dogcat.service.home.HomeSnapshotCache;
+import com.community.dogcat.service.search.PostSearchIndex;
+import com.community.dogcat.service.upload.StorageOutboxService;
+import com.community.dogcat.service.user.UserProfileCache;
+import com.community.dogcat.util.PostExcerpt;
+import com.community.dogcat.util.ResponsiveImages;
+import com.community.dogcat.util.ViewCountBuffer;
+import com.community.dogcat.util.uploader.S3BatchDeleter;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -48,7 +62,8 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class BoardServiceImpl implements BoardService {
 
-	private final S3Uploader s3Uploader;
+	// S3 삭제는 커밋 후 outbox 에서 처리
+	private final StorageOutboxService storageOutboxService;
 
 	private final UserRepository userRepository;
 
@@ -66,6 +81,23 @@ public class BoardServiceImpl implements BoardService {
 
 	private final ReportLogRepository reportLogRepository;
 
+	private final ReportUserSummaryRepository reportUserSummaryRepository;
+
+	// 검색 색인 - 등록/수정/삭제시 갱신
+	private final PostSearchIndex postSearchIndex;
+
+	// 홈 화면 스냅샷 - 등록/수정/삭제시 재생성
+	private final HomeSnapshotCache homeSnapshotCache;
+
+	// 경험치 변경시 회원 프로필 캐시 무효화
+	private final UserProfileCache userProfileCache;
+
+	// 조회수 write-behind 버퍼
+	private final ViewCountBuffer viewCountBuffer;
+
+	// 실시간 인기글 랭킹
+	private final PostPopularityService postPopularityService;
+
 	// 업로드된 이미지 정보 얻기 - ys
 	private final UploadResultMappingImgBoard uploadResultMappingImgBoard;
 
@@ -76,6 +108,10 @@ public class BoardServiceImpl implements BoardService {
 	@Value("${newUrl}")
 	private String newUrl;
 
+	// 색인 검색 결과가 이보다 많으면 postNo IN 조건 대신 기존 LIKE 검색 사용
+	@Value("${search.index.maxCandidates:5000}")
+	private int maxSearchCandidates;
+
 	//게시물을 작성한 회원 정보 조회
 	@Override
 	public Long register(PostDTO postDTO) {
@@ -91,6 +127,7 @@ public class BoardServiceImpl implements BoardService {
 
 		// 게시글 작성자 경험치 증가
 		user.incrementPostExp();
+		userProfileCache.invalidate(userId);
 
 		// 게시글 등록시 이미지가 summernote 링크로 먼저 등록되기 때문에 x 박스가 뜸
 		// 고쳐주기 위해 업로드때 수행하던 작업을 게시판 등록할때 적용 - ys
@@ -104,6 +141,7 @@ public class BoardServiceImpl implements BoardService {
 			.boardCode(postDTO.getBoardCode())
 			.postTitle(postDTO.getPostTitle())
 			.postContent(postDTO.getPostContent())
+			.excerpt(PostExcerpt.of(postDTO.getPostContent()))
 			.regDate(postDTO.getRegDate())
 			.postTag(postDTO.getPostTag())
 			.secret(postDTO.isSecret())
@@ -112,6 +150,9 @@ public class BoardServiceImpl implements BoardService {
 
 		boardRepository.save(post);
 
+		postSearchIndex.index(new PostIndexSourceDTO(post));
+		homeSnapshotCache.invalidate();
+
 		return post.getPostNo();
 	}
 
@@ -133,29 +174,31 @@ public class BoardServiceImpl implements BoardService {
 
 			List<ImgBoard> images = uploadRepository.findByPostNo(postNo);
 
+			// 게시글의 모든 원본, 썸네일, rendition 삭제 예약 (커밋 후 outbox 에서 묶어서 삭제)
+			List<String> keys = new ArrayList<>();
+
 			for (ImgBoard image : images) {
 
 				String fileName = image.getFileUuid() + image.getExtension();
-				String thumbFileName = "t_" + fileName;
 				log.info("S3 Delete FileName: {}", fileName);
 
-				s3Uploader.deleteUploadedS3File(fileName, thumbFileName);
+				keys.addAll(S3BatchDeleter.imageKeys(fileName, image.getRenditions()));
 			}
 
-			// 댓글 존재 확인
-			List<Reply> replies = replyRepository.findByPostNo(postNo);
+			storageOutboxService.enqueueDeletes(keys);
 
-			for (Reply reply : replies) {
-				// 해당 댓글 신고 삭제
-				List<Long> reportLogIds = reportLogRepository.findByReplyNo(reply.getReplyNo());
+			// 신고(게시글, 댓글) -> 댓글, 보관, 좋아요, 첨부 이미지 -> 게시글 순서로 일괄 삭제
+			// 댓글 수와 관계없이 신고 수 보정 1 문장 + DELETE 6 문장 (엔티티를 읽어서 한 행씩 삭제하지 않음)
+			reportUserSummaryRepository.subtractByPostNo(postNo);
+			reportLogRepository.bulkDeleteByPostNo(postNo);
+			replyRepository.bulkDeleteByPostNo(postNo);
+			scrapRepository.bulkDeleteByPostNo(postNo);
+			postLikeRepository.bulkDeleteByPostNo(postNo);
+			uploadRepository.bulkDeleteByPostNo(postNo);
+			boardRepository.bulkDeleteByPostNo(postNo);
 
-				for (Long reportLogId : reportLogIds) {
-
-					reportLogRepository.deleteReportLog(reportLogId);
-				}
-			}
-
-			boardRepository.deleteById(postNo);
+			postSearchIndex.remove(postNo);
+			homeSnapshotCache.invalidate();
 
 		} else {
 			log.error("Board Service Delete Error : 403 Forbidden");
@@ -171,11 +214,12 @@ public class BoardServiceImpl implements BoardService {
 		return new PostDTO(post);
 	}
 
-	// 상세페이지 접속시 조회수 증가
+	// 상세페이지 접속시 조회수 증가, 버퍼에 누적 후 주기적으로 DB 반영
 	@Override
 	public void updateViewCount(Long postNo) {
 
-		boardRepository.updateViewCount(postNo);
+		viewCountBuffer.increment(postNo);
+		postPopularityService.recordView(postNo);
 	}
 
 	// 게시글 상세보기
@@ -196,16 +240,30 @@ public class BoardServiceImpl implements BoardService {
 		Optional<PostLike> postLike = postLikeRepository.findByPostAndUser(post, user);
 
 		// 게시글 하나에 달린 댓글 수
-		Long replyCount = replyRepository.countRepliesByPost(post.getPostNo());
+		Long replyCount = post.getReplyCount() != null ? post.getReplyCount() : 0L;
 
 		// 게시물 정보 설정
 		PostReadDTO postReadDTO = new PostReadDTO(post);
 		postReadDTO.setReplyCount(replyCount);
+		// 아직 DB에 반영되지 않은 조회수 포함
+		postReadDTO.setViewCount((post.getViewCount() != null ? post.getViewCount() : 0L)
+			+ viewCountBuffer.pending(postNo));
 		postReadDTO.setScrapNo(scrap.map(Scrap::getScrapNo).orElseGet(() -> null));
 		postReadDTO.setLikeNo(postLike.map(PostLike::getLikeNo).orElseGet(() -> null));
 		postReadDTO.setLikeState(postLike.map(PostLike::isLikeState).orElseGet(() -> false));
 		postReadDTO.setDislikeState(postLike.map(PostLike::isDislikeState).orElseGet(() -> false));
 
+		// 본문 img 태그에 rendition srcset 추가 (원본 대신 화면 너비에 맞는 크기를 받도록)
+		Map<String, String> srcsets = new HashMap<>();
+
+		for (ImgBoard image : post.getImages()) {
+			if (image.getRenditions() != null) {
+				srcsets.put(image.getUploadPath(), image.getRenditions());
+			}
+		}
+
+		postReadDTO.setPostContent(ResponsiveImages.apply(postReadDTO.getPostContent(), srcsets));
+
 		return postReadDTO;
 	}
 
@@ -271,9 +329,13 @@ public class BoardServiceImpl implements BoardService {
 				postDTO.getPostTag(),
 				postDTO.isSecret(),
 				postDTO.isReplyAuth());
+			post.updateExcerpt(PostExcerpt.of(postDTO.getPostContent()));
 
 			boardRepository.save(post);
 
+			postSearchIndex.index(new PostIndexSourceDTO(post));
+			homeSnapshotCache.invalidate();
+
 		} else {
 			log.error("Board Service Modify Error : 403 Forbidden");
 		}
@@ -295,6 +357,8 @@ public class BoardServiceImpl implements BoardService {
 			post.completeQna(
 				postDTO.isCompleteQna());
 
+			homeSnapshotCache.invalidate();
+
 		} else {
 			log.error("Board Service completeQna Error : 403 Forbidden");
 		}
@@ -335,7 +399,28 @@ public class BoardServiceImpl implements BoardService {
 		String postTag = pageRequestDTO.getPostTag();
 		String order = pageRequestDTO.getOrder();
 
-		Page<BoardListDTO> result = boardRepository.listWithAll(types, keyword, pageable, boardCode, postTag, order);
+		Page<BoardListDTO> result = null;
+
+		// 실시간 인기순은 랭킹 상위 게시글 안에서 조회
+		if ("hot".equals(order)) {
+			result = boardRepository.listWithAllByRank(postPopularityService.getTopPostNos(), types, keyword,
+				pageable, boardCode, postTag);
+		}
+
+		// 검색어가 있으면 검색 색인에서 후보 postNo를 찾고 DB에서는 postNo IN 조건으로 정렬/페이징만 처리
+		if (result == null && keyword != null && !keyword.isEmpty()) {
+			Optional<List<Long>> postNos = postSearchIndex.search(types, keyword,
+				document -> !document.isSecret() && (boardCode == null || boardCode.equals(document.getBoardCode())));
+
+			if (postNos.isPresent() && postNos.get().size() <= maxSearchCandidates) {
+				result = boardRepository.listWithAllByPostNos(postNos.get(), pageable, boardCode, postTag, order);
+			}
+		}
+
+		// 색인 준비 전, 한 글자 검색어 등은 기존 LIKE 검색
+		if (result == null) {
+			result = boardRepository.listWithAll(types, keyword, pageable, boardCode, postTag, order);
+		}
 
 		return BoardPageResponseDTO.<BoardListDTO>withAll()
 			.pageRequestDTO(pageRequestDTO)
@@ -344,4 +429,40 @@ public class BoardServiceImpl implements BoardService {
 			.build();
 	}
 
-}
\ No newline at end of file
+	// list의 커서 페이징 버전, offset/전체 갯수 조회 없이 (정렬값, postNo) 기준으로 다음 페이지 조회
+	@Override
+	public BoardSliceResponseDTO<BoardListDTO> listByCursor(BoardPageRequestDTO pageRequestDTO) {
+
+		// boardCode에 따라 size설정 다르게
+		pageRequestDTO.setSizeByBoardCode(pageRequestDTO.getBoardCode());
+
+		String order = pageRequestDTO.getOrder();
+
+		Slice<BoardListDTO> result = boardRepository.listWithAllByCursor(pageRequestDTO.getTypes(),
+			pageRequestDTO.getKeyword(), pageRequestDTO.getSize(), pageRequestDTO.getBoardCode(),
+			pageRequestDTO.getPostTag(), order, pageRequestDTO.getCursor());
+
+		// 마지막 항목의 정렬값과 postNo로 다음 커서 생성
+		String nextCursor = null;
+		if (result.hasNext()) {
+			BoardListDTO last = result.getContent().get(result.getNumberOfElements() - 1);
+			Object sortValue;
+			if ("r".equals(order)) {
+				sortValue = last.getReplyCount();
+			} else if ("v".equals(order)) {
+				sortValue = last.getViewCount();
+			} else {
+				sortValue = last.getRegDate();
+			}
+			nextCursor = KeysetCursor.of(sortValue, last.getPostNo()).encode();
+		}
+
+		return BoardSliceResponseDTO.<BoardListDTO>builder()
+			.size(pageRequestDTO.getSize())
+			.dtoList(result.getContent())
+			.hasNext(result.hasNext())
+			.nextCursor(nextCursor)
+			.build();
+	}
+
+}
@@ -0,0 +1,300 @@
+package com.community.dogcat.service.board.popularity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.community.dogcat.domain.PostPopularityBucket;
+import com.community.dogcat.repository.board.PostPopularityBucketRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 실시간 인기글 랭킹
+// 조회/댓글/좋아요를 게시글별 시간 구간(bucket)에 누적하고, 최근 구간일수록 높은 가중치(반감기)로 합산
+// 상위 K개는 주기적으로 미리 계산해 두고 읽기는 O(K)
+@Slf4j
+@Service
+public class PostPopularityService {
+
+	private static final String UPSERT_BUCKET = "INSERT INTO post_popularity_bucket (post_no, bucket_epoch, points) "
+		+ "VALUES (?, ?, ?) ON DUPLICATE KEY UPDATE points = VALUES(points)";
+
+	private final PostPopularityBucketRepository bucketRepository;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final TransactionTemplate transactionTemplate;
+
+	// 구간 길이 (분)
+	private final long bucketMillis;
+
+	// 랭킹에 반영하는 구간 수 (기본 15분 x 96 = 24시간)
+	private final int bucketCount;
+
+	// 점수 반감기 (분)
+	private final double halfLifeMillis;
+
+	@Value("${popularity.weight.view:1}")
+	private long viewWeight;
+
+	@Value("${popularity.weight.reply:3}")
+	private long replyWeight;
+
+	@Value("${popularity.weight.like:5}")
+	private long likeWeight;
+
+	@Value("${popularity.topK:100}")
+	private int topK;
+
+	// postNo -> 구간별 점수
+	private final Map<Long, Activity> activities = new ConcurrentHashMap<>();
+
+	// 점수순 postNo, 읽기 전용으로 교체
+	private volatile List<Long> ranking = Collections.emptyList();
+
+	public PostPopularityService(PostPopularityBucketRepository bucketRepository, JdbcTemplate jdbcTemplate,
+		PlatformTransactionManager transactionManager,
+		@Value("${popularity.bucketMinutes:15}") long bucketMinutes,
+		@Value("${popularity.windowHours:24}") long windowHours,
+		@Value("${popularity.halfLifeMinutes:360}") long halfLifeMinutes) {
+
+		this.bucketRepository = bucketRepository;
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.bucketMillis = bucketMinutes * 60_000L;
+		this.bucketCount = (int)Math.max(1, windowHours * 60 / bucketMinutes);
+		this.halfLifeMillis = halfLifeMinutes * 60_000.0;
+	}
+
+	public void recordView(Long postNo) {
+		record(postNo, viewWeight);
+	}
+
+	public void recordReply(Long postNo) {
+		record(postNo, replyWeight);
+	}
+
+	public void recordLike(Long postNo) {
+		record(postNo, likeWeight);
+	}
+
+	// 점수 상위 postNo (최대 topK개)
+	public List<Long> getTopPostNos() {
+		return ranking;
+	}
+
+	// 점수 상위 postNo 중 size개
+	public List<Long> getTopPostNos(int size) {
+
+		List<Long> current = ranking;
+
+		return current.subList(0, Math.min(size, current.size()));
+	}
+
+	// 서버 시작시 체크포인트 복원
+	@EventListener(ApplicationReadyEvent.class)
+	public void restore() {
+
+		long minEpoch = currentEpoch() - bucketCount + 1;
+
+		try {
+			List<PostPopularityBucket> buckets = bucketRepository.findByBucketEpochGreaterThanEqual(minEpoch);
+
+			for (PostPopularityBucket bucket : buckets) {
+				activities.computeIfAbsent(bucket.getPostNo(), key -> new Activity(bucketCount))
+					.restore(bucket.getBucketEpoch(), bucket.getPoints());
+			}
+
+			refreshRanking();
+
+			log.info("Popularity: 체크포인트 {} 건 복원, 랭킹 {} 건", buckets.size(), ranking.size());
+		} catch (Exception e) {
+			log.error("Popularity: 체크포인트 복원 실패", e);
+		}
+	}
+
+	// 상위 K개 재계산, 구간이 모두 지난 게시글 제거
+	@Scheduled(fixedDelayString = "${popularity.refreshInterval:60000}")
+	public void refreshRanking() {
+
+		long now = System.currentTimeMillis();
+		long epoch = now / bucketMillis;
+
+		PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(Map.Entry.comparingByValue());
+
+		for (Map.Entry<Long, Activity> entry : activities.entrySet()) {
+
+			double score = entry.getValue().score(epoch, now);
+
+			if (score <= 0) {
+				activities.remove(entry.getKey(), entry.getValue());
+				continue;
+			}
+
+			heap.offer(Map.entry(entry.getKey(), score));
+
+			if (heap.size() > topK) {
+				heap.poll();
+			}
+		}
+
+		List<Map.Entry<Long, Double>> top = new ArrayList<>(heap);
+		top.sort(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder()));
+
+		List<Long> postNos = new ArrayList<>(top.size());
+		top.forEach(entry -> postNos.add(entry.getKey()));
+
+		ranking = Collections.unmodifiableList(postNos);
+	}
+
+	// 주기적으로 마지막 체크포인트 이후 바뀐 구간만 upsert, window 를 벗어난 구간 삭제
+	@Scheduled(fixedDelayString = "${popularity.checkpointInterval:300000}",
+		initialDelayString = "${popularity.checkpointInterval:300000}")
+	public void checkpoint() {
+
+		long minEpoch = currentEpoch() - bucketCount + 1;
+
+		List<Object[]> batchArgs = new ArrayList<>();
+		List<Runnable> markSaved = new ArrayList<>();
+
+		activities.forEach((postNo, activity) -> activity.forEachChanged(minEpoch, (bucketEpoch, points) -> {
+			batchArgs.add(new Object[] {postNo, bucketEpoch, points});
+			markSaved.add(() -> activity.markSaved(bucketEpoch, points));
+		}));
+
+		try {
+			int expired = transactionTemplate.execute(status -> {
+				if (!batchArgs.isEmpty()) {
+					jdbcTemplate.batchUpdate(UPSERT_BUCKET, batchArgs);
+				}
+				return bucketRepository.deleteByBucketEpochLessThan(minEpoch);
+			});
+
+			// 커밋된 값만 저장된 것으로 표시, 실패하면 다음 체크포인트에 다시 저장
+			markSaved.forEach(Runnable::run);
+
+			log.debug("Popularity: 체크포인트 {} 건 저장, 지난 구간 {} 건 삭제", batchArgs.size(), expired);
+		} catch (Exception e) {
+			log.error("Popularity: 체크포인트 저장 실패", e);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		checkpoint();
+	}
+
+	private void record(Long postNo, long points) {
+
+		if (postNo == null || points <= 0) {
+			return;
+		}
+
+		activities.computeIfAbsent(postNo, key -> new Activity(bucketCount)).add(currentEpoch(), points);
+	}
+
+	private long currentEpoch() {
+		return System.currentTimeMillis() / bucketMillis;
+	}
+
+	// 게시글 하나의 구간별 점수 (링 버퍼)
+	private class Activity {
+
+		private final long[] epochs;
+
+		private final long[] points;
+
+		// 마지막으로 DB에 저장된 점수
+		private final long[] saved;
+
+		Activity(int size) {
+			this.epochs = new long[size];
+			this.points = new long[size];
+			this.saved = new long[size];
+		}
+
+		// 체크포인트 복원, 이미 DB에 있는 값이므로 저장된 것으로 표시
+		synchronized void restore(long epoch, long value) {
+
+			add(epoch, value);
+
+			int slot = (int)Math.floorMod(epoch, (long)epochs.length);
+
+			if (epochs[slot] == epoch) {
+				saved[slot] = points[slot];
+			}
+		}
+
+		synchronized void add(long epoch, long value) {
+
+			int slot = (int)Math.floorMod(epoch, (long)epochs.length);
+
+			// 지난 구간이 남아있는 슬롯은 새 구간으로 재사용
+			if (epochs[slot] != epoch) {
+				if (epochs[slot] > epoch) {
+					return;
+				}
+				epochs[slot] = epoch;
+				points[slot] = 0;
+				saved[slot] = 0;
+			}
+
+			points[slot] += value;
+		}
+
+		// 구간 중간 시각 기준으로 경과 시간만큼 반감
+		synchronized double score(long currentEpoch, long now) {
+
+			double score = 0;
+
+			for (int i = 0; i < epochs.length; i++) {
+				if (points[i] > 0 && currentEpoch - epochs[i] < epochs.length) {
+					double age = Math.max(0, now - (epochs[i] * bucketMillis + bucketMillis / 2));
+					score += points[i] * Math.pow(0.5, age / halfLifeMillis);
+				}
+			}
+
+			return score;
+		}
+
+		// 마지막 저장 이후 점수가 바뀐 구간
+		synchronized void forEachChanged(long minEpoch, BucketConsumer consumer) {
+
+			for (int i = 0; i < epochs.length; i++) {
+				if (points[i] > 0 && epochs[i] >= minEpoch && points[i] != saved[i]) {
+					consumer.accept(epochs[i], points[i]);
+				}
+			}
+		}
+
+		// 저장한 사이 같은 슬롯이 새 구간으로 바뀌었으면 무시
+		synchronized void markSaved(long epoch, long value) {
+
+			int slot = (int)Math.floorMod(epoch, (long)epochs.length);
+
+			if (epochs[slot] == epoch) {
+				saved[slot] = value;
+			}
+		}
+	}
+
+	private interface BucketConsumer {
+
+		void accept(long bucketEpoch, long points);
+	}
+}
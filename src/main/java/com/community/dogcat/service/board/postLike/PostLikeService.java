@@ -1,7 +1,5 @@
 package com.community.dogcat.service.board.postLike;
 
-import com.community.dogcat.domain.PostLike;
-import com.community.dogcat.domain.Scrap;
 import com.community.dogcat.dto.board.postLike.PostLikeDTO;
 
 public interface PostLikeService {
@@ -9,4 +7,7 @@ public interface PostLikeService {
 	Long register(PostLikeDTO postReadDTO);
 
 	void delete(Long likeNo, String userId);
+
+	// 좋아요/싫어요/취소 상태 지정, 같은 상태로 다시 요청해도 결과 동일
+	PostLikeDTO toggle(Long postNo, String userId, boolean likeState, boolean dislikeState);
 }
@@ -1,19 +1,18 @@
 package com.community.dogcat.service.board.postLike;
 
 import java.util.NoSuchElementException;
-import java.util.Optional;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.community.dogcat.domain.Post;
 import com.community.dogcat.domain.PostLike;
-import com.community.dogcat.domain.Scrap;
 import com.community.dogcat.domain.User;
 import com.community.dogcat.dto.board.postLike.PostLikeDTO;
 import com.community.dogcat.repository.board.BoardRepository;
 import com.community.dogcat.repository.board.postLike.PostLikeRepository;
 import com.community.dogcat.repository.user.UserRepository;
+import com.community.dogcat.service.board.popularity.PostPopularityService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,6 +29,9 @@ public class PostLikeServiceImpl implements PostLikeService {
 
 	private final PostLikeRepository postLikeRepository;
 
+	// 실시간 인기글 랭킹
+	private final PostPopularityService postPopularityService;
+
 	@Override
 	public Long register(PostLikeDTO postLikeDTO) {
 
@@ -40,67 +42,43 @@ public class PostLikeServiceImpl implements PostLikeService {
 		String userId = postLikeDTO.getUserId();
 		User user = userRepository.findById(userId).orElseThrow(() -> new NoSuchElementException("PostLike Service Register Error : 401 Unauthorized"));
 
-		// 해당 게시물에 대한 사용자의 좋아요, 싫어요 상태 조회
-		Optional<PostLike> like = postLikeRepository.findByPostAndUser(post, user);
-
-		//  해당 게시물에 대해 로그인한 유저의 좋아요, 싫어요 상태가 없는 경우 생성
-		if (like.isEmpty()) {
-
-			// 좋아요나 싫어요 중 하나만 true로 설정되어야 함
-			if (postLikeDTO.isLikeState() && !postLikeDTO.isDislikeState()) {
-
-				// 좋아요 상태 - 싫어요 상태는 false
-				PostLike postLike = PostLike.builder()
-					.postNo(post)
-					.userId(user)
-					.likeState(true)
-					.dislikeState(false)
-					.build();
-				// 게시물 좋아요 카운트 수정
-				postLikeDTO.setLikeCount(post.getLikeCount() + 1);
-				postLikeDTO.setDislikeCount(post.getDislikeCount());
-				post.count(
-					postLikeDTO.getLikeCount(),
-					postLikeDTO.getDislikeCount()
-				);
-
-				boardRepository.save(post);
-				postLikeRepository.save(postLike);
-
-				return postLike.getLikeNo();
-
-			} else if (postLikeDTO.isDislikeState() && !postLikeDTO.isLikeState()) {
-
-				// 싫어요 상태 - 좋아요 상태는 false
-				PostLike postLike = PostLike.builder()
-					.postNo(post)
-					.userId(user)
-					.likeState(false)
-					.dislikeState(true)
-					.build();
-				// 게시물 싫어요 카운트 수정
-				postLikeDTO.setLikeCount(post.getLikeCount());
-				postLikeDTO.setDislikeCount(post.getDislikeCount() + 1);
-				post.count(
-					postLikeDTO.getLikeCount(),
-					postLikeDTO.getDislikeCount()
-				);
-
-				boardRepository.save(post);
-				postLikeRepository.save(postLike);
-
-				return postLike.getLikeNo();
-
-			} else {
-				// 좋아요와 싫어요 상태가 동시에 true인 경우
-				log.error("PostLike Service Register Error : likeState and dislikeState can't be true at the same time");
-				throw new IllegalArgumentException("likeState and dislikeState can't be true at the same time");
+		// 좋아요나 싫어요 중 하나만 true로 설정되어야 함
+		if (postLikeDTO.isLikeState() == postLikeDTO.isDislikeState()) {
+			// 좋아요와 싫어요 상태가 동시에 true인 경우
+			log.error("PostLike Service Register Error : likeState and dislikeState can't be true at the same time");
+			throw new IllegalArgumentException("likeState and dislikeState can't be true at the same time");
+		}
+
+		// 해당 게시물에 대해 로그인한 유저의 좋아요, 싫어요 상태가 없는 경우에만 생성 (유니크 키로 중복 방지)
+		int inserted = postLikeRepository.insertIgnore(post.getPostNo(), user.getUserId(),
+			postLikeDTO.isLikeState(), postLikeDTO.isDislikeState());
+
+		if (inserted == 0) {
+
+			// toggle로 취소 상태 행이 남아있는 경우 상태만 변경
+			PostLike postLike = postLikeRepository.findForUpdate(post.getPostNo(), user.getUserId()).orElse(null);
+
+			if (postLike == null || postLike.isLikeState() || postLike.isDislikeState()) {
+				log.error("PostLike Service Register Error : 'likeState' or 'dislikeState' already exists");
+				return null;  // 이미 좋아요나 싫어요를 한 경우
 			}
 
-		} else {
-			log.error("PostLike Service Register Error : 'likeState' or 'dislikeState' already exists");
-			return null;  // 이미 좋아요나 싫어요를 한 경우
+			postLikeRepository.updateState(postLike.getLikeNo(), postLikeDTO.isLikeState(),
+				postLikeDTO.isDislikeState());
 		}
+
+		// 게시물 좋아요/싫어요 카운트 수정
+		boardRepository.adjustLikeCount(post.getPostNo(),
+			postLikeDTO.isLikeState() ? 1 : 0,
+			postLikeDTO.isDislikeState() ? 1 : 0);
+
+		if (postLikeDTO.isLikeState()) {
+			postPopularityService.recordLike(post.getPostNo());
+		}
+
+		return postLikeRepository.findForUpdate(post.getPostNo(), user.getUserId())
+			.map(PostLike::getLikeNo)
+			.orElse(null);
 	}
 
 	@Override
@@ -109,53 +87,73 @@ public class PostLikeServiceImpl implements PostLikeService {
 		// 로그인한 회원정보를 받아 userId 조회
 		User user = userRepository.findById(userId).orElseThrow(() -> new NoSuchElementException("PostLike Service Delete Error : 401 Unauthorized"));
 
-		// likeNo를 통해 postLike 찾아오기
-		PostLike postLike = postLikeRepository.findById(likeNo).orElseThrow(() -> new NoSuchElementException("PostLike Service Delete Error : 404 Not Found"));
+		// likeNo를 통해 postLike 찾아오기, 행을 잠가 toggle 로 바뀐 상태까지 반영된 값으로 감소
+		PostLike postLike = postLikeRepository.findByLikeNoForUpdate(likeNo).orElseThrow(() -> new NoSuchElementException("PostLike Service Delete Error : 404 Not Found"));
 
-		// 해당 게시물에 대한 사용자의 좋아요, 싫어요 상태 조회
-		Optional<PostLike> like = postLikeRepository.findByPostAndUser(postLike.getPostNo(), user);
+		// 본인의 좋아요, 싫어요만 삭제
+		if (!postLike.getUserId().getUserId().equals(user.getUserId())) {
+			log.error("PostLike Service Delete Error : 'likeState' or 'dislikeState' does not exist.");
+			return;
+		}
 
-		// 해당 게시물에 대해 로그인한 유저의 좋아요, 싫어요 상태가 있는 경우 삭제
-		if (like.isPresent()) {
+		Long postNo = postLike.getPostNo().getPostNo();
 
-			if (postLike.isLikeState() && !postLike.isDislikeState()) {
+		// 동시에 같은 삭제 요청이 들어와도 실제로 삭제한 요청만 카운트 감소
+		if (postLikeRepository.deleteByLikeNo(likeNo) == 1) {
+			boardRepository.adjustLikeCount(postNo,
+				postLike.isLikeState() ? -1 : 0,
+				postLike.isDislikeState() ? -1 : 0);
+		}
+	}
 
-				Post post = postLike.getPostNo();
-				// 게시물 좋아요 카운트 수정
-				PostLikeDTO postLikeDTO = PostLikeDTO.builder()
-					.likeCount(post.getLikeCount() - 1)
-					.dislikeCount(post.getDislikeCount())
-					.build();
-				post.count(
-					postLikeDTO.getLikeCount(),
-					postLikeDTO.getDislikeCount()
-				);
+	// 좋아요 -> 취소 -> 싫어요 상태 전환
+	// (post_no, user_id) upsert 후 해당 행을 잠그고 이전 상태와의 차이만큼 카운트를 한 문장으로 증감
+	@Override
+	public PostLikeDTO toggle(Long postNo, String userId, boolean likeState, boolean dislikeState) {
 
-				boardRepository.save(post);
+		if (likeState && dislikeState) {
+			log.error("PostLike Service Toggle Error : likeState and dislikeState can't be true at the same time");
+			throw new IllegalArgumentException("likeState and dislikeState can't be true at the same time");
+		}
 
-			} else if (postLike.isDislikeState() && !postLike.isLikeState()) {
+		if (!boardRepository.existsById(postNo)) {
+			throw new NoSuchElementException("PostLike Service Toggle Error : 404 Not Found");
+		}
 
-				Post post = postLike.getPostNo();
-				// 게시물 싫어요 카운트 수정
-				PostLikeDTO postLikeDTO = PostLikeDTO.builder()
-					.likeCount(post.getLikeCount())
-					.dislikeCount(post.getDislikeCount() - 1)
-					.build();
-				post.count(
-					postLikeDTO.getLikeCount(),
-					postLikeDTO.getDislikeCount()
-				);
+		if (!userRepository.existsById(userId)) {
+			throw new NoSuchElementException("PostLike Service Toggle Error : 401 Unauthorized");
+		}
 
-				boardRepository.save(post);
-			}
+		// 행 생성 또는 배타 락 획득 후 조회 (첫 요청끼리 동시에 들어와도 한 행만 생성되고 순서대로 처리)
+		postLikeRepository.insertOrLock(postNo, userId);
+		PostLike postLike = postLikeRepository.findForUpdate(postNo, userId)
+			.orElseThrow(() -> new NoSuchElementException("PostLike Service Toggle Error : 404 Not Found"));
 
-			postLikeRepository.deleteById(likeNo);
+		long likeDelta = (likeState ? 1 : 0) - (postLike.isLikeState() ? 1 : 0);
+		long dislikeDelta = (dislikeState ? 1 : 0) - (postLike.isDislikeState() ? 1 : 0);
 
-		} else {
-			log.error("PostLike Service Delete Error : 'likeState' or 'dislikeState' does not exist.");
+		// 같은 상태로 다시 요청한 경우 변경 없음
+		if (likeDelta != 0 || dislikeDelta != 0) {
+			postLikeRepository.updateState(postLike.getLikeNo(), likeState, dislikeState);
+			boardRepository.adjustLikeCount(postNo, likeDelta, dislikeDelta);
+
+			if (likeDelta > 0) {
+				postPopularityService.recordLike(postNo);
+			}
 		}
+
+		Post post = boardRepository.findById(postNo)
+			.orElseThrow(() -> new NoSuchElementException("PostLike Service Toggle Error : 404 Not Found"));
+
+		return PostLikeDTO.builder()
+			.postNo(postNo)
+			.userId(userId)
+			.likeNo(postLike.getLikeNo())
+			.likeState(likeState)
+			.dislikeState(dislikeState)
+			.likeCount(post.getLikeCount())
+			.dislikeCount(post.getDislikeCount())
+			.build();
 	}
 
 }
-
-
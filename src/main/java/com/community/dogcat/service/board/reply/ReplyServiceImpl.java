@@ -6,6 +6,7 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 import com.community.dogcat.repository.report.ReportLogRepository;
+import com.community.dogcat.repository.report.ReportUserSummaryRepository;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,6 +19,7 @@ import com.community.dogcat.repository.board.BoardRepository;
 import com.community.dogcat.repository.board.reply.ReplyRepository;
 import com.community.dogcat.repository.user.UserRepository;
 import com.community.dogcat.repository.user.UsersAuthRepository;
+import com.community.dogcat.service.board.popularity.PostPopularityService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -38,8 +40,13 @@ public class ReplyServiceImpl implements ReplyService {
 
 	private final ReportLogRepository reportLogRepository;
 
+	private final ReportUserSummaryRepository reportUserSummaryRepository;
+
 	private final ModelMapper modelMapper;
 
+	// 실시간 인기글 랭킹
+	private final PostPopularityService postPopularityService;
+
 	@Override
 	public Long register(ReplyDTO replyDTO) {
 
@@ -74,6 +81,9 @@ public class ReplyServiceImpl implements ReplyService {
 					.build();
 
 				replyRepository.save(reply);
+				// 게시물 댓글 수 증가
+				boardRepository.increaseReplyCount(post.getPostNo());
+				postPopularityService.recordReply(post.getPostNo());
 
 			} else {
 				log.error("Reply Service Register Error : 403 Forbidden");
@@ -91,6 +101,9 @@ public class ReplyServiceImpl implements ReplyService {
 			.build();
 
 		replyRepository.save(reply);
+		// 게시물 댓글 수 증가
+		boardRepository.increaseReplyCount(post.getPostNo());
+		postPopularityService.recordReply(post.getPostNo());
 		}
 
 		return replyDTO.getReplyNo();
@@ -111,16 +124,25 @@ public class ReplyServiceImpl implements ReplyService {
 		// 회원 아이디로 작성한 댓글이거나 관리자이면 삭제
 		if (reply.isPresent() || auth.equals("ROLE_ADMIN")) {
 
-			// 해당 댓글 신고 내역있으면 삭제
+			// 해당 댓글 신고 내역있으면 회원별 신고 수 보정 후 삭제
 			List<Long> reportLogIds = reportLogRepository.findByReplyNo(replyNo);
 
+			if (!reportLogIds.isEmpty()) {
+				reportUserSummaryRepository.subtractByReportNos(reportLogIds);
+			}
+
 			for (Long reportLogId : reportLogIds) {
 
 				reportLogRepository.deleteReportLog(reportLogId);
 			}
 
+			// 댓글이 달린 게시물 번호, 삭제 후 댓글 수 감소
+			Optional<Long> postNo = replyRepository.findPostNoByReplyNo(replyNo);
+
 			replyRepository.deleteById(replyNo);
 
+			postNo.ifPresent(boardRepository::decreaseReplyCount);
+
 		} else {
 			log.error("Reply Service Delete Error : 403 Forbidden");
 		}
@@ -1,10 +1,9 @@
 package com.community.dogcat.service.home;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDate;
-import java.time.ZoneId;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -20,7 +19,8 @@ import com.community.dogcat.dto.home.search.AllSearchDTO;
 import com.community.dogcat.dto.home.search.HomePageRequestDTO;
 import com.community.dogcat.dto.home.search.HomeResponseDTO;
 import com.community.dogcat.repository.board.BoardRepository;
-import com.community.dogcat.repository.board.reply.ReplyRepository;
+import com.community.dogcat.service.board.popularity.PostPopularityService;
+import com.community.dogcat.service.search.PostSearchIndex;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,7 +33,11 @@ public class HomeServiceImpl implements HomeService {
 
 	private final BoardRepository boardRepository;
 
-	private final ReplyRepository replyRepository;
+	private final PostSearchIndex postSearchIndex;
+
+	private final PostPopularityService postPopularityService;
+
+	private static final int TODAY_SIZE = 10;
 
 	// 통합 검색 : 첨부파일 유/무 + 비밀글 제외
 	@Override
@@ -43,33 +47,49 @@ public class HomeServiceImpl implements HomeService {
 		String keyword = pageRequestDTO.getKeyword();
 		Pageable pageable = pageRequestDTO.getPageable();
 
-		Page<AllSearchDTO> result = boardRepository.searchAll(types, keyword, pageable);
+		// 검색 색인에서 점수순 postNo를 찾아 해당 페이지만 DB에서 조회
+		Optional<List<Long>> postNos = postSearchIndex.search(types, keyword, document -> !document.isSecret());
+
+		if (postNos.isPresent()) {
+			List<Long> hits = postNos.get();
+			int from = (int)Math.min(pageable.getOffset(), hits.size());
+			int to = Math.min(from + pageable.getPageSize(), hits.size());
 
-		// 추가할 정보 설정
-		List<AllSearchDTO> dtoList = result.getContent().stream()
-			.peek(dto -> {
-				// 포스트 하나에 달린 댓글 수 설정
-				Long replyCount = replyRepository.countRepliesByPost(dto.getPostNo());
-				dto.setReplyCount(replyCount != null ? replyCount : 0L);
-			})
-			.collect(Collectors.toList());
+			return HomeResponseDTO.<AllSearchDTO>withAll()
+				.pageRequestDTO(pageRequestDTO)
+				.dtoList(boardRepository.searchAllByPostNos(hits.subList(from, to)))
+				.total(hits.size())
+				.keyword(pageRequestDTO.getKeyword())
+				.build();
+		}
+
+		// 색인 준비 전, 한 글자 검색어 등은 기존 LIKE 검색
+		// 댓글 수는 post.reply_count 컬럼에서 함께 조회
+		Page<AllSearchDTO> result = boardRepository.searchAll(types, keyword, pageable);
 
 		return HomeResponseDTO.<AllSearchDTO>withAll()
 			.pageRequestDTO(pageRequestDTO)
-			.dtoList(dtoList)
+			.dtoList(result.getContent())
 			.total((int)result.getTotalElements())
 			.keyword(pageRequestDTO.getKeyword())
 			.build();
 	}
 
-	// 실시간 인기 게시글 리스트
+	// 실시간 인기 게시글 리스트, 최근 조회/댓글/좋아요 점수 순
 	public List<HomeTodayListDTO> getPostsForToday() {
 
-		LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
-		Instant startOfDay = today.atStartOfDay(ZoneId.of("Asia/Seoul")).toInstant();
-		Instant endOfDay = today.atTime(23, 59, 59).atZone(ZoneId.of("Asia/Seoul")).toInstant();
+		// 비밀글이 빠질 수 있으므로 여유있게 후보 조회
+		List<HomeTodayListDTO> ranked = boardRepository.todayListByPostNos(
+			postPopularityService.getTopPostNos(TODAY_SIZE * 3), TODAY_SIZE);
+
+		if (!ranked.isEmpty()) {
+			return ranked;
+		}
+
+		// 랭킹이 비어있는 경우(서버 시작 직후 등) 최근 24시간 조회수 순
+		Instant now = Instant.now();
 
-		return boardRepository.todayList(startOfDay, endOfDay, 10);
+		return boardRepository.todayList(now.minus(Duration.ofHours(24)), now, TODAY_SIZE);
 	}
 
 	// showOff 게시글 리스트
@@ -0,0 +1,133 @@
+package com.community.dogcat.service.home;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.community.dogcat.dto.home.HomeSnapshotDTO;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 홈 화면 목록 캐시 (stale-while-revalidate)
+// 요청은 항상 현재 스냅샷을 바로 반환하고, 재생성은 백그라운드 스레드 하나에서만 실행
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HomeSnapshotCache {
+
+	private final HomeService homeService;
+
+	private final AtomicReference<HomeSnapshotDTO> snapshot = new AtomicReference<>();
+
+	// 재생성 요청 중복 방지
+	private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+	// 재생성 중에 무효화 요청이 다시 들어온 경우 한 번 더 재생성
+	private final AtomicBoolean stale = new AtomicBoolean(false);
+
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "home-snapshot");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	// 서버 시작시 미리 생성
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		refreshAsync();
+	}
+
+	// 현재 스냅샷, 아직 한 번도 생성되지 않은 경우에만 직접 생성
+	public HomeSnapshotDTO get() {
+
+		HomeSnapshotDTO current = snapshot.get();
+
+		if (current == null) {
+			current = build();
+			snapshot.compareAndSet(null, current);
+		}
+
+		return current;
+	}
+
+	// 게시글 등록/수정/삭제시 호출, 커밋 후 백그라운드 재생성
+	public void invalidate() {
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					refreshAsync();
+				}
+			});
+		} else {
+			refreshAsync();
+		}
+	}
+
+	// 오늘 인기글 기간 변경 등을 위한 주기적 재생성
+	@Scheduled(fixedDelayString = "${home.snapshot.refreshInterval:60000}")
+	public void scheduledRefresh() {
+		refreshAsync();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	private void refreshAsync() {
+
+		if (executor.isShutdown()) {
+			return;
+		}
+
+		stale.set(true);
+
+		if (!refreshing.compareAndSet(false, true)) {
+			return;
+		}
+
+		executor.execute(() -> {
+			try {
+				while (stale.getAndSet(false)) {
+					snapshot.set(build());
+				}
+			} catch (Exception e) {
+				// 실패시 이전 스냅샷 유지
+				log.error("Home Snapshot: 재생성 실패, 이전 스냅샷 사용", e);
+			} finally {
+				refreshing.set(false);
+				// finally 직전에 들어온 요청 처리
+				if (stale.get()) {
+					refreshAsync();
+				}
+			}
+		});
+	}
+
+	private HomeSnapshotDTO build() {
+
+		return HomeSnapshotDTO.builder()
+			.todayList(List.copyOf(homeService.getPostsForToday()))
+			.showOffList(List.copyOf(homeService.getShowOffPosts()))
+			.generalList(List.copyOf(homeService.getGeneralPosts()))
+			.tipList(List.copyOf(homeService.getTipPosts()))
+			.qnaList(List.copyOf(homeService.getQnaPosts()))
+			.builtAt(Instant.now())
+			.build();
+	}
+}
@@ -5,6 +5,7 @@ import com.community.dogcat.dto.myPage.activity.UserPageResponseDTO;
 import com.community.dogcat.dto.myPage.activity.UserPostsActivityDTO;
 import com.community.dogcat.dto.myPage.activity.UserRepliesActivityDTO;
 import com.community.dogcat.dto.myPage.activity.UserScrapsActivityDTO;
+import com.community.dogcat.dto.myPage.activity.UserSliceResponseDTO;
 
 public interface UserActivityService {
 
@@ -17,4 +18,13 @@ public interface UserActivityService {
 	// userId에 해당하는 보관한 게시글 목록
 	UserPageResponseDTO<UserScrapsActivityDTO> listWithScraps(UserPageRequestDTO pageRequestDTO);
 
+	// userId에 해당하는 게시물들 커서 페이징 (무한 스크롤)
+	UserSliceResponseDTO<UserPostsActivityDTO> sliceWithPosts(UserPageRequestDTO pageRequestDTO);
+
+	// userId에 해당하는 댓글들 커서 페이징 (무한 스크롤)
+	UserSliceResponseDTO<UserRepliesActivityDTO> sliceWithReplies(UserPageRequestDTO pageRequestDTO);
+
+	// userId에 해당하는 보관한 게시글 커서 페이징 (무한 스크롤)
+	UserSliceResponseDTO<UserScrapsActivityDTO> sliceWithScraps(UserPageRequestDTO pageRequestDTO);
+
 }
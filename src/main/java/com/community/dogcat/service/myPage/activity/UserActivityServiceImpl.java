@@ -1,10 +1,10 @@
 package com.community.dogcat.service.myPage.activity;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.community.dogcat.dto.myPage.activity.UserPageRequestDTO;
@@ -12,9 +12,11 @@ import com.community.dogcat.dto.myPage.activity.UserPageResponseDTO;
 import com.community.dogcat.dto.myPage.activity.UserPostsActivityDTO;
 import com.community.dogcat.dto.myPage.activity.UserRepliesActivityDTO;
 import com.community.dogcat.dto.myPage.activity.UserScrapsActivityDTO;
+import com.community.dogcat.dto.myPage.activity.UserSliceResponseDTO;
 import com.community.dogcat.repository.board.BoardRepository;
 import com.community.dogcat.repository.board.reply.ReplyRepository;
 import com.community.dogcat.repository.board.scrap.ScrapRepository;
+import com.community.dogcat.repository.search.KeysetCursor;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -42,14 +44,8 @@ public class UserActivityServiceImpl implements UserActivityService {
 
 		Page<UserPostsActivityDTO> result = boardRepository.postListWithUser(types, keyword, pageable, userId);
 
-		// 추가할 정보 설정
-		List<UserPostsActivityDTO> dtoList = result.getContent().stream()
-			.peek(dto -> {
-				// 포스트 하나에 달린 댓글 수 설정
-				Long postReplyCount = replyRepository.countRepliesByPost(dto.getPostNo());
-				dto.setPostReplyCount(postReplyCount != null ? postReplyCount : 0L);
-			})
-			.collect(Collectors.toList());
+		// 포스트 하나에 달린 댓글 수는 post.reply_count 컬럼에서 함께 조회
+		List<UserPostsActivityDTO> dtoList = result.getContent();
 
 		// 회원이 작성한 게시글 수 찾기
 		Long postCount = boardRepository.countPostsByUser(userId);
@@ -109,14 +105,8 @@ public class UserActivityServiceImpl implements UserActivityService {
 
 		Page<UserScrapsActivityDTO> result = scrapRepository.scrapsListWithUser(types, keyword, pageable, userId);
 
-		// 추가할 정보 설정
-		List<UserScrapsActivityDTO> dtoList = result.getContent().stream()
-			.peek(dto -> {
-				// 포스트 하나에 달린 댓글 수 설정
-				Long postReplyCount = replyRepository.countRepliesByPost(dto.getPostNo());
-				dto.setPostReplyCount(postReplyCount != null ? postReplyCount : 0L);
-			})
-			.collect(Collectors.toList());
+		// 포스트 하나에 달린 댓글 수는 post.reply_count 컬럼에서 함께 조회
+		List<UserScrapsActivityDTO> dtoList = result.getContent();
 
 		// 회원이 작성한 게시글 수 찾기
 		Long postCount = boardRepository.countPostsByUser(userId);
@@ -136,5 +126,76 @@ public class UserActivityServiceImpl implements UserActivityService {
 			.build();
 	}
 
-}
+	// userId에 해당하는 게시물들 커서 페이징 (무한 스크롤), 전체 갯수 조회 없음
+	@Override
+	public UserSliceResponseDTO<UserPostsActivityDTO> sliceWithPosts(UserPageRequestDTO pageRequestDTO) {
+
+		Slice<UserPostsActivityDTO> result = boardRepository.postListWithUserByCursor(pageRequestDTO.getTypes(),
+			pageRequestDTO.getKeyword(), pageRequestDTO.getSize(), pageRequestDTO.getUserId(),
+			pageRequestDTO.getCursor());
+
+		// 마지막 항목의 (regDate, postNo)로 다음 커서 생성
+		String nextCursor = null;
+		if (result.hasNext()) {
+			UserPostsActivityDTO last = result.getContent().get(result.getNumberOfElements() - 1);
+			nextCursor = KeysetCursor.of(last.getRegDate(), last.getPostNo()).encode();
+		}
 
+		return UserSliceResponseDTO.<UserPostsActivityDTO>builder()
+			.size(pageRequestDTO.getSize())
+			.dtoList(result.getContent())
+			.hasNext(result.hasNext())
+			.nextCursor(nextCursor)
+			.userId(pageRequestDTO.getUserId())
+			.build();
+	}
+
+	// userId에 해당하는 댓글들 커서 페이징 (무한 스크롤), 전체 갯수 조회 없음
+	@Override
+	public UserSliceResponseDTO<UserRepliesActivityDTO> sliceWithReplies(UserPageRequestDTO pageRequestDTO) {
+
+		Slice<UserRepliesActivityDTO> result = replyRepository.repliesListWithUserByCursor(
+			pageRequestDTO.getKeyword(), pageRequestDTO.getSize(), pageRequestDTO.getUserId(),
+			pageRequestDTO.getCursor());
+
+		// 마지막 항목의 (regDate, replyNo)로 다음 커서 생성
+		String nextCursor = null;
+		if (result.hasNext()) {
+			UserRepliesActivityDTO last = result.getContent().get(result.getNumberOfElements() - 1);
+			nextCursor = KeysetCursor.of(last.getRegDate(), last.getReplyNo()).encode();
+		}
+
+		return UserSliceResponseDTO.<UserRepliesActivityDTO>builder()
+			.size(pageRequestDTO.getSize())
+			.dtoList(result.getContent())
+			.hasNext(result.hasNext())
+			.nextCursor(nextCursor)
+			.userId(pageRequestDTO.getUserId())
+			.build();
+	}
+
+	// userId에 해당하는 보관한 게시글 커서 페이징 (무한 스크롤), 전체 갯수 조회 없음
+	@Override
+	public UserSliceResponseDTO<UserScrapsActivityDTO> sliceWithScraps(UserPageRequestDTO pageRequestDTO) {
+
+		Slice<UserScrapsActivityDTO> result = scrapRepository.scrapsListWithUserByCursor(pageRequestDTO.getTypes(),
+			pageRequestDTO.getKeyword(), pageRequestDTO.getSize(), pageRequestDTO.getUserId(),
+			pageRequestDTO.getCursor());
+
+		// 마지막 항목의 scrapNo로 다음 커서 생성
+		String nextCursor = null;
+		if (result.hasNext()) {
+			UserScrapsActivityDTO last = result.getContent().get(result.getNumberOfElements() - 1);
+			nextCursor = KeysetCursor.of(last.getScrapNo(), last.getScrapNo()).encode();
+		}
+
+		return UserSliceResponseDTO.<UserScrapsActivityDTO>builder()
+			.size(pageRequestDTO.getSize())
+			.dtoList(result.getContent())
+			.hasNext(result.hasNext())
+			.nextCursor(nextCursor)
+			.userId(pageRequestDTO.getUserId())
+			.build();
+	}
+
+}
@@ -3,12 +3,14 @@ package com.community.dogcat.service.report;
 import com.community.dogcat.domain.Post;
 import com.community.dogcat.domain.Reply;
 import com.community.dogcat.domain.ReportLog;
+import com.community.dogcat.domain.ReportUserSummary;
 import com.community.dogcat.domain.User;
 import com.community.dogcat.dto.report.ReportLogDTO;
 import com.community.dogcat.dto.report.UserReportDetailDTO;
 import com.community.dogcat.repository.board.BoardRepository;
 import com.community.dogcat.repository.board.reply.ReplyRepository;
 import com.community.dogcat.repository.report.ReportLogRepository;
+import com.community.dogcat.repository.report.ReportUserSummaryRepository;
 import com.community.dogcat.repository.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,8 +18,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -31,66 +31,88 @@ public class ReportService {
     private final UserRepository userRepository;
     private final BoardRepository boardRepository;
     private final ReplyRepository replyRepository;
+    private final ReportUserSummaryRepository reportUserSummaryRepository;
 
     public void createReportLog(ReportLogDTO reportLogDTO) {
 
+        Post post = boardRepository.findByPostNo(reportLogDTO.getPostNo());
+        Reply reply = replyRepository.findByReplyNo(reportLogDTO.getReplyNo());
+
+        // 신고 받은 회원, 신고 대상 (게시글 신고에는 postNo, 댓글 신고에는 replyNo 만 전달됨)
+        User reportedUser = post != null ? post.getUserId() : reply != null ? reply.getUserId() : null;
+        ReportLog.TargetType targetType = post != null ? ReportLog.TargetType.POST :
+                reply != null ? ReportLog.TargetType.REPLY : null;
+
         //신고 생성
         ReportLog reportLog = ReportLog.builder()
                 .userId(userRepository.findByUserId(reportLogDTO.getUserId()))
-                .postNo(boardRepository.findByPostNo(reportLogDTO.getPostNo()))
-                .replyNo(replyRepository.findByReplyNo(reportLogDTO.getReplyNo()))
+                .postNo(post)
+                .replyNo(reply)
+                .reportedUserId(reportedUser != null ? reportedUser.getUserId() : null)
+                .targetType(targetType)
                 .reportTitle(reportLogDTO.getReportTitle())
                 .reportContent(reportLogDTO.getReportContent())
                 .regDate(Instant.now())
                 .build();
 
         reportLogRepository.save(reportLog);
+
+        // 회원별 받은 신고 수 증가
+        if (reportedUser != null) {
+            boolean postReport = targetType == ReportLog.TargetType.POST;
+            reportUserSummaryRepository.increment(reportedUser.getUserId(), postReport ? 1 : 0, postReport ? 0 : 1,
+                    reportLog.getRegDate());
+        }
     }
 
+    // 회원이 받은 신고 목록, reported_user_id 로 한 번에 조회
     public List<UserReportDetailDTO> findReportedByUserId(String userId) {
-        User user = userRepository.findByUserId(userId);
-        List<UserReportDetailDTO> userReportDetailDTOS = new ArrayList<>();
-
-        // 게시글 신고 정보 가져오기
-        List<Post> userPosts = boardRepository.findByUserId(user);
-        for (Post post : userPosts) {
-            List<Long> reportNos = reportLogRepository.findByPostNo(post.getPostNo());
-            for (Long reportNo : reportNos) {
-                UserReportDetailDTO dto = UserReportDetailDTO.builder()
-                        .postNo(post.getPostNo())
-                        .postTitle(post.getPostTitle())
-                        .reportNo(reportNo)
-                        .regDate(post.getRegDate())
-                        .boardCode(post.getBoardCode())
-                        .build();
-                userReportDetailDTOS.add(dto);
-            }
-        }
 
-        // 댓글 신고 정보 가져오기
-        List<Reply> userReplies = replyRepository.findByUserId(user);
-        for (Reply reply : userReplies) {
-            List<Long> reportNos = reportLogRepository.findByReplyNo(reply.getReplyNo());
-            for (Long reportNo : reportNos) {
-                UserReportDetailDTO dto = UserReportDetailDTO.builder()
-                        .replyNo(reply.getReplyNo())
-                        .replyContent(reply.getReplyContent())
-                        .reportNo(reportNo)
-                        .ReplyregDate(reply.getRegDate())
-                        .build();
-                userReportDetailDTOS.add(dto);
-            }
-        }
-        // reportNo 순으로 정렬
-        userReportDetailDTOS.sort(Comparator.comparing(UserReportDetailDTO::getReportNo));
+        return reportLogRepository.findAllByReportedUserId(userId).stream()
+                .map(reportLog -> {
+                    Post post = reportLog.getPostNo();
+                    Reply reply = reportLog.getReplyNo();
+
+                    // 게시글 신고 정보
+                    if (post != null) {
+                        return UserReportDetailDTO.builder()
+                                .postNo(post.getPostNo())
+                                .postTitle(post.getPostTitle())
+                                .reportNo(reportLog.getReportNo())
+                                .regDate(post.getRegDate())
+                                .boardCode(post.getBoardCode())
+                                .build();
+                    }
+
+                    // 댓글 신고 정보
+                    return UserReportDetailDTO.builder()
+                            .replyNo(reply.getReplyNo())
+                            .replyContent(reply.getReplyContent())
+                            .reportNo(reportLog.getReportNo())
+                            .ReplyregDate(reply.getRegDate())
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
+    // 회원별 받은 신고 수 (없으면 null)
+    @Transactional(readOnly = true)
+    public ReportUserSummary findReportSummary(String userId) {
+        return reportUserSummaryRepository.findById(userId).orElse(null);
+    }
 
-        return userReportDetailDTOS;
+    // report_log 기준으로 회원별 신고 수 다시 계산
+    public void rebuildReportSummary() {
+        reportUserSummaryRepository.deleteAllRows();
+        int users = reportUserSummaryRepository.insertFromReportLog();
+        log.info("Report Summary: 회원 {} 명 신고 수 재계산", users);
     }
 
 
     //신고 삭제
     @Transactional
     public void deleteReportLog(Long reportNo) {
+        reportUserSummaryRepository.subtractByReportNos(List.of(reportNo));
         reportLogRepository.deleteReportLog(reportNo);
     }
 
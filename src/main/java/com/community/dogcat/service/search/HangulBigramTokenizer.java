@@ -0,0 +1,107 @@
+package com.community.dogcat.service.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+// 한글은 형태소 분석 없이도 부분 일치 검색이 되도록 2글자(bigram) 단위로 색인
+// "강아지산책" -> 강아, 아지, 지산, 산책
+public final class HangulBigramTokenizer {
+
+	// summernote 본문의 태그, 엔티티 제거
+	private static final Pattern HTML_TAG = Pattern.compile("<[^>]*>");
+
+	private static final Pattern HTML_ENTITY = Pattern.compile("&[#a-zA-Z0-9]+;");
+
+	private HangulBigramTokenizer() {
+	}
+
+	// 본문 HTML 제거
+	public static String stripHtml(String html) {
+
+		if (html == null) {
+			return "";
+		}
+
+		String text = HTML_TAG.matcher(html).replaceAll(" ");
+
+		return HTML_ENTITY.matcher(text).replaceAll(" ");
+	}
+
+	// 문서 색인용 : bigram별 등장 횟수, 한 글자 단어는 그대로 색인
+	public static Map<String, Integer> termFrequencies(String text) {
+
+		Map<String, Integer> frequencies = new HashMap<>();
+
+		for (String word : words(text)) {
+			if (word.length() == 1) {
+				frequencies.merge(word, 1, Integer::sum);
+				continue;
+			}
+			for (int i = 0; i < word.length() - 1; i++) {
+				frequencies.merge(word.substring(i, i + 2), 1, Integer::sum);
+			}
+		}
+
+		return frequencies;
+	}
+
+	// 검색어용 : 중복 제거한 bigram 목록, 한 글자 단어가 있으면 부분 일치를 보장할 수 없어 null 반환 (DB 검색 사용)
+	public static List<String> queryTerms(String keyword) {
+
+		List<String> words = words(keyword);
+
+		if (words.isEmpty()) {
+			return null;
+		}
+
+		Set<String> terms = new LinkedHashSet<>();
+
+		for (String word : words) {
+			if (word.length() < 2) {
+				return null;
+			}
+			for (int i = 0; i < word.length() - 1; i++) {
+				terms.add(word.substring(i, i + 2));
+			}
+		}
+
+		return new ArrayList<>(terms);
+	}
+
+	// 정규화(NFC, 소문자) 후 문자/숫자 연속 구간으로 분리
+	private static List<String> words(String text) {
+
+		List<String> words = new ArrayList<>();
+
+		if (text == null || text.isEmpty()) {
+			return words;
+		}
+
+		String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+
+		StringBuilder word = new StringBuilder();
+
+		for (int i = 0; i < normalized.length(); i++) {
+			char c = normalized.charAt(i);
+			if (Character.isLetterOrDigit(c)) {
+				word.append(c);
+			} else if (word.length() > 0) {
+				words.add(word.toString());
+				word.setLength(0);
+			}
+		}
+
+		if (word.length() > 0) {
+			words.add(word.toString());
+		}
+
+		return words;
+	}
+}
@@ -0,0 +1,30 @@
+package com.community.dogcat.service.search;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+// 색인된 게시글 한 건 (필터 조건 + 필드별 bigram 빈도), 스냅샷 파일 형식은 PostSearchIndexSnapshot 참고
+@Getter
+@Builder
+@AllArgsConstructor
+public class PostIndexDocument {
+
+	private final Long postNo;
+
+	private final String userId;
+
+	private final String boardCode;
+
+	private final String postTag;
+
+	private final boolean secret;
+
+	private final long regDate;
+
+	private final Map<String, Integer> titleTerms;
+
+	private final Map<String, Integer> contentTerms;
+}
@@ -0,0 +1,572 @@
+package com.community.dogcat.service.search;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.community.dogcat.dto.search.PostIndexSourceDTO;
+import com.community.dogcat.repository.board.BoardRepository;
+import com.community.dogcat.repository.user.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 통합 검색/게시판 검색용 인메모리 역색인 (제목, 본문, 작성자 닉네임)
+// 색인이 준비되기 전이거나 색인으로 처리할 수 없는 검색어는 Optional.empty()를 반환해서 기존 DB LIKE 검색 사용
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostSearchIndex {
+
+	// 필드별 가중치, 제목 일치를 본문 일치보다 높게
+	private static final double TITLE_WEIGHT = 3.0;
+
+	private static final double CONTENT_WEIGHT = 1.0;
+
+	private static final double NICKNAME_WEIGHT = 2.0;
+
+	// 스냅샷 시각과 DB 시각 차이 보정
+	private static final Duration CATCH_UP_MARGIN = Duration.ofMinutes(1);
+
+	private final BoardRepository boardRepository;
+
+	private final UserRepository userRepository;
+
+	@Value("${search.index.enabled:true}")
+	private boolean enabled;
+
+	@Value("${search.index.snapshotPath:./search-index/post-index.snapshot}")
+	private String snapshotPath;
+
+	// 전체 재색인시 한 번에 읽을 postNo 구간 크기
+	@Value("${search.index.batchSize:500}")
+	private long batchSize;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	// postNo -> 색인 문서
+	private final Map<Long, PostIndexDocument> documents = new HashMap<>();
+
+	// bigram -> (postNo -> 등장 횟수)
+	private final Map<String, Map<Long, Integer>> titlePostings = new HashMap<>();
+
+	private final Map<String, Map<Long, Integer>> contentPostings = new HashMap<>();
+
+	// 닉네임은 회원 단위로 색인 (닉네임 변경시 게시글 재색인 불필요)
+	private final Map<String, String> nicknames = new HashMap<>();
+
+	private final Map<String, Set<String>> nicknamePostings = new HashMap<>();
+
+	private final Map<String, Set<Long>> userPosts = new HashMap<>();
+
+	private volatile boolean ready = false;
+
+	private volatile boolean dirty = false;
+
+	// 서버 시작시 스냅샷 로드 후 변경분 반영, 스냅샷이 없으면 DB에서 전체 색인
+	@EventListener(ApplicationReadyEvent.class)
+	public void initialize() {
+
+		if (!enabled) {
+			log.info("Search Index: 비활성화 상태, DB 검색 사용");
+			return;
+		}
+
+		try {
+			PostSearchIndexSnapshot snapshot = readSnapshot();
+
+			if (snapshot != null) {
+				restore(snapshot);
+				catchUp(snapshot.getBuiltAt().minus(CATCH_UP_MARGIN));
+			} else {
+				rebuild();
+			}
+
+			ready = true;
+			writeSnapshot();
+
+			log.info("Search Index: 게시글 {} 건 색인 완료", documents.size());
+		} catch (Exception e) {
+			log.error("Search Index: 초기화 실패, DB 검색 사용", e);
+		}
+	}
+
+	public boolean isReady() {
+		return ready;
+	}
+
+	// 게시글 등록/수정시 색인, 트랜잭션 커밋 후 반영
+	public void index(PostIndexSourceDTO source) {
+
+		if (enabled) {
+			afterCommit(() -> put(source));
+		}
+	}
+
+	// 게시글 삭제시 색인에서 제거
+	public void remove(Long postNo) {
+
+		if (enabled) {
+			afterCommit(() -> delete(postNo));
+		}
+	}
+
+	// 회원 탈퇴시 회원의 게시글, 닉네임 제거
+	public void removeUser(String userId) {
+
+		if (enabled) {
+			afterCommit(() -> deleteUser(userId));
+		}
+	}
+
+	// 회원 정보 수정시 닉네임 재색인
+	public void updateNickname(String userId, String nickname) {
+
+		if (enabled) {
+			afterCommit(() -> {
+				lock.writeLock().lock();
+				try {
+					putNickname(userId, nickname);
+					dirty = true;
+				} finally {
+					lock.writeLock().unlock();
+				}
+			});
+		}
+	}
+
+	// types(t: 제목, c: 본문, u: 닉네임)에 해당하는 게시글을 점수순으로 반환
+	// 검색어에 모든 bigram이 포함된 게시글만 일치로 보고, 필드별로는 OR (기존 BooleanBuilder.or 조건과 동일)
+	public Optional<List<Long>> search(String[] types, String keyword, Predicate<PostIndexDocument> filter) {
+
+		if (!ready || types == null || types.length == 0) {
+			return Optional.empty();
+		}
+
+		for (String type : types) {
+			if (!"t".equals(type) && !"c".equals(type) && !"u".equals(type)) {
+				return Optional.empty();
+			}
+		}
+
+		List<String> terms = HangulBigramTokenizer.queryTerms(keyword);
+
+		if (terms == null) {
+			return Optional.empty();
+		}
+
+		lock.readLock().lock();
+		try {
+			Map<Long, Double> scores = new HashMap<>();
+
+			for (String type : types) {
+				switch (type) {
+					case "t":
+						scoreField(titlePostings, terms, TITLE_WEIGHT, scores);
+						break;
+					case "c":
+						scoreField(contentPostings, terms, CONTENT_WEIGHT, scores);
+						break;
+					case "u":
+						scoreNickname(terms, scores);
+						break;
+				}
+			}
+
+			List<Long> postNos = new ArrayList<>();
+
+			scores.entrySet().stream()
+				.filter(entry -> {
+					PostIndexDocument document = documents.get(entry.getKey());
+					return document != null && filter.test(document);
+				})
+				.sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+					.thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+				.forEach(entry -> postNos.add(entry.getKey()));
+
+			return Optional.of(postNos);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// 주기적으로 변경분이 있으면 스냅샷 저장
+	@Scheduled(fixedDelayString = "${search.index.snapshotDelay:600000}")
+	public void snapshotIfDirty() {
+
+		if (ready && dirty) {
+			writeSnapshot();
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+
+		if (ready && dirty) {
+			writeSnapshot();
+		}
+	}
+
+	// 모든 검색어 bigram을 포함하는 문서에 tf-idf 점수 부여
+	private void scoreField(Map<String, Map<Long, Integer>> postings, List<String> terms, double weight,
+		Map<Long, Double> scores) {
+
+		Map<Long, Double> fieldScores = null;
+
+		for (String term : terms) {
+			Map<Long, Integer> posting = postings.get(term);
+
+			if (posting == null) {
+				return;
+			}
+
+			double idf = Math.log(1.0 + (double)documents.size() / posting.size());
+
+			if (fieldScores == null) {
+				fieldScores = new HashMap<>();
+				for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+					fieldScores.put(entry.getKey(), entry.getValue() * idf);
+				}
+			} else {
+				Map<Long, Double> next = new HashMap<>();
+				for (Map.Entry<Long, Double> entry : fieldScores.entrySet()) {
+					Integer frequency = posting.get(entry.getKey());
+					if (frequency != null) {
+						next.put(entry.getKey(), entry.getValue() + frequency * idf);
+					}
+				}
+				fieldScores = next;
+			}
+
+			if (fieldScores.isEmpty()) {
+				return;
+			}
+		}
+
+		if (fieldScores != null) {
+			fieldScores.forEach((postNo, score) -> scores.merge(postNo, score * weight, Double::sum));
+		}
+	}
+
+	// 닉네임에 모든 bigram이 포함된 회원의 게시글
+	private void scoreNickname(List<String> terms, Map<Long, Double> scores) {
+
+		Set<String> userIds = null;
+
+		for (String term : terms) {
+			Set<String> posting = nicknamePostings.get(term);
+
+			if (posting == null) {
+				return;
+			}
+
+			if (userIds == null) {
+				userIds = new HashSet<>(posting);
+			} else {
+				userIds.retainAll(posting);
+			}
+
+			if (userIds.isEmpty()) {
+				return;
+			}
+		}
+
+		if (userIds != null) {
+			for (String userId : userIds) {
+				for (Long postNo : userPosts.getOrDefault(userId, Set.of())) {
+					scores.merge(postNo, NICKNAME_WEIGHT, Double::sum);
+				}
+			}
+		}
+	}
+
+	// 전체 재색인, postNo 구간별로 DB 조회
+	private void rebuild() {
+
+		Long maxPostNo = boardRepository.findMaxPostNo();
+
+		if (maxPostNo == null) {
+			return;
+		}
+
+		for (long from = 1; from <= maxPostNo; from += batchSize) {
+			long to = Math.min(from + batchSize - 1, maxPostNo);
+			boardRepository.findIndexSources(from, to).forEach(this::put);
+		}
+	}
+
+	// 스냅샷 이후 등록/수정된 게시글 재색인, 삭제된 게시글 제거, 닉네임 갱신
+	private void catchUp(Instant since) {
+
+		List<PostIndexSourceDTO> changed = boardRepository.findIndexSourcesModifiedSince(since);
+		changed.forEach(this::put);
+
+		Set<Long> existing = new HashSet<>(boardRepository.findAllPostNos());
+
+		List<Long> removed = new ArrayList<>();
+		lock.readLock().lock();
+		try {
+			for (Long postNo : documents.keySet()) {
+				if (!existing.contains(postNo)) {
+					removed.add(postNo);
+				}
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		removed.forEach(this::delete);
+
+		lock.writeLock().lock();
+		try {
+			for (UserRepository.NicknameView view : userRepository.findAllProjectedBy()) {
+				if (userPosts.containsKey(view.getUserId())) {
+					putNickname(view.getUserId(), view.getNickname());
+				}
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+
+		log.info("Search Index: 스냅샷 이후 변경 {} 건, 삭제 {} 건 반영", changed.size(), removed.size());
+	}
+
+	private void put(PostIndexSourceDTO source) {
+
+		PostIndexDocument document = PostIndexDocument.builder()
+			.postNo(source.getPostNo())
+			.userId(source.getUserId())
+			.boardCode(source.getBoardCode())
+			.postTag(source.getPostTag())
+			.secret(source.isSecret())
+			.regDate(source.getRegDate() != null ? source.getRegDate().toEpochMilli() : 0L)
+			.titleTerms(HangulBigramTokenizer.termFrequencies(source.getPostTitle()))
+			.contentTerms(HangulBigramTokenizer.termFrequencies(
+				HangulBigramTokenizer.stripHtml(source.getPostContent())))
+			.build();
+
+		lock.writeLock().lock();
+		try {
+			unlink(documents.get(document.getPostNo()));
+			link(document);
+			putNickname(source.getUserId(), source.getNickname());
+			dirty = true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void delete(Long postNo) {
+
+		lock.writeLock().lock();
+		try {
+			unlink(documents.get(postNo));
+			dirty = true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void deleteUser(String userId) {
+
+		lock.writeLock().lock();
+		try {
+			for (Long postNo : new ArrayList<>(userPosts.getOrDefault(userId, Set.of()))) {
+				unlink(documents.get(postNo));
+			}
+			putNickname(userId, null);
+			dirty = true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// 쓰기 락 안에서 호출
+	private void link(PostIndexDocument document) {
+
+		documents.put(document.getPostNo(), document);
+
+		document.getTitleTerms().forEach((term, frequency) ->
+			titlePostings.computeIfAbsent(term, key -> new HashMap<>()).put(document.getPostNo(), frequency));
+		document.getContentTerms().forEach((term, frequency) ->
+			contentPostings.computeIfAbsent(term, key -> new HashMap<>()).put(document.getPostNo(), frequency));
+
+		if (document.getUserId() != null) {
+			userPosts.computeIfAbsent(document.getUserId(), key -> new HashSet<>()).add(document.getPostNo());
+		}
+	}
+
+	// 쓰기 락 안에서 호출
+	private void unlink(PostIndexDocument document) {
+
+		if (document == null) {
+			return;
+		}
+
+		documents.remove(document.getPostNo());
+
+		unlinkTerms(titlePostings, document.getTitleTerms().keySet(), document.getPostNo());
+		unlinkTerms(contentPostings, document.getContentTerms().keySet(), document.getPostNo());
+
+		Set<Long> posts = userPosts.get(document.getUserId());
+		if (posts != null) {
+			posts.remove(document.getPostNo());
+			if (posts.isEmpty()) {
+				userPosts.remove(document.getUserId());
+			}
+		}
+	}
+
+	private void unlinkTerms(Map<String, Map<Long, Integer>> postings, Set<String> terms, Long postNo) {
+
+		for (String term : terms) {
+			Map<Long, Integer> posting = postings.get(term);
+			if (posting != null) {
+				posting.remove(postNo);
+				if (posting.isEmpty()) {
+					postings.remove(term);
+				}
+			}
+		}
+	}
+
+	// 쓰기 락 안에서 호출, nickname이 null이면 제거
+	private void putNickname(String userId, String nickname) {
+
+		if (userId == null) {
+			return;
+		}
+
+		String previous = nickname != null ? nicknames.put(userId, nickname) : nicknames.remove(userId);
+
+		if (previous != null && previous.equals(nickname)) {
+			return;
+		}
+
+		if (previous != null) {
+			for (String term : HangulBigramTokenizer.termFrequencies(previous).keySet()) {
+				Set<String> posting = nicknamePostings.get(term);
+				if (posting != null) {
+					posting.remove(userId);
+					if (posting.isEmpty()) {
+						nicknamePostings.remove(term);
+					}
+				}
+			}
+		}
+
+		if (nickname != null) {
+			for (String term : HangulBigramTokenizer.termFrequencies(nickname).keySet()) {
+				nicknamePostings.computeIfAbsent(term, key -> new HashSet<>()).add(userId);
+			}
+		}
+	}
+
+	private void restore(PostSearchIndexSnapshot snapshot) {
+
+		lock.writeLock().lock();
+		try {
+			snapshot.getDocuments().values().forEach(this::link);
+			snapshot.getNicknames().forEach(this::putNickname);
+		} finally {
+			lock.writeLock().unlock();
+		}
+
+		log.info("Search Index: 스냅샷 로드 ({} 건, {} 기준)", documents.size(), snapshot.getBuiltAt());
+	}
+
+	private PostSearchIndexSnapshot readSnapshot() {
+
+		Path path = Paths.get(snapshotPath);
+
+		if (!Files.exists(path)) {
+			return null;
+		}
+
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+
+			return PostSearchIndexSnapshot.readFrom(in);
+		} catch (IOException | RuntimeException e) {
+			// 형식/버전 불일치, 손상된 파일 모두 DB에서 전체 재색인
+			log.warn("Search Index: 스냅샷 읽기 실패, 전체 재색인 - {}", e.getMessage());
+			return null;
+		}
+	}
+
+	// 임시 파일에 쓴 뒤 교체해서 쓰는 도중 종료되어도 이전 스냅샷 유지
+	private synchronized void writeSnapshot() {
+
+		PostSearchIndexSnapshot snapshot;
+
+		lock.readLock().lock();
+		try {
+			snapshot = new PostSearchIndexSnapshot(PostSearchIndexSnapshot.VERSION, Instant.now(),
+				new HashMap<>(documents), new HashMap<>(nicknames));
+			dirty = false;
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		Path path = Paths.get(snapshotPath).toAbsolutePath();
+
+		try {
+			Files.createDirectories(path.getParent());
+
+			Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+				snapshot.writeTo(out);
+			}
+
+			Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+			log.info("Search Index: 스냅샷 저장 {} 건", snapshot.getDocuments().size());
+		} catch (IOException e) {
+			dirty = true;
+			log.error("Search Index: 스냅샷 저장 실패", e);
+		}
+	}
+
+	// 롤백된 변경이 색인에 반영되지 않도록 커밋 후 실행
+	private void afterCommit(Runnable task) {
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					task.run();
+				}
+			});
+		} else {
+			task.run();
+		}
+	}
+}
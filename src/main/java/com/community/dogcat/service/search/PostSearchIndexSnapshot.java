@@ -0,0 +1,150 @@
+package com.community.dogcat.service.search;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 검색 색인 디스크 스냅샷, 재시작시 DB 전체 재색인 대신 로드 후 builtAt 이후 변경분만 반영
+// 자바 직렬화 대신 필드를 순서대로 기록 (파일 내용으로 임의 클래스가 생성되지 않음)
+// 형식 : MAGIC, VERSION, builtAt, 문서 수, 문서들, 닉네임 수, (userId, 닉네임)들
+@Getter
+@AllArgsConstructor
+public class PostSearchIndexSnapshot {
+
+	// 스냅샷 파일 식별값 ("DCSI")
+	private static final int MAGIC = 0x44435349;
+
+	// 색인 구조나 파일 형식이 바뀌면 올려서 이전 스냅샷 무시
+	public static final int VERSION = 2;
+
+	private final int version;
+
+	private final Instant builtAt;
+
+	private final Map<Long, PostIndexDocument> documents;
+
+	// userId -> 닉네임
+	private final Map<String, String> nicknames;
+
+	public void writeTo(DataOutputStream out) throws IOException {
+
+		out.writeInt(MAGIC);
+		out.writeInt(version);
+		out.writeLong(builtAt.toEpochMilli());
+
+		out.writeInt(documents.size());
+		for (PostIndexDocument document : documents.values()) {
+			out.writeLong(document.getPostNo());
+			writeNullable(out, document.getUserId());
+			writeNullable(out, document.getBoardCode());
+			writeNullable(out, document.getPostTag());
+			out.writeBoolean(document.isSecret());
+			out.writeLong(document.getRegDate());
+			writeTerms(out, document.getTitleTerms());
+			writeTerms(out, document.getContentTerms());
+		}
+
+		out.writeInt(nicknames.size());
+		for (Map.Entry<String, String> entry : nicknames.entrySet()) {
+			out.writeUTF(entry.getKey());
+			writeNullable(out, entry.getValue());
+		}
+	}
+
+	// 형식/버전이 다르거나 파일이 잘렸으면 IOException (호출한 쪽에서 전체 재색인)
+	public static PostSearchIndexSnapshot readFrom(DataInputStream in) throws IOException {
+
+		if (in.readInt() != MAGIC) {
+			throw new IOException("스냅샷 형식 아님");
+		}
+
+		int version = in.readInt();
+
+		if (version != VERSION) {
+			throw new IOException("스냅샷 버전 불일치 " + version);
+		}
+
+		Instant builtAt = Instant.ofEpochMilli(in.readLong());
+
+		int documentCount = readCount(in);
+		Map<Long, PostIndexDocument> documents = new HashMap<>();
+
+		for (int i = 0; i < documentCount; i++) {
+			PostIndexDocument document = PostIndexDocument.builder()
+				.postNo(in.readLong())
+				.userId(readNullable(in))
+				.boardCode(readNullable(in))
+				.postTag(readNullable(in))
+				.secret(in.readBoolean())
+				.regDate(in.readLong())
+				.titleTerms(readTerms(in))
+				.contentTerms(readTerms(in))
+				.build();
+
+			documents.put(document.getPostNo(), document);
+		}
+
+		int nicknameCount = readCount(in);
+		Map<String, String> nicknames = new HashMap<>();
+
+		for (int i = 0; i < nicknameCount; i++) {
+			nicknames.put(in.readUTF(), readNullable(in));
+		}
+
+		if (in.read() != -1) {
+			throw new IOException("스냅샷 끝에 알 수 없는 데이터");
+		}
+
+		return new PostSearchIndexSnapshot(version, builtAt, documents, nicknames);
+	}
+
+	private static void writeTerms(DataOutputStream out, Map<String, Integer> terms) throws IOException {
+
+		out.writeInt(terms.size());
+		for (Map.Entry<String, Integer> entry : terms.entrySet()) {
+			out.writeUTF(entry.getKey());
+			out.writeInt(entry.getValue());
+		}
+	}
+
+	private static Map<String, Integer> readTerms(DataInputStream in) throws IOException {
+
+		int count = readCount(in);
+		Map<String, Integer> terms = new HashMap<>();
+
+		for (int i = 0; i < count; i++) {
+			terms.put(in.readUTF(), in.readInt());
+		}
+
+		return terms;
+	}
+
+	private static void writeNullable(DataOutputStream out, String value) throws IOException {
+
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeUTF(value);
+		}
+	}
+
+	private static String readNullable(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+
+	private static int readCount(DataInputStream in) throws IOException {
+
+		int count = in.readInt();
+
+		if (count < 0) {
+			throw new IOException("스냅샷 개수 오류 " + count);
+		}
+
+		return count;
+	}
+}
@@ -0,0 +1,516 @@
+package com.community.dogcat.service.upload;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.transfer.Upload;
+import com.community.dogcat.domain.ImgBoard;
+import com.community.dogcat.domain.Post;
+import com.community.dogcat.dto.uploadImage.ImageIngestStatusDTO;
+import com.community.dogcat.repository.board.BoardRepository;
+import com.community.dogcat.repository.upload.UploadRepository;
+import com.community.dogcat.service.home.HomeSnapshotCache;
+import com.community.dogcat.util.uploader.ImageRenditionWriter;
+import com.community.dogcat.util.uploader.S3LocalUploader;
+import com.community.dogcat.util.uploader.S3Uploader;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 게시글 첨부 이미지 비동기 처리
+// 요청 스레드는 multipart 임시 파일을 업로드 폴더로 옮기기만 하고 바로 응답,
+// 이후 썸네일, 너비별 rendition 생성(decode 1회)  -> S3 업로드 -> DB 저장 단계를 제한된 스레드 풀에서 이미지별로 병렬 실행
+// 일시적인 오류는 마지막으로 끝난 단계부터 재시도, fileUuid 가 이미 저장되어 있으면 다시 저장하지 않음
+@Slf4j
+@Service
+public class ImageIngestionPipeline {
+
+	private final S3LocalUploader s3LocalUploader;
+
+	private final S3Uploader s3Uploader;
+
+	private final ImageRenditionWriter imageRenditionWriter;
+
+	private final UploadRepository uploadRepository;
+
+	private final BoardRepository boardRepository;
+
+	private final HomeSnapshotCache homeSnapshotCache;
+
+	private final ThreadPoolExecutor executor;
+
+	private final ScheduledExecutorService retryScheduler;
+
+	// 이미지당 최대 시도 횟수
+	private final int maxAttempts;
+
+	// 첫 재시도 대기 시간, 이후 2배씩 증가
+	private final long retryDelayMillis;
+
+	// 처리가 끝난 게시글 상태 보관 시간
+	private final long statusRetentionMillis;
+
+	@Value("${s3UploadPath}")
+	private String s3UploadPath;
+
+	// postNo -> 처리 상태
+	private final Map<Long, PostIngestion> posts = new ConcurrentHashMap<>();
+
+	// 처리중인 fileUuid (같은 파일이 다시 요청되면 중복 처리하지 않음)
+	private final Map<String, ImageTask> inFlight = new ConcurrentHashMap<>();
+
+	// 통계
+	private final LongAdder completedImages = new LongAdder();
+
+	private final LongAdder failedImages = new LongAdder();
+
+	private final LongAdder retries = new LongAdder();
+
+	public ImageIngestionPipeline(S3LocalUploader s3LocalUploader, S3Uploader s3Uploader,
+		ImageRenditionWriter imageRenditionWriter, UploadRepository uploadRepository, BoardRepository boardRepository, HomeSnapshotCache homeSnapshotCache,
+		@Value("${imageIngest.threads:4}") int threads,
+		@Value("${imageIngest.queueSize:500}") int queueSize,
+		@Value("${imageIngest.maxAttempts:3}") int maxAttempts,
+		@Value("${imageIngest.retryDelayMillis:1000}") long retryDelayMillis,
+		@Value("${imageIngest.statusRetentionMinutes:10}") long statusRetentionMinutes) {
+
+		this.s3LocalUploader = s3LocalUploader;
+		this.s3Uploader = s3Uploader;
+		this.imageRenditionWriter = imageRenditionWriter;
+		this.uploadRepository = uploadRepository;
+		this.boardRepository = boardRepository;
+		this.homeSnapshotCache = homeSnapshotCache;
+		this.maxAttempts = maxAttempts;
+		this.retryDelayMillis = retryDelayMillis;
+		this.statusRetentionMillis = statusRetentionMinutes * 60_000L;
+
+		AtomicInteger sequence = new AtomicInteger();
+
+		this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueSize), runnable -> {
+			Thread thread = new Thread(runnable, "image-ingest-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "image-ingest-retry");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	// 업로드 파일을 옮겨두고 처리 예약, 현재 상태 반환
+	public ImageIngestStatusDTO submit(Post post, List<MultipartFile> files, List<String> uuids) throws IOException {
+
+		// 임시 저장 폴더가 없을경우 생성
+		File directory = new File(s3UploadPath);
+		if (!directory.exists()) {
+			directory.mkdirs();
+		}
+
+		// 요청 처리 중에는 앞서 예약된 이미지가 모두 끝나도 완료로 처리하지 않음
+		PostIngestion ingestion = posts.compute(post.getPostNo(), (postNo, current) -> {
+			PostIngestion next = current == null || current.isFinished() ? new PostIngestion(postNo) : current;
+			next.beginSubmit();
+			return next;
+		});
+
+		try {
+			stageAll(post, ingestion, files, uuids);
+		} finally {
+			ingestion.finish(this::onPostFinished);
+		}
+
+		return ingestion.toStatus();
+	}
+
+	private void stageAll(Post post, PostIngestion ingestion, List<MultipartFile> files, List<String> uuids)
+		throws IOException {
+
+		for (int i = 0; i < uuids.size(); i++) {
+
+			MultipartFile file = files.get(i);
+			String fileUuid = uuids.get(i);
+
+			// 처리중이거나 이미 저장된 이미지 (재요청)
+			if (inFlight.containsKey(fileUuid) || uploadRepository.existsById(fileUuid)) {
+				continue;
+			}
+
+			String fileName = file.getOriginalFilename();
+			String extension = fileName.substring(fileName.lastIndexOf("."));
+			String saveFileName = fileUuid + extension;
+
+			ImageTask task = new ImageTask(post, ingestion, fileUuid, fileName, extension, saveFileName);
+
+			if (inFlight.putIfAbsent(fileUuid, task) != null) {
+				continue;
+			}
+
+			try {
+				task.stagedPath = s3LocalUploader.stage(file, saveFileName);
+			} catch (IOException e) {
+				inFlight.remove(fileUuid);
+				throw e;
+			}
+
+			ingestion.register(task);
+
+			try {
+				executor.execute(() -> run(task));
+			} catch (RejectedExecutionException e) {
+				log.warn("Image Ingestion: 대기열 초과, {} 처리 거절", fileUuid);
+				fail(task, e);
+			}
+		}
+	}
+
+	// 처리 상태, 기록이 없으면 null
+	public ImageIngestStatusDTO getStatus(Long postNo) {
+
+		PostIngestion ingestion = posts.get(postNo);
+
+		return ingestion != null ? ingestion.toStatus() : null;
+	}
+
+	public int getQueueDepth() {
+		return executor.getQueue().size();
+	}
+
+	public int getActiveCount() {
+		return executor.getActiveCount();
+	}
+
+	public long getCompletedImages() {
+		return completedImages.sum();
+	}
+
+	public long getFailedImages() {
+		return failedImages.sum();
+	}
+
+	public long getRetries() {
+		return retries.sum();
+	}
+
+	// 처리가 끝나고 보관 시간이 지난 상태 제거
+	@Scheduled(fixedDelayString = "${imageIngest.cleanupInterval:60000}")
+	public void cleanup() {
+
+		long expiredBefore = System.currentTimeMillis() - statusRetentionMillis;
+
+		posts.values().removeIf(ingestion -> ingestion.isFinished() && ingestion.finishedAt < expiredBefore);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+
+		retryScheduler.shutdownNow();
+		executor.shutdown();
+
+		try {
+			if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+				log.warn("Image Ingestion: 종료시 처리하지 못한 이미지 {} 건", executor.shutdownNow().size());
+			}
+		} catch (InterruptedException e) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	// 마지막으로 끝난 단계 다음부터 실행
+	private void run(ImageTask task) {
+
+		task.attempts++;
+
+		try {
+			// decode 1회 + 썸네일, rendition resize
+			if (task.stage == Stage.STAGED) {
+				task.renditions = imageRenditionWriter.render(task.stagedPath, task.fileUuid, task.saveFileName);
+				task.thumbnail = task.renditions != null ? task.renditions.getThumbnail() : null;
+				task.stage = Stage.RESIZED;
+			}
+
+			// 원본, 썸네일, rendition 동시 업로드 (같은 key 로 덮어쓰므로 재시도해도 안전)
+			if (task.stage == Stage.RESIZED) {
+				Upload original = s3Uploader.startUpload(task.stagedPath.toFile(), task.saveFileName);
+				Upload thumbnail = task.thumbnail != null ?
+					s3Uploader.startUpload(task.thumbnail, "t_" + task.saveFileName) : null;
+
+				Map<Integer, Upload> renditionUploads = new LinkedHashMap<>();
+				if (task.renditions != null) {
+					task.renditions.getFiles().forEach((width, file) ->
+						renditionUploads.put(width, s3Uploader.startUpload(file, file.getName())));
+				}
+
+				task.uploadPath = s3Uploader.awaitUpload(original, task.saveFileName);
+				task.thumbnailPath = thumbnail != null ? s3Uploader.awaitUpload(thumbnail, "t_" + task.saveFileName) : "";
+				task.srcset = buildSrcset(task, renditionUploads);
+				task.stage = Stage.UPLOADED;
+			}
+
+			// fileUuid 가 이미 저장된 경우 건너뜀
+			if (task.stage == Stage.UPLOADED) {
+				if (!uploadRepository.existsById(task.fileUuid)) {
+					uploadRepository.save(ImgBoard.builder()
+						.fileUuid(task.fileUuid)
+						.postNo(task.post)
+						.fileName(task.fileName)
+						.extension(task.extension)
+						.uploadPath(task.uploadPath)
+						.thumbnailPath(task.thumbnailPath)
+						.renditions(task.srcset)
+						.uploadTime(Instant.now())
+						.img(task.thumbnail != null)
+						.build());
+				}
+				task.stage = Stage.PERSISTED;
+			}
+
+			complete(task);
+
+		} catch (Exception e) {
+
+			if (isTransient(e) && task.attempts < maxAttempts && !retryScheduler.isShutdown()) {
+
+				long delay = retryDelayMillis << (task.attempts - 1);
+
+				log.warn("Image Ingestion: {} {} 단계 이후 실패, {}ms 후 재시도 ({}/{})",
+					task.fileUuid, task.stage, delay, task.attempts, maxAttempts, e);
+
+				retries.increment();
+				retryScheduler.schedule(() -> resubmit(task), delay, TimeUnit.MILLISECONDS);
+
+				return;
+			}
+
+			log.error("Image Ingestion: {} 처리 실패", task.fileUuid, e);
+			fail(task, e);
+		}
+	}
+
+	// 작은 너비부터 "url 200w, url 480w, ..., 원본url 원본너비w", rendition 이 없으면 null
+	private String buildSrcset(ImageTask task, Map<Integer, Upload> renditionUploads) throws IOException {
+
+		if (renditionUploads.isEmpty()) {
+			return null;
+		}
+
+		List<String> candidates = new ArrayList<>();
+
+		for (Map.Entry<Integer, Upload> entry : renditionUploads.entrySet()) {
+			String key = ImageRenditionWriter.renditionFileName(entry.getKey(), task.fileUuid);
+			candidates.add(0, s3Uploader.awaitUpload(entry.getValue(), key) + " " + entry.getKey() + "w");
+		}
+
+		candidates.add(task.uploadPath + " " + task.renditions.getOriginalWidth() + "w");
+
+		return String.join(", ", candidates);
+	}
+
+	private void resubmit(ImageTask task) {
+
+		try {
+			executor.execute(() -> run(task));
+		} catch (RejectedExecutionException e) {
+			fail(task, e);
+		}
+	}
+
+	private void complete(ImageTask task) {
+
+		completedImages.increment();
+		finish(task);
+	}
+
+	private void fail(ImageTask task, Exception e) {
+
+		task.stage = Stage.FAILED;
+		failedImages.increment();
+		finish(task);
+	}
+
+	private void finish(ImageTask task) {
+
+		inFlight.remove(task.fileUuid, task);
+
+		try {
+			s3Uploader.removeLocalFiles(task.saveFileName);
+
+			if (task.renditions != null) {
+				for (File file : task.renditions.getFiles().values()) {
+					Files.deleteIfExists(file.toPath());
+				}
+			}
+		} catch (IOException | RuntimeException e) {
+			log.error("Image Ingestion: 로컬 파일 삭제 실패 {}", task.saveFileName, e);
+		}
+
+		task.ingestion.finish(this::onPostFinished);
+	}
+
+	// 게시글의 모든 이미지 처리 후 대표 썸네일 갱신, 홈 화면 스냅샷에도 반영
+	private void onPostFinished(Long postNo) {
+
+		try {
+			boardRepository.refreshCoverThumbnail(postNo);
+			homeSnapshotCache.invalidate();
+		} catch (RuntimeException e) {
+			log.error("Image Ingestion: 게시글 {} 대표 썸네일 갱신 실패", postNo, e);
+		}
+	}
+
+	// 네트워크, S3 5xx, DB 연결 등 다시 시도하면 성공할 수 있는 오류
+	private boolean isTransient(Exception e) {
+
+		if (e instanceof AmazonClientException) {
+			return ((AmazonClientException)e).isRetryable();
+		}
+
+		return e instanceof IOException || e instanceof TransientDataAccessException;
+	}
+
+	private enum Stage {
+		STAGED, RESIZED, UPLOADED, PERSISTED, FAILED
+	}
+
+	// 이미지 하나의 처리 상태, 한 번에 한 스레드에서만 실행
+	private static class ImageTask {
+
+		private final Post post;
+
+		private final PostIngestion ingestion;
+
+		private final String fileUuid;
+
+		private final String fileName;
+
+		private final String extension;
+
+		private final String saveFileName;
+
+		private volatile Stage stage = Stage.STAGED;
+
+		private volatile int attempts;
+
+		private volatile Path stagedPath;
+
+		private volatile File thumbnail;
+
+		private volatile ImageRenditionWriter.Renditions renditions;
+
+		private volatile String srcset;
+
+		private volatile String uploadPath;
+
+		private volatile String thumbnailPath;
+
+		ImageTask(Post post, PostIngestion ingestion, String fileUuid, String fileName, String extension,
+			String saveFileName) {
+
+			this.post = post;
+			this.ingestion = ingestion;
+			this.fileUuid = fileUuid;
+			this.fileName = fileName;
+			this.extension = extension;
+			this.saveFileName = saveFileName;
+		}
+	}
+
+	// 게시글 하나의 이미지 처리 상태
+	private static class PostIngestion {
+
+		private final Long postNo;
+
+		private final Map<String, ImageTask> tasks = new LinkedHashMap<>();
+
+		private int pending;
+
+		private boolean finished;
+
+		private volatile long finishedAt;
+
+		PostIngestion(Long postNo) {
+			this.postNo = postNo;
+		}
+
+		synchronized void register(ImageTask task) {
+			tasks.put(task.fileUuid, task);
+			pending++;
+		}
+
+		synchronized void beginSubmit() {
+			pending++;
+		}
+
+		synchronized boolean isFinished() {
+			return finished;
+		}
+
+		void finish(Consumer<Long> onFinished) {
+
+			synchronized (this) {
+				pending--;
+				if (finished || pending > 0) {
+					return;
+				}
+				finished = true;
+				finishedAt = System.currentTimeMillis();
+			}
+
+			onFinished.accept(postNo);
+		}
+
+		synchronized ImageIngestStatusDTO toStatus() {
+
+			Map<String, String> images = new LinkedHashMap<>();
+			int completed = 0;
+			int failed = 0;
+
+			for (ImageTask task : tasks.values()) {
+				images.put(task.fileUuid, task.stage.name());
+				if (task.stage == Stage.PERSISTED) {
+					completed++;
+				} else if (task.stage == Stage.FAILED) {
+					failed++;
+				}
+			}
+
+			String state = !finished ? "PROCESSING" : failed > 0 ? "FAILED" : "DONE";
+
+			return ImageIngestStatusDTO.builder()
+				.postNo(postNo)
+				.state(state)
+				.total(tasks.size())
+				.completed(completed)
+				.failed(failed)
+				.images(images)
+				.build();
+		}
+	}
+}
@@ -0,0 +1,205 @@
+package com.community.dogcat.service.upload;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.community.dogcat.domain.StorageOutbox;
+import com.community.dogcat.repository.upload.StorageOutboxRepository;
+import com.community.dogcat.util.uploader.S3BatchDeleter;
+
+import lombok.extern.slf4j.Slf4j;
+
+// S3 삭제를 DB 트랜잭션에서 분리
+// 요청 처리중에는 삭제할 key 를 outbox 행으로 저장만 하고(같은 트랜잭션, 롤백되면 같이 취소),
+// 커밋된 행은 StorageOutboxTask 가 DeleteObjects 로 처리, 실패하면 점점 긴 간격으로 재시도 후 dead letter
+@Slf4j
+@Service
+public class StorageOutboxService {
+
+	private final StorageOutboxRepository storageOutboxRepository;
+
+	private final S3BatchDeleter s3BatchDeleter;
+
+	// 한 번에 처리할 outbox 행 수
+	private final int drainSize;
+
+	// 최대 시도 횟수, 넘기면 dead letter
+	private final int maxAttempts;
+
+	// 첫 재시도 대기 시간, 이후 2배씩 증가 (최대 1시간)
+	private final long retryDelayMillis;
+
+	// 선점 유지 시간, 처리 중 서버가 종료되면 이 시간 이후 다른 서버가 다시 처리
+	private final long claimMillis;
+
+	// 통계
+	private final LongAdder enqueuedKeys = new LongAdder();
+
+	private final LongAdder deletedKeys = new LongAdder();
+
+	private final LongAdder retries = new LongAdder();
+
+	private final LongAdder deadLetters = new LongAdder();
+
+	public StorageOutboxService(StorageOutboxRepository storageOutboxRepository, S3BatchDeleter s3BatchDeleter,
+		@Value("${storageOutbox.drainSize:20}") int drainSize,
+		@Value("${storageOutbox.maxAttempts:8}") int maxAttempts,
+		@Value("${storageOutbox.retryDelayMillis:5000}") long retryDelayMillis,
+		@Value("${storageOutbox.claimMillis:120000}") long claimMillis) {
+
+		this.storageOutboxRepository = storageOutboxRepository;
+		this.s3BatchDeleter = s3BatchDeleter;
+		this.drainSize = drainSize;
+		this.maxAttempts = maxAttempts;
+		this.retryDelayMillis = retryDelayMillis;
+		this.claimMillis = claimMillis;
+	}
+
+	// 삭제할 S3 key 저장, 호출한 쪽 트랜잭션 안에서만 사용 (커밋되어야 삭제됨)
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void enqueueDeletes(Collection<String> keys) {
+
+		Set<String> unique = new LinkedHashSet<>();
+
+		for (String key : keys) {
+			if (key != null && !key.isBlank()) {
+				unique.add(key);
+			}
+		}
+
+		if (unique.isEmpty()) {
+			return;
+		}
+
+		Instant now = Instant.now();
+		List<StorageOutbox> rows = new ArrayList<>();
+		List<String> chunk = new ArrayList<>();
+
+		for (String key : unique) {
+
+			chunk.add(key);
+
+			if (chunk.size() == S3BatchDeleter.MAX_BATCH_SIZE) {
+				rows.add(newRow(chunk, now));
+				chunk.clear();
+			}
+		}
+
+		if (!chunk.isEmpty()) {
+			rows.add(newRow(chunk, now));
+		}
+
+		storageOutboxRepository.saveAll(rows);
+		enqueuedKeys.add(unique.size());
+	}
+
+	// 처리할 시각이 된 행을 drainSize 개씩 처리, 조회한 행 수 반환
+	// 여러 서버에서 실행되므로 행마다 조건부 UPDATE 로 선점한 뒤에만 S3 요청
+	// S3 요청은 트랜잭션 밖에서 실행하고 결과는 선점이 유지된 경우에만 반영
+	public int drain() {
+
+		List<StorageOutbox> due = storageOutboxRepository.findDue(Instant.now(), PageRequest.of(0, drainSize));
+
+		for (StorageOutbox row : due) {
+
+			// DB 시각 정밀도와 관계없이 같은 값으로 비교되도록 초 단위
+			Instant claimedUntil = Instant.now().plusMillis(claimMillis).truncatedTo(ChronoUnit.SECONDS);
+
+			if (storageOutboxRepository.claim(row.getId(), Instant.now(), claimedUntil) == 0) {
+				// 다른 서버가 처리중
+				continue;
+			}
+
+			S3BatchDeleter.DeleteResult result = s3BatchDeleter.delete(row.getKeys());
+			deletedKeys.add(result.getDeleted());
+
+			if (result.isSuccessful()) {
+				storageOutboxRepository.deleteClaimed(row.getId(), claimedUntil);
+				continue;
+			}
+
+			List<String> failedKeys = new ArrayList<>(result.getFailed().keySet());
+			String error = firstError(result.getFailed());
+
+			row.retryLater(failedKeys, error, Instant.now().plusMillis(backoff(row.getAttempts() + 1)));
+
+			if (row.getAttempts() >= maxAttempts) {
+				row.markDead();
+			}
+
+			if (storageOutboxRepository.retryClaimed(row.getId(), row.getObjectKeys(), row.getAttempts(),
+				row.getLastError(), row.getNextAttemptAt(), row.isDead(), claimedUntil) == 0) {
+				log.warn("Storage Outbox: {} 번 작업 선점 만료, 결과 반영하지 않음", row.getId());
+				continue;
+			}
+
+			if (row.isDead()) {
+				deadLetters.increment();
+				log.error("Storage Outbox: {} 번 작업 {} 회 실패, dead letter 처리 (key {} 건, {})",
+					row.getId(), row.getAttempts(), failedKeys.size(), error);
+			} else {
+				retries.increment();
+				log.warn("Storage Outbox: {} 번 작업 key {} 건 실패, {} 후 재시도 ({}/{})",
+					row.getId(), failedKeys.size(), row.getNextAttemptAt(), row.getAttempts(), maxAttempts);
+			}
+		}
+
+		return due.size();
+	}
+
+	public long getPending() {
+		return storageOutboxRepository.countByDead(false);
+	}
+
+	public long getDead() {
+		return storageOutboxRepository.countByDead(true);
+	}
+
+	public long getEnqueuedKeys() {
+		return enqueuedKeys.sum();
+	}
+
+	public long getDeletedKeys() {
+		return deletedKeys.sum();
+	}
+
+	public long getRetries() {
+		return retries.sum();
+	}
+
+	public long getDeadLetters() {
+		return deadLetters.sum();
+	}
+
+	private long backoff(int attempts) {
+		return Math.min(retryDelayMillis << Math.min(attempts - 1, 20), 3_600_000L);
+	}
+
+	private static StorageOutbox newRow(List<String> keys, Instant now) {
+
+		return StorageOutbox.builder()
+			.objectKeys(String.join("\n", keys))
+			.attempts(0)
+			.nextAttemptAt(now)
+			.createdAt(now)
+			.dead(false)
+			.build();
+	}
+
+	private static String firstError(Map<String, String> failed) {
+		return failed.values().stream().findFirst().orElse(null);
+	}
+}
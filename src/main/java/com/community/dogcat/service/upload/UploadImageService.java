@@ -11,6 +11,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.community.dogcat.domain.Post;
+import com.community.dogcat.dto.uploadImage.ImageIngestStatusDTO;
 
 @Service
 public interface UploadImageService {
@@ -18,6 +19,8 @@ public interface UploadImageService {
 	ResponseEntity<List<String>> uploadS3Image(List<MultipartFile> multipartFile, Post postNo,
 		List<String> uuid);
 
+	ImageIngestStatusDTO getS3UploadStatus(Long postNo);
+
 	String uploadSummerNoteImage(List<MultipartFile> multipartFile, HttpServletRequest request) throws IOException;
 
 	void deleteSummernoteImage(List<String> uuids, List<String> extensions);
@@ -1,14 +1,11 @@
 package com.community.dogcat.service.upload;
 
-import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
-import javax.imageio.ImageIO;
 import javax.servlet.http.HttpServletRequest;
 
 import org.apache.commons.io.FileUtils;
@@ -19,10 +16,16 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.amazonaws.services.s3.AmazonS3;
+import com.community.dogcat.domain.ImgBoard;
 import com.community.dogcat.domain.Post;
+import com.community.dogcat.dto.uploadImage.ImageIngestStatusDTO;
+import com.community.dogcat.repository.board.BoardRepository;
 import com.community.dogcat.repository.upload.UploadRepository;
+import com.community.dogcat.service.home.HomeSnapshotCache;
 import com.community.dogcat.util.uploader.DeleteTempFiles;
-import com.community.dogcat.util.uploader.S3Uploader;
+import com.community.dogcat.util.uploader.ImageProbe;
+import com.community.dogcat.util.uploader.ImageRejectedException;
+import com.community.dogcat.util.uploader.S3BatchDeleter;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 
@@ -36,13 +39,22 @@ public class UploadImageServiceImpl implements UploadImageService {
 
 	private final AmazonS3 amazonS3;
 	private final UploadRepository uploadRepository;
+	private final BoardRepository boardRepository;
+	private final HomeSnapshotCache homeSnapshotCache;
 	@Value("${baseUrl}")
 	private String baseUrl;
 
 	@Value("${tempUploadPath}")
 	private String tempUploadPath;
 
-	private final S3Uploader s3Uploader;
+	// S3 삭제는 커밋 후 outbox 에서 처리
+	private final StorageOutboxService storageOutboxService;
+
+	// 이미지 헤더 확인 (가로, 세로, 형식), 과도한 크기 거절
+	private final ImageProbe imageProbe;
+
+	// 게시글 첨부 이미지 비동기 처리
+	private final ImageIngestionPipeline imageIngestionPipeline;
 
 	// s3업로드 or 게시글 등록 취소 or 백스페이스 summernote 임시 업로드 이미지 파일 삭제
 	private final DeleteTempFiles deleteTempFiles;
@@ -82,12 +94,8 @@ public class UploadImageServiceImpl implements UploadImageService {
 			File targetFile = new File(contextRoot + saveFileName);
 
 			try {
-				InputStream fileStream = multipartFile.getInputStream();
-
-				// 파일의 가로 세로 길이 정보 저장
-				List<Integer> imagesLength = calcImageLength(multipartFile);
-
-				FileUtils.copyInputStreamToFile(fileStream, targetFile);
+				// 임시 폴더로 복사하면서 해시 계산, 가로 세로는 헤더에서만 읽음 (decode 없음)
+				ImageProbe.Result probed = imageProbe.copyAndProbe(multipartFile, targetFile);
 
 				// 이미지의 URL 생성
 				String imageUrl = baseUrl + "/temp/" + saveFileName;
@@ -98,13 +106,14 @@ public class UploadImageServiceImpl implements UploadImageService {
 				fileJsonObject.addProperty("uuid", uuid);
 				fileJsonObject.addProperty("extension", extension);
 				fileJsonObject.addProperty("name", originalFileName);
-				fileJsonObject.addProperty("width", imagesLength.get(0));
-				fileJsonObject.addProperty("height", imagesLength.get(1));
+				fileJsonObject.addProperty("width", probed.getDisplayWidth());
+				fileJsonObject.addProperty("height", probed.getDisplayHeight());
+				fileJsonObject.addProperty("sha256", probed.getSha256());
 
 				jsonArray.add(fileJsonObject);
 
-			} catch (IOException e) {
-				// 파일 저장 중 오류가 발생한 경우 해당 파일 삭제 및 에러 응답 코드 추가
+			} catch (IOException | ImageRejectedException e) {
+				// 파일 저장 중 오류가 발생하거나 허용되지 않는 이미지인 경우 해당 파일 삭제 및 에러 응답 코드 추가
 				log.error("Summernote Image Upload failed", e);
 				FileUtils.deleteQuietly(targetFile);
 				JsonObject errorJsonObject = new JsonObject();
@@ -119,25 +128,6 @@ public class UploadImageServiceImpl implements UploadImageService {
 		return jsonObject.toString();
 	}
 
-	// 업로드된 이미지의 가로세로 정보 추출
-	private List<Integer> calcImageLength(MultipartFile multipartFile) throws IOException {
-
-		List<Integer> imagesLength = new ArrayList<>();
-
-		try (InputStream inputStream = multipartFile.getInputStream()) {
-
-			BufferedImage bufferedImage = ImageIO.read(inputStream);
-
-			imagesLength.add(bufferedImage.getWidth());
-			imagesLength.add(bufferedImage.getHeight());
-
-		} catch (IOException e) {
-			log.error("이미지 가로세로 추출 에러!");
-			throw e;
-		}
-		return imagesLength;
-	}
-
 	// summernote 취소버튼 누를 때 임시파일 제거
 	@Override
 	public void deleteSummernoteImage(List<String> uuids, List<String> extensions) {
@@ -178,38 +168,53 @@ public class UploadImageServiceImpl implements UploadImageService {
 			return ResponseEntity.badRequest().body(error);
 		}
 
-		for (int i = 0; i < uuids.size(); i++) {
-
-			MultipartFile file = multipartFile.get(i);
+		try {
+			// 파일만 옮겨두고 썸네일 생성, S3 업로드, DB 저장은 ImageIngestionPipeline 에서 병렬 처리
+			ImageIngestStatusDTO status = imageIngestionPipeline.submit(postNo, multipartFile, uuids);
 
-			String originalFileName = file.getOriginalFilename();
-			String fileUuid = uuids.get(i);
+			uploadResult.add(String.valueOf(postNo.getPostNo()));
+			uploadResult.add(status.getState());
+			uploadResult.addAll(uuids);
 
-			try {
-				// s3업로드 실행 전에 게시글 등록 로직 먼저 실행 후 반환 되는 postNo
-				uploadResult = s3Uploader.upload(file, postNo, fileUuid);
-
-			} catch (Exception e) {
-				log.error("S3 업로드 에러", e);
-				error.add("S3 업로드 에러: " + e.getMessage());
-				error.add(String.valueOf(postNo));
-				error.add(originalFileName);
-				error.add(fileUuid);
-				error.add(String.valueOf(System.currentTimeMillis()));
-				return ResponseEntity.status(500).body(error);
-			}
+		} catch (Exception e) {
+			log.error("S3 업로드 에러", e);
+			error.add("S3 업로드 에러: " + e.getMessage());
+			error.add(String.valueOf(postNo));
+			error.add(String.valueOf(System.currentTimeMillis()));
+			return ResponseEntity.status(500).body(error);
 		}
 
-		return ResponseEntity.ok(uploadResult);
+		// 처리 상태는 /api/upload/s3/status/{postNo} 로 확인
+		return ResponseEntity.accepted().body(uploadResult);
+	}
+
+	@Override
+	public ImageIngestStatusDTO getS3UploadStatus(Long postNo) {
+		return imageIngestionPipeline.getStatus(postNo);
 	}
 
 	@Override
 	@Transactional
 	public void deleteUploadedS3Image(List<String> deletedImageUrls) {
-		// 버킷의 업로드된 파일 제거
+		// 삭제 후 대표 썸네일을 다시 계산할 게시글
+		List<Long> postNos = uploadRepository.findPostNosByUploadPaths(deletedImageUrls);
+
+		// 버킷의 업로드된 파일 삭제 예약 (커밋 후 outbox 에서 처리)
+		List<String> keys = new ArrayList<>();
+
 		for(String imageUrl : deletedImageUrls) {
-			s3Uploader.deleteS3BucketFile(imageUrl);
+			String renditions = uploadRepository.findFirstByUploadPath(imageUrl)
+				.map(ImgBoard::getRenditions)
+				.orElse(null);
+
+			keys.addAll(S3BatchDeleter.imageKeys(S3BatchDeleter.keyOf(imageUrl), renditions));
 			uploadRepository.deleteByUploadPath(imageUrl);
 		}
+
+		storageOutboxService.enqueueDeletes(keys);
+
+		uploadRepository.flush();
+		postNos.forEach(boardRepository::refreshCoverThumbnail);
+		homeSnapshotCache.invalidate();
 	}
 }
\ No newline at end of file
@@ -0,0 +1,288 @@
+package com.community.dogcat.service.user;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.community.dogcat.domain.AccountDeletionJob;
+import com.community.dogcat.domain.ImgBoard;
+import com.community.dogcat.repository.board.BoardRepository;
+import com.community.dogcat.repository.report.ReportUserSummaryRepository;
+import com.community.dogcat.repository.user.AccountDeletionJobRepository;
+import com.community.dogcat.service.home.HomeSnapshotCache;
+import com.community.dogcat.service.upload.StorageOutboxService;
+import com.community.dogcat.service.user.refresh.RefreshTokenStore;
+import com.community.dogcat.util.uploader.S3BatchDeleter;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 회원 탈퇴 백그라운드 처리
+// 탈퇴 요청은 계정 비활성화 + 작업 등록만 하고 응답, AccountDeletionTask 가 단계별로 chunkSize 건씩 삭제
+// 한 묶음의 삭제, 카운터 보정, 진행 상황 기록은 같은 트랜잭션 (중단 후 다시 실행해도 중복 반영 없음)
+@Slf4j
+@Service
+public class AccountDeletionService {
+
+	private final AccountDeletionJobRepository jobRepository;
+
+	private final BoardRepository boardRepository;
+
+	private final ReportUserSummaryRepository reportUserSummaryRepository;
+
+	private final StorageOutboxService storageOutboxService;
+
+	private final RefreshTokenStore refreshTokenStore;
+
+	private final HomeSnapshotCache homeSnapshotCache;
+
+	private final UserProfileCache userProfileCache;
+
+	private final TransactionTemplate transactionTemplate;
+
+	// 한 트랜잭션에서 삭제할 행 수
+	private final int chunkSize;
+
+	// 한 번에 처리할 작업 수
+	private final int jobsPerRun;
+
+	// 최대 시도 횟수, 넘기면 더 이상 처리하지 않음 (로그 확인 후 attempts 초기화)
+	private final int maxAttempts;
+
+	// 통계
+	private final LongAdder completedJobs = new LongAdder();
+
+	private final LongAdder processedRows = new LongAdder();
+
+	private final LongAdder failures = new LongAdder();
+
+	public AccountDeletionService(AccountDeletionJobRepository jobRepository, BoardRepository boardRepository,
+		ReportUserSummaryRepository reportUserSummaryRepository, StorageOutboxService storageOutboxService,
+		RefreshTokenStore refreshTokenStore, HomeSnapshotCache homeSnapshotCache, UserProfileCache userProfileCache,
+		PlatformTransactionManager transactionManager,
+		@Value("${accountDeletion.chunkSize:500}") int chunkSize,
+		@Value("${accountDeletion.jobsPerRun:10}") int jobsPerRun,
+		@Value("${accountDeletion.maxAttempts:10}") int maxAttempts) {
+
+		this.jobRepository = jobRepository;
+		this.boardRepository = boardRepository;
+		this.reportUserSummaryRepository = reportUserSummaryRepository;
+		this.storageOutboxService = storageOutboxService;
+		this.refreshTokenStore = refreshTokenStore;
+		this.homeSnapshotCache = homeSnapshotCache;
+		this.userProfileCache = userProfileCache;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.chunkSize = chunkSize;
+		this.jobsPerRun = jobsPerRun;
+		this.maxAttempts = maxAttempts;
+	}
+
+	// 탈퇴 작업 등록, 호출한 쪽 트랜잭션 안에서만 사용 (계정 비활성화와 같이 커밋)
+	// 진행중인 작업이 있으면 그대로 둠
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void requestDeletion(String userId) {
+
+		AccountDeletionJob existing = jobRepository.findById(userId).orElse(null);
+
+		if (existing != null && !existing.isCompleted()) {
+			return;
+		}
+
+		jobRepository.save(AccountDeletionJob.builder()
+			.userId(userId)
+			.step(AccountDeletionJob.Step.LIKES)
+			.processedRows(0)
+			.attempts(0)
+			.requestedAt(Instant.now())
+			.build());
+	}
+
+	// 대기중인 작업 처리, 처리한 작업 수 반환
+	public int runPending() {
+
+		List<AccountDeletionJob> jobs = jobRepository.findPending(maxAttempts, PageRequest.of(0, jobsPerRun));
+
+		for (AccountDeletionJob job : jobs) {
+
+			try {
+				run(job);
+			} catch (RuntimeException e) {
+
+				failures.increment();
+				String error = e.getMessage() != null && e.getMessage().length() > 500 ?
+					e.getMessage().substring(0, 500) : e.getMessage();
+
+				// 그 사이 다른 회원이 추가한 신고/좋아요로 실패할 수 있으므로 다음 시도는 첫 단계부터
+				// (끝난 단계는 남은 행이 없어 바로 넘어감)
+				transactionTemplate.executeWithoutResult(
+					status -> jobRepository.recordFailure(job.getUserId(), error, Instant.now()));
+
+				log.warn("Account Deletion: {} 탈퇴 처리 실패 ({}/{}), 단계 {}",
+					job.getUserId(), job.getAttempts() + 1, maxAttempts, job.getStep(), e);
+			}
+		}
+
+		return jobs.size();
+	}
+
+	private void run(AccountDeletionJob job) {
+
+		String userId = job.getUserId();
+		AccountDeletionJob.Step[] steps = AccountDeletionJob.Step.values();
+
+		for (int i = job.getStep().ordinal(); i < AccountDeletionJob.Step.DONE.ordinal(); i++) {
+
+			AccountDeletionJob.Step step = steps[i];
+			AccountDeletionJob.Step next = steps[i + 1];
+
+			while (runChunk(step, userId) > 0) {
+				// 남은 행이 없을 때까지
+			}
+
+			transactionTemplate.executeWithoutResult(status -> {
+				if (next == AccountDeletionJob.Step.DONE) {
+					jobRepository.complete(userId, Instant.now());
+				} else {
+					jobRepository.moveTo(userId, next, Instant.now());
+				}
+			});
+		}
+
+		homeSnapshotCache.invalidate();
+		userProfileCache.invalidate(userId);
+		completedJobs.increment();
+
+		log.info("Account Deletion: {} 탈퇴 처리 완료", userId);
+	}
+
+	// 한 묶음 처리 후 진행 상황 기록, 처리한 행 수 반환
+	private int runChunk(AccountDeletionJob.Step step, String userId) {
+
+		Integer rows = transactionTemplate.execute(status -> {
+
+			int affected = switch (step) {
+				case LIKES -> deleteLikes(userId);
+				case REPORTS -> deleteReports(userId);
+				case SCRAPS -> jobRepository.deleteScraps(userId, chunkSize)
+					+ jobRepository.deleteLikesOnPosts(userId, chunkSize);
+				case REPLIES -> deleteReplies(userId);
+				case IMAGES -> deleteImages(userId);
+				case POSTS -> jobRepository.deletePosts(userId, chunkSize);
+				case ACCOUNT -> deleteAccount(userId);
+				default -> 0;
+			};
+
+			if (affected > 0) {
+				jobRepository.addProgress(userId, affected, Instant.now());
+			}
+
+			return affected;
+		});
+
+		int affected = rows != null ? rows : 0;
+		processedRows.add(affected);
+
+		return affected;
+	}
+
+	// 좋아요/싫어요 수 보정 (UPDATE ... JOIN 한 문장) 후 삭제
+	private int deleteLikes(String userId) {
+
+		List<Long> likeNos = jobRepository.findLikeNos(userId, PageRequest.of(0, chunkSize));
+
+		if (likeNos.isEmpty()) {
+			return 0;
+		}
+
+		jobRepository.subtractLikeCounts(likeNos);
+
+		return jobRepository.deleteLikes(likeNos);
+	}
+
+	// 신고 받은 회원별 신고 수 보정 후 삭제
+	private int deleteReports(String userId) {
+
+		List<Long> reportNos = jobRepository.findReportNos(userId, PageRequest.of(0, chunkSize));
+
+		if (reportNos.isEmpty()) {
+			return 0;
+		}
+
+		reportUserSummaryRepository.subtractByReportNos(reportNos);
+
+		return jobRepository.deleteReports(reportNos);
+	}
+
+	// 회원이 작성한 댓글 삭제 후 해당 게시글 댓글 수 재계산, 다 지우면 회원의 글에 달린 댓글 삭제
+	private int deleteReplies(String userId) {
+
+		List<Long> replyNos = jobRepository.findReplyNos(userId, PageRequest.of(0, chunkSize));
+
+		if (replyNos.isEmpty()) {
+			return jobRepository.deleteRepliesOnPosts(userId, chunkSize);
+		}
+
+		List<Long> postNos = jobRepository.findPostNosByReplyNos(replyNos);
+		int deleted = jobRepository.deleteReplies(replyNos);
+		boardRepository.reconcileReplyCount(postNos);
+
+		return deleted;
+	}
+
+	// 첨부 이미지 행 삭제, S3 원본/썸네일/리사이즈본은 outbox 에 등록 (커밋 후 삭제)
+	private int deleteImages(String userId) {
+
+		List<ImgBoard> images = jobRepository.findImages(userId, PageRequest.of(0, chunkSize));
+
+		if (images.isEmpty()) {
+			return 0;
+		}
+
+		List<String> keys = new ArrayList<>();
+		List<String> fileUuids = new ArrayList<>();
+
+		for (ImgBoard image : images) {
+			keys.addAll(S3BatchDeleter.imageKeys(image.getFileUuid() + image.getExtension(), image.getRenditions()));
+			fileUuids.add(image.getFileUuid());
+		}
+
+		storageOutboxService.enqueueDeletes(keys);
+
+		return jobRepository.deleteImages(fileUuids);
+	}
+
+	private int deleteAccount(String userId) {
+
+		int deleted = jobRepository.deleteReportSummary(userId) + jobRepository.deleteAuth(userId)
+			+ jobRepository.deleteUser(userId);
+
+		// 탈퇴 요청 이후 재발급된 토큰이 없도록 한 번 더 삭제
+		refreshTokenStore.deleteAllByUsername(userId);
+
+		return deleted;
+	}
+
+	public long getPending() {
+		return jobRepository.countByCompletedAtIsNull();
+	}
+
+	public long getCompletedJobs() {
+		return completedJobs.sum();
+	}
+
+	public long getProcessedRows() {
+		return processedRows.sum();
+	}
+
+	public long getFailures() {
+		return failures.sum();
+	}
+}
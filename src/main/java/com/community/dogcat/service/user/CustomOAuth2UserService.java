@@ -81,6 +81,13 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 			return new CustomOAuth2User(userDTO);
 
 		} else {
+			if (existData.isDeleted()) {
+
+				log.warn("The account is being deleted");
+				throw new CustomOAuth2Exception("탈퇴 처리중인 계정입니다.");
+
+			}
+
 			if (!existData.isSocial()) {
 
 				log.warn("The email is already registered");
@@ -1,6 +1,7 @@
 package com.community.dogcat.service.user;
 
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -16,7 +17,7 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
 	private final JWTUtil jwtUtil;
 	private final UserRepository userRepository;
@@ -25,7 +26,8 @@ public class CustomUserDetailsService implements UserDetailsService {
 	public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
 		User user = userRepository.findByUserId(username);
 
-		if (user == null) {
+		// 탈퇴 요청된 회원은 삭제 작업이 끝나기 전에도 로그인 불가
+		if (user == null || user.isDeleted()) {
 
 			log.warn("User not found");
 			throw new UsernameNotFoundException("User not found");
@@ -36,4 +38,18 @@ public class CustomUserDetailsService implements UserDetailsService {
 
 	}
 
+	// 로그인 성공시 저장된 해시의 BCrypt cost 가 설정값과 다르면 호출 (DaoAuthenticationProvider)
+	@Override
+	public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+
+		String userId = userDetails.getUsername();
+
+		userRepository.updatePasswordHash(userId, newPassword);
+
+		log.info("Password rehashed with the configured BCrypt cost: {}", userId);
+
+		return loadUserByUsername(userId);
+
+	}
+
 }
@@ -1,28 +1,79 @@
 package com.community.dogcat.service.user;
 
-import java.util.Date;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import com.community.dogcat.domain.RefreshToken;
 import com.community.dogcat.jwt.JWTUtil;
-import com.community.dogcat.repository.user.RefreshRepository;
+import com.community.dogcat.jwt.VerifiedJwt;
+import com.community.dogcat.service.user.refresh.RefreshTokenStore;
 
 import io.jsonwebtoken.ExpiredJwtException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+// 같은 refresh 토큰으로 동시에 들어온 재발급 요청은 하나만 토큰을 교체(rotation)하고
+// 나머지는 그 결과를 기다렸다가 같은 토큰을 받음, 교체 직후 graceMillis 동안 늦게 도착한 요청도 같은 결과 재사용
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ReissueService {
 
 	private final JWTUtil jwtUtil;
-	private final RefreshRepository refreshRepository;
+	private final RefreshTokenStore refreshTokenStore;
+
+	// 교체 결과 재사용 시간
+	private final long graceMillis;
+
+	// 진행중인 교체 결과를 기다리는 최대 시간
+	private final long waitMillis;
+
+	// 이전 refresh digest -> 진행중인 교체
+	private final Map<String, CompletableFuture<Rotation>> inFlight = new ConcurrentHashMap<>();
+
+	// 이전 refresh digest -> 최근 교체 결과 (LRU)
+	private final Map<String, Rotation> recentRotations;
+
+	// 통계
+	private final LongAdder rotations = new LongAdder();
+
+	private final LongAdder coalesced = new LongAdder();
+
+	public ReissueService(JWTUtil jwtUtil, RefreshTokenStore refreshTokenStore,
+		@Value("${reissue.graceMillis:10000}") long graceMillis,
+		@Value("${reissue.waitMillis:3000}") long waitMillis,
+		@Value("${reissue.recent.maxSize:10000}") int recentMaxSize) {
+
+		this.jwtUtil = jwtUtil;
+		this.refreshTokenStore = refreshTokenStore;
+		this.graceMillis = graceMillis;
+		this.waitMillis = waitMillis;
+		this.recentRotations = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Rotation> eldest) {
+				return size() > recentMaxSize;
+			}
+		};
+	}
+
+	public long getRotations() {
+		return rotations.sum();
+	}
+
+	public long getCoalesced() {
+		return coalesced.sum();
+	}
 
 	public boolean reissue(HttpServletRequest request, HttpServletResponse response) {
 
@@ -55,9 +106,12 @@ public class ReissueService {
 
 		}
 
+		// 서명/만료 검증과 claim 조회를 한 번에 처리
+		VerifiedJwt verified;
+
 		try {
 
-			jwtUtil.isExpired(refresh);
+			verified = jwtUtil.verify(refresh);
 
 		} catch (ExpiredJwtException e) {
 
@@ -67,9 +121,7 @@ public class ReissueService {
 
 		}
 
-		String category = jwtUtil.getCategory(refresh);
-
-		if (!category.equals("refresh")) {
+		if (!"refresh".equals(verified.getCategory())) {
 
 			log.warn("Not a refresh token");
 
@@ -77,25 +129,14 @@ public class ReissueService {
 
 		}
 
-		boolean isExist = refreshRepository.existsByRefresh(refresh);
+		Rotation rotation = rotateOnce(refresh, verified);
 
-		if (!isExist) {
-
-			log.warn("The refresh token is not stored in the database");
+		if (rotation == null) {
 
 			return false;
 
 		}
 
-		String username = jwtUtil.getUsername(refresh);
-		String role = jwtUtil.getRole(refresh);
-
-		String newAccess = jwtUtil.createJwt("access", username, role, 86400000L); // 1 day
-		String newRefresh = jwtUtil.createJwt("refresh", username, role, 604800000L); // 1 week
-
-		refreshRepository.deleteByRefresh(refresh);
-		addRefreshToken(username, newRefresh);
-
 		for (Cookie cookie : cookies) {
 			if (cookie.getName().equals("refresh") || cookie.getName().equals("access")) {
 				cookie.setMaxAge(0);
@@ -104,24 +145,149 @@ public class ReissueService {
 			}
 		}
 
-		response.addCookie(createCookie("access", newAccess));
-		response.addCookie(createCookie("refresh", newRefresh));
+		response.addCookie(createCookie("access", rotation.access));
+		response.addCookie(createCookie("refresh", rotation.refresh));
 
 		return true;
 
 	}
 
-	private void addRefreshToken(String username, String refresh) {
+	// refresh 토큰당 한 번만 교체, 동시 요청은 같은 결과 공유 (실패시 null)
+	private Rotation rotateOnce(String refresh, VerifiedJwt verified) {
+
+		String key = RefreshTokenStore.digest(refresh);
+
+		Rotation recent = findRecent(key);
+
+		if (recent != null) {
+
+			coalesced.increment();
+
+			return recent;
+
+		}
+
+		CompletableFuture<Rotation> mine = new CompletableFuture<>();
+		CompletableFuture<Rotation> running = inFlight.putIfAbsent(key, mine);
+
+		if (running != null) {
+
+			coalesced.increment();
+
+			return await(running);
+
+		}
+
+		try {
+
+			// 앞선 요청이 putIfAbsent 직전에 끝난 경우
+			Rotation rotation = findRecent(key);
+
+			if (rotation == null) {
+
+				rotation = rotate(key, refresh, verified);
+
+			}
+
+			mine.complete(rotation);
+
+			return rotation;
+
+		} catch (RuntimeException e) {
+
+			mine.completeExceptionally(e);
+
+			throw e;
+
+		} finally {
+
+			inFlight.remove(key, mine);
+
+		}
+
+	}
 
-		Date date = new Date(System.currentTimeMillis() + 604800000L);
+	private Rotation rotate(String key, String refresh, VerifiedJwt verified) {
 
-		RefreshToken refreshToken = RefreshToken.builder()
-			.username(username)
-			.refresh(refresh)
-			.expiration(date.toString())
-			.build();
+		if (!refreshTokenStore.exists(refresh)) {
 
-		refreshRepository.save(refreshToken);
+			log.warn("The refresh token is not stored in the database");
+
+			return null;
+
+		}
+
+		// 다른 서버가 먼저 교체한 경우 삭제 건수 0
+		if (!refreshTokenStore.delete(refresh)) {
+
+			log.warn("The refresh token has already been rotated");
+
+			return null;
+
+		}
+
+		String username = verified.getUsername();
+		String role = verified.getRole();
+
+		String newAccess = jwtUtil.createJwt("access", username, role, 86400000L); // 1 day
+		String newRefresh = jwtUtil.createJwt("refresh", username, role, 604800000L); // 1 week
+
+		addRefreshToken(username, newRefresh);
+
+		Rotation rotation = new Rotation(newAccess, newRefresh, System.currentTimeMillis() + graceMillis);
+
+		synchronized (recentRotations) {
+			recentRotations.put(key, rotation);
+		}
+
+		rotations.increment();
+
+		return rotation;
+
+	}
+
+	private Rotation findRecent(String key) {
+
+		synchronized (recentRotations) {
+
+			Rotation rotation = recentRotations.get(key);
+
+			if (rotation != null && rotation.reusableUntil < System.currentTimeMillis()) {
+				recentRotations.remove(key);
+				return null;
+			}
+
+			return rotation;
+
+		}
+
+	}
+
+	private Rotation await(CompletableFuture<Rotation> running) {
+
+		try {
+
+			return running.get(waitMillis, TimeUnit.MILLISECONDS);
+
+		} catch (InterruptedException e) {
+
+			Thread.currentThread().interrupt();
+
+			return null;
+
+		} catch (ExecutionException | TimeoutException e) {
+
+			log.warn("Waiting for refresh token rotation failed", e);
+
+			return null;
+
+		}
+
+	}
+
+	private void addRefreshToken(String username, String refresh) {
+
+		refreshTokenStore.save(username, refresh, Instant.now().plusMillis(604800000L));
 
 	}
 
@@ -136,4 +302,20 @@ public class ReissueService {
 
 	}
 
+	// 교체로 발급한 토큰
+	private static class Rotation {
+
+		private final String access;
+
+		private final String refresh;
+
+		private final long reusableUntil;
+
+		Rotation(String access, String refresh, long reusableUntil) {
+			this.access = access;
+			this.refresh = refresh;
+			this.reusableUntil = reusableUntil;
+		}
+	}
+
 }
@@ -0,0 +1,188 @@
+package com.community.dogcat.service.user;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.community.dogcat.domain.User;
+import com.community.dogcat.domain.UsersAuth;
+import com.community.dogcat.dto.user.UserProfileDTO;
+import com.community.dogcat.repository.user.UserRepository;
+import com.community.dogcat.repository.user.UsersAuthRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 회원 프로필(닉네임, 권한, 경험치) 캐시
+// BaseController 가 모든 페이지 요청마다 user, users_auth 를 조회하지 않도록 LRU + TTL 로 보관
+// 회원 정보/권한이 바뀌는 곳에서 invalidate 호출
+@Slf4j
+@Component
+public class UserProfileCache {
+
+	private final UserRepository userRepository;
+
+	private final UsersAuthRepository usersAuthRepository;
+
+	private final long ttlMillis;
+
+	// userId -> 프로필 (접근 순서, 최대 크기 초과시 가장 오래 안 쓴 항목 제거)
+	private final Map<String, CachedProfile> profiles;
+
+	// 무효화 횟수, 조회 중에 무효화된 경우 조회 결과를 캐시에 넣지 않음
+	private final AtomicLong generation = new AtomicLong();
+
+	// 통계
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder invalidations = new LongAdder();
+
+	public UserProfileCache(UserRepository userRepository, UsersAuthRepository usersAuthRepository,
+		@Value("${userProfile.cache.maxSize:10000}") int maxSize,
+		@Value("${userProfile.cache.ttlSeconds:300}") long ttlSeconds) {
+
+		this.userRepository = userRepository;
+		this.usersAuthRepository = usersAuthRepository;
+		this.ttlMillis = ttlSeconds * 1000L;
+		this.profiles = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CachedProfile> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	// 회원 프로필, 없는 회원이면 null
+	public UserProfileDTO get(String userId) {
+
+		if (userId == null) {
+			return null;
+		}
+
+		long now = System.currentTimeMillis();
+
+		CachedProfile cached;
+		synchronized (profiles) {
+			cached = profiles.get(userId);
+		}
+
+		if (cached != null && now - cached.loadedAt < ttlMillis) {
+			hits.increment();
+			return cached.profile;
+		}
+
+		misses.increment();
+
+		long loadGeneration = generation.get();
+		UserProfileDTO profile = load(userId);
+
+		if (profile != null) {
+			synchronized (profiles) {
+				if (generation.get() == loadGeneration) {
+					profiles.put(userId, new CachedProfile(profile, now));
+				}
+			}
+		}
+
+		return profile;
+	}
+
+	// 회원 정보 변경시 호출, 트랜잭션 안이면 커밋 후 한 번 더 제거 (커밋 전 옛 값이 다시 캐시되는 것 방지)
+	public void invalidate(String userId) {
+
+		evict(userId);
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					evict(userId);
+				}
+			});
+		}
+	}
+
+	public long getHits() {
+		return hits.sum();
+	}
+
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	public long getInvalidations() {
+		return invalidations.sum();
+	}
+
+	public double getHitRate() {
+
+		long hitCount = hits.sum();
+		long total = hitCount + misses.sum();
+
+		return total == 0 ? 0.0 : (double)hitCount / total;
+	}
+
+	public int getSize() {
+		synchronized (profiles) {
+			return profiles.size();
+		}
+	}
+
+	// 주기적으로 적중률 기록
+	@Scheduled(fixedDelayString = "${userProfile.cache.statsInterval:600000}",
+		initialDelayString = "${userProfile.cache.statsInterval:600000}")
+	public void logStats() {
+
+		log.info("User Profile Cache: hit {}, miss {}, 적중률 {}%, 무효화 {}, 크기 {}",
+			getHits(), getMisses(), String.format("%.1f", getHitRate() * 100), getInvalidations(), getSize());
+	}
+
+	private void evict(String userId) {
+
+		generation.incrementAndGet();
+		invalidations.increment();
+
+		synchronized (profiles) {
+			profiles.remove(userId);
+		}
+	}
+
+	private UserProfileDTO load(String userId) {
+
+		User user = userRepository.findByUserId(userId);
+
+		// 탈퇴 요청된 회원은 삭제 작업이 끝나기 전에도 없는 회원으로 처리
+		if (user == null || user.isDeleted()) {
+			return null;
+		}
+
+		UsersAuth usersAuth = usersAuthRepository.findByUserId(userId);
+
+		return UserProfileDTO.builder()
+			.userId(user.getUserId())
+			.nickname(user.getNickname())
+			.role(usersAuth != null ? usersAuth.getAuthorities() : null)
+			.exp(user.getExp() != null ? user.getExp() : 0L)
+			.build();
+	}
+
+	private static class CachedProfile {
+
+		private final UserProfileDTO profile;
+
+		private final long loadedAt;
+
+		CachedProfile(UserProfileDTO profile, long loadedAt) {
+			this.profile = profile;
+			this.loadedAt = loadedAt;
+		}
+	}
+}
@@ -4,7 +4,6 @@ import java.security.SecureRandom;
 import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import javax.mail.internet.MimeMessage;
@@ -14,25 +13,19 @@ import javax.servlet.http.HttpServletResponse;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.mail.javamail.MimeMessagePreparator;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.community.dogcat.domain.Post;
-import com.community.dogcat.domain.PostLike;
-import com.community.dogcat.domain.Reply;
 import com.community.dogcat.domain.User;
 import com.community.dogcat.domain.UsersAuth;
 import com.community.dogcat.dto.user.JoinDTO;
 import com.community.dogcat.dto.user.UserDetailDTO;
-import com.community.dogcat.repository.board.BoardRepository;
-import com.community.dogcat.repository.board.postLike.PostLikeRepository;
-import com.community.dogcat.repository.board.reply.ReplyRepository;
-import com.community.dogcat.repository.board.scrap.ScrapRepository;
-import com.community.dogcat.repository.report.ReportLogRepository;
-import com.community.dogcat.repository.user.RefreshRepository;
+import com.community.dogcat.dto.user.UserProfileDTO;
 import com.community.dogcat.repository.user.UserRepository;
 import com.community.dogcat.repository.user.UsersAuthRepository;
+import com.community.dogcat.service.search.PostSearchIndex;
+import com.community.dogcat.service.user.refresh.RefreshTokenStore;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -43,15 +36,15 @@ import lombok.extern.slf4j.Slf4j;
 public class UserService {
 
 	private final UserRepository userRepository;
-	private final ReplyRepository replyRepository;
-	private final ScrapRepository scrapRepository;
-	private final BoardRepository boardRepository;
 	private final JavaMailSender javaMailSenderImpl;
-	private final RefreshRepository refreshRepository;
-	private final PostLikeRepository postLikeRepository;
+	private final RefreshTokenStore refreshTokenStore;
 	private final UsersAuthRepository usersAuthRepository;
-	private final BCryptPasswordEncoder bCryptPasswordEncoder;
-	private final ReportLogRepository reportLogRepository;
+	// BCrypt, 전용 스레드 풀에서 실행 (BoundedPasswordEncoder)
+	private final PasswordEncoder bCryptPasswordEncoder;
+	private final PostSearchIndex postSearchIndex;
+	private final UserProfileCache userProfileCache;
+	// 회원 탈퇴는 백그라운드 작업으로 처리
+	private final AccountDeletionService accountDeletionService;
 
 	public Boolean isNicknameExists(String nickname) {
 
@@ -75,41 +68,14 @@ public class UserService {
 
 		if (deleteUser != null) {
 
+			// 계정 비활성화 후 탈퇴 작업 등록, 글/댓글/좋아요 등 삭제는 AccountDeletionTask 에서 처리
+			userRepository.markDeleted(userId, Instant.now());
+			accountDeletionService.requestDeletion(userId);
 
-			List<PostLike> postLikes = postLikeRepository.findAllByUserId(deleteUser);
-
-			for (PostLike postLike : postLikes) {
-
-				Post post = postLike.getPostNo();
-				if (postLike.isLikeState()) {
-					post.count(post.getLikeCount() - 1, post.getDislikeCount());
-				}
-				if (postLike.isDislikeState()) {
-					post.count(post.getLikeCount(), post.getDislikeCount() - 1);
-				}
-
-				boardRepository.save(post); // 게시물 업데이트
-
-			}
-
-			// 사용자가 작성한 글과 댓글에 대해 접수된 신고 삭제
-			List<Post> userPosts = boardRepository.findAllByUserId(deleteUser);
-			for (Post post : userPosts) {
-				reportLogRepository.deleteByPostNo(post);
-			}
-
-			List<Reply> userReplies = replyRepository.findAllByUserId(deleteUser);
-			for (Reply reply : userReplies) {
-				reportLogRepository.deleteByReplyNo(reply);
-			}
-
-			postLikeRepository.deleteAllByUserId(deleteUser);
-			scrapRepository.deleteAllByUserId(deleteUser);
-			replyRepository.deleteAllByUserId(deleteUser);
-			boardRepository.deleteAllByUserId(deleteUser);
-			usersAuthRepository.deleteById(userId);
-			userRepository.deleteById(userId);
-			refreshRepository.deleteAllByUsername(userId);
+			// 발급된 refresh 토큰 폐기, 검색/프로필 캐시에서 제외
+			refreshTokenStore.deleteAllByUsername(userId);
+			postSearchIndex.removeUser(userId);
+			userProfileCache.invalidate(userId);
 
 			// Refresh 토큰, access 토큰, JSESSIONID 삭제
 			Cookie refreshCookie = new Cookie("refresh", null);
@@ -176,6 +142,10 @@ public class UserService {
 
 		userRepository.save(updatedUser);
 
+		// 닉네임 검색 색인 갱신
+		postSearchIndex.updateNickname(updatedUser.getUserId(), updatedUser.getNickname());
+		userProfileCache.invalidate(updatedUser.getUserId());
+
 		boolean needsLogout = false;
 
 		UsersAuth usersAuth = usersAuthRepository.findByUserId(existingUser.getUserId());
@@ -189,6 +159,7 @@ public class UserService {
 				.build();
 
 			usersAuthRepository.save(usersAuth);
+			userProfileCache.invalidate(updatedUser.getUserId());
 			needsLogout = true;
 
 		}
@@ -197,13 +168,14 @@ public class UserService {
 
 	}
 
+	// 페이지마다 호출되므로 프로필 캐시 사용
 	public String getNickname(String userName) {
 
-		User user = userRepository.findByUserId(userName);
+		UserProfileDTO profile = userProfileCache.get(userName);
 
-		if (user != null) {
+		if (profile != null) {
 
-			return user.getNickname();
+			return profile.getNickname();
 
 		}
 
@@ -278,13 +250,14 @@ public class UserService {
 
 	}
 
+	// 페이지마다 호출되므로 프로필 캐시 사용
 	public String getRole(String userId) {
 
-		UsersAuth usersAuth = usersAuthRepository.findByUserId(userId);
+		UserProfileDTO profile = userProfileCache.get(userId);
 
-		if (usersAuth != null) {
+		if (profile != null) {
 
-			return usersAuth.getAuthorities();
+			return profile.getRole();
 
 		}
 
@@ -366,7 +339,7 @@ public class UserService {
 	}
 
 	public long findUserExpByUsername(String username) {
-		User user = userRepository.findByUserId(username);
-		return user != null ? user.getExp() : 0;
+		UserProfileDTO profile = userProfileCache.get(username);
+		return profile != null ? profile.getExp() : 0;
 	}
 }
@@ -0,0 +1,213 @@
+package com.community.dogcat.service.user.password;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+// BCrypt 해시/검증 전용 스레드 풀
+// 요청 스레드(Tomcat worker)가 직접 해시하지 않고 고정 크기 풀 + 제한된 대기열에서 실행, 가득 차면 바로 거절(429)
+// 저장된 해시의 cost 가 설정값(password.bcrypt.strength)과 다르면 로그인 성공시 새 cost 로 다시 해시
+@Slf4j
+@Component
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+	private final BCryptPasswordEncoder delegate;
+
+	private final int strength;
+
+	private final ThreadPoolExecutor executor;
+
+	// 대기열 + 실행 시간을 합친 최대 대기 시간
+	private final long timeoutMillis;
+
+	// 통계
+	private final LongAdder hashCount = new LongAdder();
+
+	private final LongAdder hashNanos = new LongAdder();
+
+	private final AtomicLong maxHashNanos = new AtomicLong();
+
+	private final LongAdder waitNanos = new LongAdder();
+
+	private final LongAdder rejected = new LongAdder();
+
+	public BoundedPasswordEncoder(@Value("${password.bcrypt.strength:10}") int strength,
+		@Value("${password.hash.threads:0}") int threads,
+		@Value("${password.hash.queueSize:64}") int queueSize,
+		@Value("${password.hash.timeoutMillis:5000}") long timeoutMillis) {
+
+		// 기본 스레드 수는 코어 수의 절반 (페이지 렌더링용 CPU 확보)
+		int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+		AtomicInteger sequence = new AtomicInteger();
+
+		this.delegate = new BCryptPasswordEncoder(strength);
+		this.strength = strength;
+		this.timeoutMillis = timeoutMillis;
+		this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueSize), runnable -> {
+			Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}, new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return execute(() -> delegate.encode(rawPassword));
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+
+		// 해시가 없는 회원(소셜 로그인 등)은 풀을 거치지 않음
+		if (rawPassword == null || encodedPassword == null || encodedPassword.isEmpty()) {
+			return false;
+		}
+
+		return execute(() -> delegate.matches(rawPassword, encodedPassword));
+	}
+
+	// cost 가 설정값과 다르면 재해시 대상 (높이거나 낮춘 경우 모두)
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+
+		int cost = costOf(encodedPassword);
+
+		return cost > 0 && cost != strength;
+	}
+
+	public int getQueueDepth() {
+		return executor.getQueue().size();
+	}
+
+	public int getActiveCount() {
+		return executor.getActiveCount();
+	}
+
+	public long getHashCount() {
+		return hashCount.sum();
+	}
+
+	public long getRejected() {
+		return rejected.sum();
+	}
+
+	public double getAverageHashMillis() {
+
+		long count = hashCount.sum();
+
+		return count == 0 ? 0 : hashNanos.sum() / 1_000_000.0 / count;
+	}
+
+	public double getAverageWaitMillis() {
+
+		long count = hashCount.sum();
+
+		return count == 0 ? 0 : waitNanos.sum() / 1_000_000.0 / count;
+	}
+
+	public double getMaxHashMillis() {
+		return maxHashNanos.get() / 1_000_000.0;
+	}
+
+	// 주기적으로 대기열/지연시간 기록
+	@Scheduled(fixedDelayString = "${password.hash.statsInterval:600000}",
+		initialDelayString = "${password.hash.statsInterval:600000}")
+	public void logStats() {
+
+		log.info("Password Hash: 대기열 {}, 실행중 {}, 처리 {}, 거절 {}, 평균 {}ms (대기 {}ms), 최대 {}ms",
+			getQueueDepth(), getActiveCount(), getHashCount(), getRejected(),
+			String.format("%.1f", getAverageHashMillis()), String.format("%.1f", getAverageWaitMillis()),
+			String.format("%.1f", getMaxHashMillis()));
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	private <T> T execute(Supplier<T> task) {
+
+		long submitted = System.nanoTime();
+
+		Future<T> future;
+
+		try {
+			future = executor.submit(() -> {
+				long started = System.nanoTime();
+				try {
+					return task.get();
+				} finally {
+					record(started - submitted, System.nanoTime() - started);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			rejected.increment();
+			throw new PasswordHashRejectedException("Password Hash Error : 429 Too Many Requests");
+		}
+
+		try {
+			return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new PasswordHashRejectedException("Password Hash Error : 429 Too Many Requests");
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			rejected.increment();
+			throw new PasswordHashRejectedException("Password Hash Error : 429 Too Many Requests");
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException)e.getCause();
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	private void record(long waited, long elapsed) {
+
+		hashCount.increment();
+		hashNanos.add(elapsed);
+		waitNanos.add(waited);
+		maxHashNanos.accumulateAndGet(elapsed, Math::max);
+	}
+
+	// $2a$10$... 형식에서 cost 추출, 형식이 다르면 -1
+	private static int costOf(String encodedPassword) {
+
+		if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+			return -1;
+		}
+
+		int end = encodedPassword.indexOf('$', 1);
+
+		if (end < 0 || encodedPassword.length() < end + 3) {
+			return -1;
+		}
+
+		try {
+			return Integer.parseInt(encodedPassword.substring(end + 1, end + 3));
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+}
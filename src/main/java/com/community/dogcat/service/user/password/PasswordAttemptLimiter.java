@@ -0,0 +1,118 @@
+package com.community.dogcat.service.user.password;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 로그인, 비밀번호 확인 요청 제한 (token bucket)
+// 회원 아이디별, IP별로 따로 제한하고 한도를 넘으면 해시를 시작하기 전에 거절
+@Slf4j
+@Component
+public class PasswordAttemptLimiter {
+
+	// 회원별 최대 연속 시도, 분당 회복량
+	@Value("${password.rateLimit.account.capacity:10}")
+	private int accountCapacity;
+
+	@Value("${password.rateLimit.account.refillPerMinute:10}")
+	private int accountRefillPerMinute;
+
+	// IP별 최대 연속 시도, 분당 회복량
+	@Value("${password.rateLimit.ip.capacity:30}")
+	private int ipCapacity;
+
+	@Value("${password.rateLimit.ip.refillPerMinute:30}")
+	private int ipRefillPerMinute;
+
+	private final Map<String, TokenBucket> accountBuckets = new ConcurrentHashMap<>();
+
+	private final Map<String, TokenBucket> ipBuckets = new ConcurrentHashMap<>();
+
+	// 통계
+	private final LongAdder limited = new LongAdder();
+
+	// 요청 허용 여부, IP 한도를 먼저 확인하고 통과한 경우에만 회원 한도 차감
+	public boolean tryAcquire(String userId, HttpServletRequest request) {
+
+		String ip = request.getRemoteAddr();
+
+		if (ip != null && !acquire(ipBuckets, ip, ipCapacity, ipRefillPerMinute)) {
+			limited.increment();
+			return false;
+		}
+
+		if (userId != null && !acquire(accountBuckets, userId, accountCapacity, accountRefillPerMinute)) {
+			limited.increment();
+			return false;
+		}
+
+		return true;
+	}
+
+	public long getLimited() {
+		return limited.sum();
+	}
+
+	// 다시 가득 찬 bucket 제거 (메모리 정리)
+	@Scheduled(fixedDelayString = "${password.rateLimit.cleanupInterval:300000}")
+	public void cleanup() {
+
+		long now = System.nanoTime();
+
+		accountBuckets.values().removeIf(bucket -> bucket.isFull(now, accountCapacity, accountRefillPerMinute));
+		ipBuckets.values().removeIf(bucket -> bucket.isFull(now, ipCapacity, ipRefillPerMinute));
+	}
+
+	private boolean acquire(Map<String, TokenBucket> buckets, String key, int capacity, int refillPerMinute) {
+		return buckets.computeIfAbsent(key, k -> new TokenBucket(capacity))
+			.tryConsume(System.nanoTime(), capacity, refillPerMinute);
+	}
+
+	private static class TokenBucket {
+
+		private double tokens;
+
+		private long refilledAt;
+
+		TokenBucket(int capacity) {
+			this.tokens = capacity;
+			this.refilledAt = System.nanoTime();
+		}
+
+		synchronized boolean tryConsume(long now, int capacity, int refillPerMinute) {
+
+			refill(now, capacity, refillPerMinute);
+
+			if (tokens < 1) {
+				return false;
+			}
+
+			tokens -= 1;
+
+			return true;
+		}
+
+		synchronized boolean isFull(long now, int capacity, int refillPerMinute) {
+
+			refill(now, capacity, refillPerMinute);
+
+			return tokens >= capacity;
+		}
+
+		private void refill(long now, int capacity, int refillPerMinute) {
+
+			double elapsedMinutes = (now - refilledAt) / 60_000_000_000.0;
+
+			tokens = Math.min(capacity, tokens + elapsedMinutes * refillPerMinute);
+			refilledAt = now;
+		}
+	}
+}
@@ -0,0 +1,10 @@
+package com.community.dogcat.service.user.password;
+
+// 비밀번호 해시 작업 대기열이 가득 찼거나 요청 한도를 넘은 경우 (429)
+public class PasswordHashRejectedException extends RuntimeException {
+
+	public PasswordHashRejectedException(String message) {
+		super(message);
+	}
+
+}
@@ -0,0 +1,70 @@
+package com.community.dogcat.service.user.refresh;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 메모리 저장소, 서버 한 대 또는 테스트용 (재시작시 모든 refresh 토큰 무효)
+@Component
+@ConditionalOnProperty(name = "refreshToken.store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+	// digest -> 저장 정보
+	private final Map<String, StoredToken> tokens = new ConcurrentHashMap<>();
+
+	@Override
+	public void save(String username, String refresh, Instant expiresAt) {
+		tokens.put(RefreshTokenStore.digest(refresh), new StoredToken(username, expiresAt));
+	}
+
+	@Override
+	public boolean exists(String refresh) {
+
+		StoredToken stored = tokens.get(RefreshTokenStore.digest(refresh));
+
+		return stored != null && stored.expiresAt.isAfter(Instant.now());
+	}
+
+	@Override
+	public boolean delete(String refresh) {
+		return tokens.remove(RefreshTokenStore.digest(refresh)) != null;
+	}
+
+	@Override
+	public void deleteAllByUsername(String username) {
+		tokens.values().removeIf(stored -> stored.username.equals(username));
+	}
+
+	@Override
+	public int purgeExpired(Instant now, int limit) {
+
+		int purged = 0;
+
+		Iterator<Map.Entry<String, StoredToken>> iterator = tokens.entrySet().iterator();
+
+		while (iterator.hasNext() && purged < limit) {
+			if (iterator.next().getValue().expiresAt.isBefore(now)) {
+				iterator.remove();
+				purged++;
+			}
+		}
+
+		return purged;
+	}
+
+	private static class StoredToken {
+
+		private final String username;
+
+		private final Instant expiresAt;
+
+		StoredToken(String username, Instant expiresAt) {
+			this.username = username;
+			this.expiresAt = expiresAt;
+		}
+	}
+}
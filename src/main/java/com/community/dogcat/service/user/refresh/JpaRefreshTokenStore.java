@@ -0,0 +1,72 @@
+package com.community.dogcat.service.user.refresh;
+
+import java.time.Instant;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.community.dogcat.domain.RefreshToken;
+import com.community.dogcat.repository.user.RefreshRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// refresh_token 테이블 저장소, token_hash 유니크 인덱스로 조회하므로 회원 수와 관계없이 일정한 비용
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "refreshToken.store", havingValue = "jpa", matchIfMissing = true)
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+	private final RefreshRepository refreshRepository;
+
+	// 토큰 원문으로 저장된 기존 데이터 변환 (이미 변환된 경우 변경 없음)
+	@EventListener(ApplicationReadyEvent.class)
+	public void migrateLegacyTokens() {
+
+		try {
+			int migrated = refreshRepository.migrateLegacyTokens();
+
+			if (migrated > 0) {
+				log.info("Refresh Token Store: 기존 refresh 토큰 {} 건 변환", migrated);
+			}
+		} catch (Exception e) {
+			// 기존 refresh 컬럼이 없는 새 DB
+			log.debug("Refresh Token Store: 변환할 기존 데이터 없음 ({})", e.getMessage());
+		}
+	}
+
+	@Override
+	public void save(String username, String refresh, Instant expiresAt) {
+
+		RefreshToken refreshToken = RefreshToken.builder()
+			.username(username)
+			.tokenHash(RefreshTokenStore.digest(refresh))
+			.expiresAt(expiresAt)
+			.build();
+
+		refreshRepository.save(refreshToken);
+	}
+
+	@Override
+	public boolean exists(String refresh) {
+		return refreshRepository.existsByTokenHashAndExpiresAtAfter(RefreshTokenStore.digest(refresh), Instant.now());
+	}
+
+	@Override
+	public boolean delete(String refresh) {
+		return refreshRepository.deleteByTokenHash(RefreshTokenStore.digest(refresh)) > 0;
+	}
+
+	@Override
+	public void deleteAllByUsername(String username) {
+		refreshRepository.deleteAllByUsername(username);
+	}
+
+	@Override
+	public int purgeExpired(Instant now, int limit) {
+		return refreshRepository.deleteExpired(now, limit);
+	}
+}
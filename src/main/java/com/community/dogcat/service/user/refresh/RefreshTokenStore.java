@@ -0,0 +1,42 @@
+package com.community.dogcat.service.user.refresh;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+
+// refresh 토큰 저장소
+// 토큰 원문은 저장하지 않고 SHA-256 digest 로 조회/삭제
+// refreshToken.store=jpa (기본, 여러 서버) | memory (단일 서버, 테스트)
+public interface RefreshTokenStore {
+
+	void save(String username, String refresh, Instant expiresAt);
+
+	// 저장되어 있고 만료되지 않은 토큰인지
+	boolean exists(String refresh);
+
+	// 삭제된 경우 true, 이미 없던 토큰이면 false
+	boolean delete(String refresh);
+
+	void deleteAllByUsername(String username);
+
+	// now 이전에 만료된 토큰 최대 limit 건 삭제, 삭제한 건수 반환
+	int purgeExpired(Instant now, int limit);
+
+	// hex 64자
+	static String digest(String refresh) {
+
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(refresh.getBytes(StandardCharsets.UTF_8));
+
+			StringBuilder hex = new StringBuilder(hash.length * 2);
+			for (byte b : hash) {
+				hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+			}
+
+			return hex.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
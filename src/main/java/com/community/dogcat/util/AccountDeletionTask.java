@@ -0,0 +1,38 @@
+package com.community.dogcat.util;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.community.dogcat.service.user.AccountDeletionService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountDeletionTask {
+
+	private final AccountDeletionService accountDeletionService;
+
+	// 탈퇴 요청된 회원의 글/댓글/좋아요 등 삭제, 중단된 작업은 기록된 단계부터 이어서 실행
+	@Scheduled(fixedDelayString = "${accountDeletion.interval:5000}")
+	public void run() {
+
+		try {
+			accountDeletionService.runPending();
+		} catch (RuntimeException e) {
+			log.error("Account Deletion: 처리 실패", e);
+		}
+	}
+
+	// 주기적으로 대기 작업 수, 처리 행 수 기록
+	@Scheduled(fixedDelayString = "${accountDeletion.statsInterval:600000}",
+		initialDelayString = "${accountDeletion.statsInterval:600000}")
+	public void logStats() {
+
+		log.info("Account Deletion: 대기 {}, 완료 {}, 처리 행 {}, 실패 {}",
+			accountDeletionService.getPending(), accountDeletionService.getCompletedJobs(),
+			accountDeletionService.getProcessedRows(), accountDeletionService.getFailures());
+	}
+}
@@ -3,48 +3,74 @@ package com.community.dogcat.util;
 import static org.apache.commons.io.file.PathUtils.*;
 
 import java.nio.file.Paths;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
-
-import javax.transaction.Transactional;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
-import com.community.dogcat.domain.ImgBoard;
+import com.community.dogcat.dto.uploadImage.OrphanReportDTO;
 import com.community.dogcat.repository.upload.UploadRepository;
+import com.community.dogcat.util.uploader.S3BatchDeleter;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+// 임시 업로드 폴더 정리 + S3 버킷에서 DB(img_board)에 없는 이미지 정리
+// DB 의 fileUuid 를 나눠서 조회해 UuidSet 에 담고, 버킷은 페이지 단위로 읽으면서 집합에 없는 key 만 묶어서 삭제
+// 메모리는 fileUuid 수 x 약 32 byte + 버킷 한 페이지
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class FileCheckTask {
 
+	// 원본({uuid}.확장자), 썸네일(t_), rendition(r{너비}_) key 의 접두어
+	private static final Pattern DERIVED_PREFIX = Pattern.compile("^(t_|r\\d+_)");
+
+	private static final int SAMPLE_KEYS = 100;
+
 	@Value("${uploadPath}")
 	private String uploadPath;
 
 	@Value("${cloud.aws.s3.bucket}")
 	private String bucketName;
 
+	// DB fileUuid 조회, 버킷 목록 조회 한 번에 가져올 수
+	@Value("${fileCheck.pageSize:1000}")
+	private int pageSize;
+
+	// 이 시간 안에 올라온 오브젝트는 DB 저장 전일 수 있으므로 건너뜀
+	@Value("${fileCheck.minAgeHours:24}")
+	private long minAgeHours;
+
+	// true 면 삭제하지 않고 결과만 기록
+	@Value("${fileCheck.dryRun:false}")
+	private boolean dryRun;
+
 	private final AmazonS3 s3Client;
 
 	private final UploadRepository uploadRepository;
 
+	private final S3BatchDeleter s3BatchDeleter;
+
 	private String bigLogLine = "===========================================";
 	private String smolLogLine = "-------------------------------------------";
 
 	//TODO 꼭 배포 전에 활성화 시키기
 	// 매월 1일 자정에 요일무시 파일 정리 실행
 	// @Scheduled(cron = "0 0 0 1 * ?")
-	@Transactional
 	public void checkFiles() throws Exception {
 		log.info(bigLogLine);
 		DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy년 MM월 dd일 EEEE");
@@ -60,67 +86,150 @@ public class FileCheckTask {
 			log.info("Upload Directory: 남아있는 파일이 없습니다.");
 		}
 		log.info(smolLogLine);
-		// S3 버킷과 DB의 이미지 테이블과 비교해 S3에 없는 파일 제거
-		List<String> uploadedFiles = fileListInBucket();
-		deleteUploadedFiles(uploadedFiles);
 
+		// S3 버킷과 DB의 이미지 테이블과 비교해 DB에 없는 파일 제거
+		reconcile(dryRun);
+
+		log.info(bigLogLine);
 	}
 
-	// 버킷에 업로드된 파일들의 키값(파일이름)을 가져옴
-	private List<String> fileListInBucket() {
+	// 버킷 전체와 DB 비교, dryRun 이면 삭제하지 않고 집계만
+	public OrphanReportDTO reconcile(boolean dryRun) {
+
+		long started = System.currentTimeMillis();
+
+		Set<String> otherIds = new HashSet<>();
+		UuidSet storedIds = loadStoredIds(otherIds);
+
+		Instant recentAfter = Instant.now().minusSeconds(minAgeHours * 3600);
+
+		long scanned = 0;
+		long recent = 0;
+		long unknown = 0;
+		long orphans = 0;
+		long orphanBytes = 0;
+		long deleted = 0;
+		long failed = 0;
+
+		List<String> sampleKeys = new ArrayList<>();
+		List<String> pending = new ArrayList<>();
+
+		ListObjectsV2Request request = new ListObjectsV2Request()
+			.withBucketName(bucketName)
+			.withMaxKeys(pageSize);
+
+		ListObjectsV2Result page;
+
+		do {
+			page = s3Client.listObjectsV2(request);
+
+			for (S3ObjectSummary summary : page.getObjectSummaries()) {
+
+				scanned++;
 
-		List<S3ObjectSummary> uploadedS3Files;
+				String fileUuid = extractionUuid(summary.getKey());
 
-		// 버킷에 업로드된 모든 오브젝트를 리스트로 받아옴
-		uploadedS3Files = s3Client.listObjects(bucketName).getObjectSummaries();
+				if (UuidSet.parse(fileUuid) == null && !otherIds.contains(fileUuid)) {
+					unknown++;
+					continue;
+				}
 
-		List<String> uploadedFiles = new ArrayList<>();
+				if (storedIds.contains(fileUuid) || otherIds.contains(fileUuid)) {
+					continue;
+				}
 
-		// 썸네일 파일 제외하고 리스트로 넣음
-		for (S3ObjectSummary uploadedS3File : uploadedS3Files) {
+				if (summary.getLastModified() != null && summary.getLastModified().toInstant().isAfter(recentAfter)) {
+					recent++;
+					continue;
+				}
 
-			if (!uploadedS3File.getKey().contains("t_")) {
+				orphans++;
+				orphanBytes += summary.getSize();
 
-				String fileName = uploadedS3File.getKey();
+				if (sampleKeys.size() < SAMPLE_KEYS) {
+					sampleKeys.add(summary.getKey());
+				}
 
-				uploadedFiles.add(fileName);
+				if (!dryRun) {
+					pending.add(summary.getKey());
+
+					if (pending.size() >= S3BatchDeleter.MAX_BATCH_SIZE) {
+						S3BatchDeleter.DeleteResult result = s3BatchDeleter.delete(pending);
+						deleted += result.getDeleted();
+						failed += result.getFailed().size();
+						pending.clear();
+					}
+				}
 			}
+
+			request.setContinuationToken(page.getNextContinuationToken());
+
+		} while (page.isTruncated());
+
+		if (!pending.isEmpty()) {
+			S3BatchDeleter.DeleteResult result = s3BatchDeleter.delete(pending);
+			deleted += result.getDeleted();
+			failed += result.getFailed().size();
 		}
-		return uploadedFiles;
+
+		OrphanReportDTO report = OrphanReportDTO.builder()
+			.dryRun(dryRun)
+			.storedImages(storedIds.size() + otherIds.size())
+			.scannedObjects(scanned)
+			.recentObjects(recent)
+			.unknownObjects(unknown)
+			.orphanObjects(orphans)
+			.orphanBytes(orphanBytes)
+			.deleted(deleted)
+			.failed(failed)
+			.sampleKeys(sampleKeys)
+			.elapsedMillis(System.currentTimeMillis() - started)
+			.build();
+
+		log.info("S3 정리{}: DB 이미지 {} 건, 버킷 오브젝트 {} 건 확인, DB에 없는 오브젝트 {} 건({} bytes), "
+				+ "삭제 {} 건, 실패 {} 건, 최근 업로드 {} 건 / 규칙 외 key {} 건 제외 ({}ms)",
+			dryRun ? "(dry run)" : "", report.getStoredImages(), scanned, orphans, orphanBytes,
+			deleted, failed, recent, unknown, report.getElapsedMillis());
+
+		return report;
 	}
 
-	// ImgBoard 에서 파일 찾기 위한 Uuid 추출
-	private String extractionUuid(String originalFileName) {
+	// DB 의 fileUuid 전체를 pageSize 씩 나눠서 조회, UUID 형식이 아닌 값은 otherIds 에
+	private UuidSet loadStoredIds(Set<String> otherIds) {
 
-		int lastIndex = originalFileName.lastIndexOf(".");
+		UuidSet storedIds = new UuidSet((int)Math.min(uploadRepository.count(), Integer.MAX_VALUE / 4));
 
-		return lastIndex != -1 ? originalFileName.substring(0, lastIndex) : originalFileName;
+		String after = "";
+		List<String> fileUuids;
 
-	}
+		do {
+			fileUuids = uploadRepository.findFileUuidsAfter(after, PageRequest.of(0, pageSize));
 
-	// DB에 저장되어있지 않는 업로드 파일들 제거
-	private void deleteUploadedFiles(List<String> uploadedFiles) {
+			for (String fileUuid : fileUuids) {
+				if (UuidSet.parse(fileUuid) != null) {
+					storedIds.add(fileUuid);
+				} else {
+					otherIds.add(fileUuid);
+				}
+			}
 
-		if (!uploadedFiles.isEmpty()) {
-			log.info("정리 할 S3 업로드 이미지가 없습니다");
-		}
+			if (!fileUuids.isEmpty()) {
+				after = fileUuids.get(fileUuids.size() - 1);
+			}
 
-		for (String uploadedFile : uploadedFiles) {
-			String fileUuid = extractionUuid(uploadedFile);
+		} while (fileUuids.size() == pageSize);
 
-			Optional<ImgBoard> findImageInDatabase = uploadRepository.findById(fileUuid);
+		return storedIds;
+	}
 
-			if (findImageInDatabase.isEmpty()) {
+	// ImgBoard 에서 파일 찾기 위한 Uuid 추출 (t_, r{너비}_ 접두어와 확장자 제거)
+	private String extractionUuid(String key) {
 
-				String thumbUploadedFile = "t_" + uploadedFile;
+		String originalFileName = DERIVED_PREFIX.matcher(key).replaceFirst("");
 
-				s3Client.deleteObject(bucketName, uploadedFile);
-				s3Client.deleteObject(bucketName, thumbUploadedFile);
-			}
-		}
+		int lastIndex = originalFileName.lastIndexOf(".");
+
+		return lastIndex != -1 ? originalFileName.substring(0, lastIndex) : originalFileName;
 
-		log.info(smolLogLine);
-		log.info("DB에 존재하지 않는 S3업로드 이미지 정리 완료");
-		log.info(bigLogLine);
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,35 @@
+package com.community.dogcat.util;
+
+import java.util.regex.Pattern;
+
+import com.community.dogcat.service.search.HangulBigramTokenizer;
+
+// 게시글 목록용 본문 미리보기 생성
+// summernote HTML 에서 태그/엔티티를 제거하고 공백을 정리한 뒤 앞부분만 남김
+public final class PostExcerpt {
+
+	// post.excerpt 컬럼 길이
+	public static final int MAX_LENGTH = 200;
+
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	private PostExcerpt() {
+	}
+
+	public static String of(String postContent) {
+
+		String text = WHITESPACE.matcher(HangulBigramTokenizer.stripHtml(postContent)).replaceAll(" ").trim();
+
+		if (text.length() <= MAX_LENGTH) {
+			return text;
+		}
+
+		// 서로게이트 쌍(이모지 등) 중간에서 자르지 않도록 조정
+		int end = MAX_LENGTH;
+		if (Character.isHighSurrogate(text.charAt(end - 1))) {
+			end--;
+		}
+
+		return text.substring(0, end);
+	}
+}
@@ -0,0 +1,76 @@
+package com.community.dogcat.util;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.community.dogcat.repository.board.BoardRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// post.excerpt, post.cover_thumbnail 컬럼 추가 전에 등록된 게시글 백필
+// 비어있는 게시글만 채우므로 여러 번 실행해도 결과 같음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSummaryBackfillTask {
+
+	private static final String UPDATE_EXCERPT = "UPDATE post SET excerpt = ? WHERE post_no = ? AND excerpt IS NULL";
+
+	private final BoardRepository boardRepository;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	// 한 번에 백필할 postNo 구간 크기
+	@Value("${postSummary.backfill.batchSize:500}")
+	private long batchSize;
+
+	// 서버 시작시 백필 여부 (컬럼 추가 후 최초 배포시 true)
+	@Value("${postSummary.backfill.onStartup:false}")
+	private boolean backfillOnStartup;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfillOnStartup() {
+
+		if (backfillOnStartup) {
+			backfill();
+		}
+	}
+
+	public void backfill() {
+
+		Long maxPostNo = boardRepository.findMaxPostNo();
+
+		if (maxPostNo == null) {
+			log.info("Post Summary Backfill: 백필할 게시글이 없습니다.");
+			return;
+		}
+
+		long excerpts = 0;
+		long covers = 0;
+
+		// postNo 구간별로 나눠서 실행, 본문(TEXT)은 구간 크기만큼만 메모리에 올림
+		for (long from = 1; from <= maxPostNo; from += batchSize) {
+			long to = Math.min(from + batchSize - 1, maxPostNo);
+
+			List<Object[]> batchArgs = boardRepository.findExcerptBackfillTargets(from, to).stream()
+				.map(target -> new Object[] {PostExcerpt.of(target.getPostContent()), target.getPostNo()})
+				.collect(Collectors.toList());
+
+			if (!batchArgs.isEmpty()) {
+				jdbcTemplate.batchUpdate(UPDATE_EXCERPT, batchArgs);
+				excerpts += batchArgs.size();
+			}
+
+			covers += boardRepository.backfillCoverThumbnailBetween(from, to);
+		}
+
+		log.info("Post Summary Backfill: 본문 미리보기 {} 건, 대표 썸네일 {} 건 백필 완료", excerpts, covers);
+	}
+}
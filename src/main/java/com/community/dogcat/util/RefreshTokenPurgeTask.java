@@ -0,0 +1,42 @@
+package com.community.dogcat.util;
+
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.community.dogcat.service.user.refresh.RefreshTokenStore;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenPurgeTask {
+
+	private final RefreshTokenStore refreshTokenStore;
+
+	// 한 번에 삭제할 건수
+	@Value("${refreshToken.purge.batchSize:1000}")
+	private int batchSize;
+
+	// 만료된 refresh 토큰 삭제, batchSize 건씩 나눠서 실행 (긴 락 방지)
+	@Scheduled(cron = "${refreshToken.purge.cron:0 0 * * * ?}")
+	public void purge() {
+
+		Instant now = Instant.now();
+		long purged = 0;
+		int deleted;
+
+		do {
+			deleted = refreshTokenStore.purgeExpired(now, batchSize);
+			purged += deleted;
+		} while (deleted >= batchSize);
+
+		if (purged > 0) {
+			log.info("Refresh Token Purge: 만료된 refresh 토큰 {} 건 삭제", purged);
+		}
+	}
+}
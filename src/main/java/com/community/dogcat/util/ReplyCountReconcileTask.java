@@ -0,0 +1,58 @@
+package com.community.dogcat.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.community.dogcat.repository.board.BoardRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReplyCountReconcileTask {
+
+	private final BoardRepository boardRepository;
+
+	// 한 번에 보정할 postNo 구간 크기
+	@Value("${replyCount.reconcile.batchSize:1000}")
+	private long batchSize;
+
+	// 서버 시작시 post.reply_count 백필 여부 (컬럼 추가 후 최초 배포시 true)
+	@Value("${replyCount.reconcile.onStartup:false}")
+	private boolean reconcileOnStartup;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfillOnStartup() {
+
+		if (reconcileOnStartup) {
+			reconcile();
+		}
+	}
+
+	// 매일 새벽 댓글 수 정합성 보정
+	@Scheduled(cron = "${replyCount.reconcile.cron:0 30 4 * * ?}")
+	public void reconcile() {
+
+		Long maxPostNo = boardRepository.findMaxPostNo();
+
+		if (maxPostNo == null) {
+			log.info("Reply Count Reconcile: 보정할 게시글이 없습니다.");
+			return;
+		}
+
+		long updated = 0;
+
+		// postNo 구간별로 나눠서 각각 별도 트랜잭션으로 실행 (긴 락 방지)
+		for (long from = 1; from <= maxPostNo; from += batchSize) {
+			long to = Math.min(from + batchSize - 1, maxPostNo);
+			updated += boardRepository.reconcileReplyCountBetween(from, to);
+		}
+
+		log.info("Reply Count Reconcile: {} 건의 게시글 댓글 수 보정 완료", updated);
+	}
+}
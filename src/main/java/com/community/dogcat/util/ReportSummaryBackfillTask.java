@@ -0,0 +1,68 @@
+package com.community.dogcat.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.community.dogcat.repository.report.ReportLogRepository;
+import com.community.dogcat.service.report.ReportService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// report_log.reported_user_id, target_type 컬럼 추가 전에 등록된 신고 백필 후 회원별 신고 수 재계산
+// 비어있는 신고만 채우므로 여러 번 실행해도 결과 같음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReportSummaryBackfillTask {
+
+	private final ReportLogRepository reportLogRepository;
+
+	private final ReportService reportService;
+
+	// 한 번에 백필할 reportNo 구간 크기
+	@Value("${reportSummary.backfill.batchSize:1000}")
+	private long batchSize;
+
+	// 서버 시작시 백필 여부 (컬럼 추가 후 최초 배포시 true)
+	@Value("${reportSummary.backfill.onStartup:false}")
+	private boolean backfillOnStartup;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfillOnStartup() {
+
+		if (backfillOnStartup) {
+			backfill();
+		}
+	}
+
+	public void backfill() {
+
+		Long maxReportNo = reportLogRepository.findMaxReportNo();
+
+		if (maxReportNo == null) {
+			log.info("Report Summary Backfill: 백필할 신고가 없습니다.");
+			return;
+		}
+
+		long posts = 0;
+		long replies = 0;
+
+		// reportNo 구간별로 나눠서 실행 (긴 락 방지)
+		for (long from = 1; from <= maxReportNo; from += batchSize) {
+			long to = Math.min(from + batchSize - 1, maxReportNo);
+
+			posts += reportLogRepository.backfillPostReportsBetween(from, to);
+			replies += reportLogRepository.backfillReplyReportsBetween(from, to);
+		}
+
+		// 채운 신고가 있으면 회원별 신고 수를 report_log 기준으로 다시 계산
+		if (posts + replies > 0) {
+			reportService.rebuildReportSummary();
+		}
+
+		log.info("Report Summary Backfill: 게시글 신고 {} 건, 댓글 신고 {} 건 백필 완료", posts, replies);
+	}
+}
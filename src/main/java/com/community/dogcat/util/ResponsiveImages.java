@@ -0,0 +1,69 @@
+package com.community.dogcat.util;
+
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 게시글 본문(summernote HTML)의 img 태그에 너비별 rendition 지정
+// 렌더링 전에 srcset/sizes/loading 을 넣어 두어야 브라우저가 원본을 먼저 받지 않음
+public final class ResponsiveImages {
+
+	// 본문 영역 최대 너비 기준 (모바일은 화면 너비)
+	public static final String SIZES = "(max-width: 768px) 100vw, 768px";
+
+	private static final Pattern IMG_TAG = Pattern.compile("<img\\b[^>]*>", Pattern.CASE_INSENSITIVE);
+
+	private static final Pattern SRC = Pattern.compile("\\ssrc\\s*=\\s*([\"'])(.*?)\\1", Pattern.CASE_INSENSITIVE);
+
+	private static final Pattern SRCSET = Pattern.compile("\\ssrcset\\s*=", Pattern.CASE_INSENSITIVE);
+
+	private ResponsiveImages() {
+	}
+
+	// srcsets: 원본 주소 -> srcset, 해당하는 img 에만 적용 (이미 srcset 이 있으면 그대로 둠)
+	public static String apply(String html, Map<String, String> srcsets) {
+
+		if (html == null || srcsets == null || srcsets.isEmpty()) {
+			return html;
+		}
+
+		Matcher tags = IMG_TAG.matcher(html);
+		StringBuilder result = new StringBuilder(html.length() + srcsets.size() * 200);
+
+		while (tags.find()) {
+
+			String tag = tags.group();
+			tags.appendReplacement(result, Matcher.quoteReplacement(withSrcset(tag, srcsets)));
+		}
+
+		tags.appendTail(result);
+
+		return result.toString();
+	}
+
+	private static String withSrcset(String tag, Map<String, String> srcsets) {
+
+		Matcher src = SRC.matcher(tag);
+
+		if (!src.find() || SRCSET.matcher(tag).find()) {
+			return tag;
+		}
+
+		String srcset = srcsets.get(src.group(2).replace("&amp;", "&"));
+
+		if (srcset == null) {
+			return tag;
+		}
+
+		// 닫는 위치 (">" 또는 "/>") 앞에 속성 추가
+		int end = tag.endsWith("/>") ? tag.length() - 2 : tag.length() - 1;
+
+		return tag.substring(0, end).stripTrailing()
+			+ " srcset=\"" + escape(srcset) + "\" sizes=\"" + SIZES + "\" loading=\"lazy\""
+			+ tag.substring(end);
+	}
+
+	private static String escape(String value) {
+		return value.replace("&", "&amp;").replace("\"", "&quot;").replace("<", "&lt;").replace(">", "&gt;");
+	}
+}
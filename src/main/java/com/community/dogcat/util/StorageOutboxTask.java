@@ -0,0 +1,41 @@
+package com.community.dogcat.util;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.community.dogcat.service.upload.StorageOutboxService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StorageOutboxTask {
+
+	private final StorageOutboxService storageOutboxService;
+
+	// 커밋된 S3 삭제 작업 처리, 처리할 행이 남아있으면 이어서 실행
+	@Scheduled(fixedDelayString = "${storageOutbox.drainInterval:2000}")
+	public void drain() {
+
+		try {
+			while (storageOutboxService.drain() > 0 && !Thread.currentThread().isInterrupted()) {
+				// 다음 묶음
+			}
+		} catch (RuntimeException e) {
+			log.error("Storage Outbox: 처리 실패", e);
+		}
+	}
+
+	// 주기적으로 대기, dead letter 수 기록
+	@Scheduled(fixedDelayString = "${storageOutbox.statsInterval:600000}",
+		initialDelayString = "${storageOutbox.statsInterval:600000}")
+	public void logStats() {
+
+		log.info("Storage Outbox: 대기 {}, dead letter {}, 등록 key {}, 삭제 key {}, 재시도 {}",
+			storageOutboxService.getPending(), storageOutboxService.getDead(),
+			storageOutboxService.getEnqueuedKeys(), storageOutboxService.getDeletedKeys(),
+			storageOutboxService.getRetries());
+	}
+}
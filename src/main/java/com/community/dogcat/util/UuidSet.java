@@ -0,0 +1,159 @@
+package com.community.dogcat.util;
+
+import java.util.UUID;
+
+// UUID 전용 open addressing 해시 집합, UUID 하나를 long 2개(16 byte)로 저장
+// HashSet<String> 은 UUID 하나에 100 byte 이상 사용하므로 수백만 건을 메모리에 올릴 때 사용
+public final class UuidSet {
+
+	private static final float LOAD_FACTOR = 0.7f;
+
+	// 빈 칸 표시용 (msb, lsb 모두 0 인 UUID 는 zeroPresent 로 따로 관리)
+	private long[] table;
+
+	private int size;
+
+	private boolean zeroPresent;
+
+	public UuidSet(int expectedSize) {
+		table = new long[capacityFor(expectedSize) * 2];
+	}
+
+	// UUID 형식이 아니면 추가하지 않고 false
+	public boolean add(String value) {
+
+		UUID uuid = parse(value);
+
+		return uuid != null && add(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+	}
+
+	public boolean contains(String value) {
+
+		UUID uuid = parse(value);
+
+		return uuid != null && contains(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+	}
+
+	public int size() {
+		return size;
+	}
+
+	// 표준 UUID 문자열(36자)만 허용, 아니면 null
+	public static UUID parse(String value) {
+
+		if (value == null || value.length() != 36 || value.charAt(8) != '-' || value.charAt(13) != '-'
+			|| value.charAt(18) != '-' || value.charAt(23) != '-') {
+			return null;
+		}
+
+		try {
+			return UUID.fromString(value);
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private boolean add(long msb, long lsb) {
+
+		if (msb == 0 && lsb == 0) {
+			if (zeroPresent) {
+				return false;
+			}
+			zeroPresent = true;
+			size++;
+			return true;
+		}
+
+		if (size + 1 > (table.length / 2) * LOAD_FACTOR) {
+			resize();
+		}
+
+		if (!insert(table, msb, lsb)) {
+			return false;
+		}
+
+		size++;
+		return true;
+	}
+
+	private boolean contains(long msb, long lsb) {
+
+		if (msb == 0 && lsb == 0) {
+			return zeroPresent;
+		}
+
+		int mask = table.length / 2 - 1;
+		int slot = hash(msb, lsb) & mask;
+
+		while (true) {
+			long m = table[slot * 2];
+			long l = table[slot * 2 + 1];
+
+			if (m == 0 && l == 0) {
+				return false;
+			}
+			if (m == msb && l == lsb) {
+				return true;
+			}
+			slot = (slot + 1) & mask;
+		}
+	}
+
+	// 이미 있으면 false
+	private static boolean insert(long[] table, long msb, long lsb) {
+
+		int mask = table.length / 2 - 1;
+		int slot = hash(msb, lsb) & mask;
+
+		while (true) {
+			long m = table[slot * 2];
+			long l = table[slot * 2 + 1];
+
+			if (m == 0 && l == 0) {
+				table[slot * 2] = msb;
+				table[slot * 2 + 1] = lsb;
+				return true;
+			}
+			if (m == msb && l == lsb) {
+				return false;
+			}
+			slot = (slot + 1) & mask;
+		}
+	}
+
+	private void resize() {
+
+		long[] next = new long[table.length * 2];
+
+		for (int slot = 0; slot < table.length / 2; slot++) {
+			long m = table[slot * 2];
+			long l = table[slot * 2 + 1];
+
+			if (m != 0 || l != 0) {
+				insert(next, m, l);
+			}
+		}
+
+		table = next;
+	}
+
+	private static int hash(long msb, long lsb) {
+
+		long h = msb * 0x9E3779B97F4A7C15L ^ lsb;
+		h ^= h >>> 32;
+		h *= 0xC2B2AE3D27D4EB4FL;
+
+		return (int)(h ^ (h >>> 29));
+	}
+
+	private static int capacityFor(int expectedSize) {
+
+		int capacity = 16;
+
+		while (capacity * LOAD_FACTOR < expectedSize) {
+			capacity <<= 1;
+		}
+
+		return capacity;
+	}
+}
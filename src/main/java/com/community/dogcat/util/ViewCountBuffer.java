@@ -0,0 +1,275 @@
+package com.community.dogcat.util;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 게시글 조회수 write-behind 버퍼
+// 상세 조회마다 UPDATE 하지 않고 postNo별 LongAdder에 누적 후 주기적으로 한번에 반영 (인기글 행 락 경합 방지)
+// 반영은 스케줄러/전용 스레드에서 별도 트랜잭션으로만 실행 (요청 스레드, 요청 트랜잭션에서 UPDATE 하지 않음)
+@Slf4j
+@Component
+public class ViewCountBuffer {
+
+	private static final String UPDATE_VIEW_COUNT =
+		"UPDATE post SET view_count = IFNULL(view_count, 0) + ? WHERE post_no = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	// 항상 새 트랜잭션 (호출한 쪽 트랜잭션에 참여하지 않음)
+	private final TransactionTemplate transactionTemplate;
+
+	// maxPending 을 넘었을 때 flush 를 실행하는 전용 스레드
+	private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "view-count-flush");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	// 버퍼에 쌓인 조회수 합이 이 값을 넘으면 주기를 기다리지 않고 반영
+	@Value("${viewCount.buffer.maxPending:10000}")
+	private long maxPending;
+
+	// postNo -> 반영 대기중인 조회수
+	private final Map<Long, LongAdder> counters = new ConcurrentHashMap<>();
+
+	// 반영 대기중인 조회수 합계
+	private final LongAdder pending = new LongAdder();
+
+	private final AtomicBoolean flushing = new AtomicBoolean(false);
+
+	// 전용 스레드에 flush 가 대기중인지
+	private final AtomicBoolean flushQueued = new AtomicBoolean(false);
+
+	// 통계
+	private final AtomicLong flushedTotal = new AtomicLong();
+
+	private final AtomicLong flushCount = new AtomicLong();
+
+	private final AtomicLong failedFlushCount = new AtomicLong();
+
+	private volatile long lastFlushMillis = 0L;
+
+	public ViewCountBuffer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	// 조회수 1 증가 (DB 반영은 flush 시점)
+	public void increment(Long postNo) {
+
+		LongAdder counter = counters.computeIfAbsent(postNo, key -> new LongAdder());
+		counter.increment();
+		pending.increment();
+
+		// 증가 직전에 flush 가 항목을 제거했으면 증가분을 현재 항목으로 옮김
+		if (counters.get(postNo) != counter) {
+			transfer(postNo, counter);
+		}
+
+		if (pending.sum() >= maxPending) {
+			requestFlush();
+		}
+	}
+
+	// 전용 스레드에 flush 요청, 이미 대기중이면 무시 (요청 스레드는 기다리지 않음)
+	private void requestFlush() {
+
+		if (!flushQueued.compareAndSet(false, true)) {
+			return;
+		}
+
+		try {
+			flushExecutor.execute(() -> {
+				flushQueued.set(false);
+				flush();
+			});
+		} catch (RejectedExecutionException e) {
+			// 종료중, 남은 조회수는 shutdown 에서 반영
+			flushQueued.set(false);
+		}
+	}
+
+	// 아직 DB에 반영되지 않은 조회수, 상세 페이지 표시용
+	public long pending(Long postNo) {
+
+		LongAdder counter = counters.get(postNo);
+
+		return counter != null ? counter.sum() : 0L;
+	}
+
+	public long getPendingIncrements() {
+		return pending.sum();
+	}
+
+	public int getPendingPosts() {
+		return counters.size();
+	}
+
+	public long getFlushedTotal() {
+		return flushedTotal.get();
+	}
+
+	public long getFlushCount() {
+		return flushCount.get();
+	}
+
+	public long getFailedFlushCount() {
+		return failedFlushCount.get();
+	}
+
+	public long getLastFlushMillis() {
+		return lastFlushMillis;
+	}
+
+	// 주기적으로 대기/반영 현황 기록
+	@Scheduled(fixedDelayString = "${viewCount.buffer.statsInterval:600000}",
+		initialDelayString = "${viewCount.buffer.statsInterval:600000}")
+	public void logStats() {
+
+		log.info("View Count Buffer: 대기 조회수 {} (게시글 {} 건), 반영 {} ({} 회), 실패 {} 회, 마지막 반영 {}",
+			getPendingIncrements(), getPendingPosts(), getFlushedTotal(), getFlushCount(), getFailedFlushCount(),
+			lastFlushMillis > 0 ? Instant.ofEpochMilli(lastFlushMillis) : "-");
+	}
+
+	@Scheduled(fixedDelayString = "${viewCount.buffer.flushInterval:5000}")
+	public void scheduledFlush() {
+		flush();
+	}
+
+	// 서버 종료시 남은 조회수 반영
+	@PreDestroy
+	public void shutdown() {
+
+		flushExecutor.shutdown();
+
+		try {
+			flushExecutor.awaitTermination(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		flush();
+
+		if (pending.sum() > 0) {
+			log.warn("View Count Buffer: 종료시 반영하지 못한 조회수 {} 건", pending.sum());
+		}
+	}
+
+	// 누적된 조회수를 postNo 순서로 batch UPDATE (락 순서 고정), 별도 트랜잭션에서 커밋
+	public void flush() {
+
+		// 동시에 하나의 flush만 실행
+		if (!flushing.compareAndSet(false, true)) {
+			return;
+		}
+
+		try {
+			// 읽은 값만큼만 차감하므로 flush 중에 들어온 조회수는 다음 flush로 넘어감
+			Map<Long, Long> deltas = new TreeMap<>();
+
+			for (Map.Entry<Long, LongAdder> entry : counters.entrySet()) {
+				long delta = entry.getValue().sum();
+				if (delta > 0) {
+					entry.getValue().add(-delta);
+					deltas.put(entry.getKey(), delta);
+				} else {
+					evictIdle(entry.getKey(), entry.getValue());
+				}
+			}
+
+			if (deltas.isEmpty()) {
+				return;
+			}
+
+			List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+			deltas.forEach((postNo, delta) -> batchArgs.add(new Object[] {delta, postNo}));
+
+			long total = deltas.values().stream().mapToLong(Long::longValue).sum();
+
+			try {
+				transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_VIEW_COUNT, batchArgs));
+
+				pending.add(-total);
+				flushedTotal.addAndGet(total);
+				flushCount.incrementAndGet();
+				lastFlushMillis = System.currentTimeMillis();
+
+				log.debug("View Count Buffer: 게시글 {} 건, 조회수 {} 반영", deltas.size(), total);
+			} catch (Exception e) {
+				// 실패한 조회수는 버퍼에 되돌려서 다음 flush에 재시도
+				deltas.forEach((postNo, delta) -> counters.computeIfAbsent(postNo, key -> new LongAdder()).add(delta));
+				failedFlushCount.incrementAndGet();
+
+				log.error("View Count Buffer: 조회수 반영 실패, 다음 주기에 재시도 ({} 건)", total, e);
+			}
+		} finally {
+			flushing.set(false);
+		}
+	}
+
+	// 반영할 조회수가 없는 항목 제거
+	// 제거한 항목을 잡고 있던 increment 는 증가 후 항목이 바뀐 것을 보고 직접 옮기므로,
+	// 여기서는 제거 시점까지 들어온 값만 옮김 (읽기/차감은 항목 단위로 잠가서 한쪽만 가져가므로 중복/유실 없음)
+	private void evictIdle(Long postNo, LongAdder counter) {
+
+		if (counters.remove(postNo, counter)) {
+			transfer(postNo, counter);
+		}
+	}
+
+	// 맵에서 빠진 항목에 남은 조회수를 현재 항목으로 옮김
+	// 옮기는 사이 대상 항목도 제거되었으면 다시 옮김
+	private void transfer(Long postNo, LongAdder detached) {
+
+		LongAdder from = detached;
+
+		while (true) {
+			long late;
+
+			// evictIdle 과 increment 가 같은 항목을 동시에 옮길 수 있으므로 읽기와 차감을 한 번에
+			// (잠금 밖에서 들어온 증가분은 그 increment 가 이어서 옮김)
+			synchronized (from) {
+				late = from.sum();
+				from.add(-late);
+			}
+
+			if (late == 0) {
+				return;
+			}
+
+			LongAdder target = counters.computeIfAbsent(postNo, key -> new LongAdder());
+			target.add(late);
+
+			if (counters.get(postNo) == target) {
+				return;
+			}
+
+			from = target;
+		}
+	}
+}
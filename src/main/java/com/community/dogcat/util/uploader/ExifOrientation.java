@@ -0,0 +1,168 @@
+package com.community.dogcat.util.uploader;
+
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+// JPEG EXIF 방향(Orientation, 0x0112) 태그 읽기 + 적용
+// 픽셀은 읽지 않고 APP1 segment 만 확인, 태그가 없거나 JPEG 가 아니면 1 (회전 없음)
+public final class ExifOrientation {
+
+	public static final int NORMAL = 1;
+
+	private static final int ORIENTATION_TAG = 0x0112;
+
+	private ExifOrientation() {
+	}
+
+	// stream 은 파일 처음 위치여야 함, 닫지 않음
+	public static int read(InputStream inputStream) {
+
+		try {
+			DataInputStream in = new DataInputStream(inputStream);
+
+			if (in.readUnsignedShort() != 0xFFD8) {
+				return NORMAL;
+			}
+
+			while (true) {
+				int marker = in.readUnsignedShort();
+
+				// SOS 이후는 이미지 데이터
+				if ((marker & 0xFF00) != 0xFF00 || marker == 0xFFDA || marker == 0xFFD9) {
+					return NORMAL;
+				}
+
+				int length = in.readUnsignedShort() - 2;
+
+				if (length < 0) {
+					return NORMAL;
+				}
+
+				if (marker == 0xFFE1 && length > 14) {
+					byte[] segment = new byte[length];
+					in.readFully(segment);
+
+					if (segment[0] == 'E' && segment[1] == 'x' && segment[2] == 'i' && segment[3] == 'f') {
+						return parseTiff(segment, 6);
+					}
+				} else {
+					in.skipNBytes(length);
+				}
+			}
+		} catch (EOFException e) {
+			return NORMAL;
+		} catch (IOException e) {
+			return NORMAL;
+		}
+	}
+
+	// 방향에 맞게 회전/반전한 이미지, NORMAL 이면 그대로 반환
+	public static BufferedImage apply(BufferedImage image, int orientation) {
+
+		if (orientation <= NORMAL || orientation > 8) {
+			return image;
+		}
+
+		int width = image.getWidth();
+		int height = image.getHeight();
+		boolean swap = orientation >= 5;
+
+		AffineTransform transform = new AffineTransform();
+
+		switch (orientation) {
+			case 2:
+				transform.scale(-1, 1);
+				transform.translate(-width, 0);
+				break;
+			case 3:
+				transform.translate(width, height);
+				transform.rotate(Math.PI);
+				break;
+			case 4:
+				transform.scale(1, -1);
+				transform.translate(0, -height);
+				break;
+			case 5:
+				transform.rotate(Math.PI / 2);
+				transform.scale(1, -1);
+				break;
+			case 6:
+				transform.translate(height, 0);
+				transform.rotate(Math.PI / 2);
+				break;
+			case 7:
+				transform.scale(-1, 1);
+				transform.translate(-height, 0);
+				transform.translate(0, width);
+				transform.rotate(3 * Math.PI / 2);
+				break;
+			default:
+				transform.translate(0, width);
+				transform.rotate(3 * Math.PI / 2);
+				break;
+		}
+
+		int type = image.getType() == BufferedImage.TYPE_CUSTOM ? BufferedImage.TYPE_INT_ARGB : image.getType();
+		BufferedImage rotated = new BufferedImage(swap ? height : width, swap ? width : height, type);
+
+		Graphics2D graphics = rotated.createGraphics();
+		graphics.drawImage(image, transform, null);
+		graphics.dispose();
+
+		return rotated;
+	}
+
+	// TIFF 헤더(II/MM) + IFD0 에서 방향 태그 검색
+	private static int parseTiff(byte[] data, int offset) {
+
+		if (data.length < offset + 8) {
+			return NORMAL;
+		}
+
+		boolean littleEndian = data[offset] == 'I' && data[offset + 1] == 'I';
+
+		int ifd = offset + readInt(data, offset + 4, littleEndian);
+
+		if (ifd + 2 > data.length) {
+			return NORMAL;
+		}
+
+		int entries = readShort(data, ifd, littleEndian);
+
+		for (int i = 0; i < entries; i++) {
+			int entry = ifd + 2 + i * 12;
+
+			if (entry + 12 > data.length) {
+				return NORMAL;
+			}
+
+			if (readShort(data, entry, littleEndian) == ORIENTATION_TAG) {
+				int orientation = readShort(data, entry + 8, littleEndian);
+				return orientation >= 1 && orientation <= 8 ? orientation : NORMAL;
+			}
+		}
+
+		return NORMAL;
+	}
+
+	private static int readShort(byte[] data, int offset, boolean littleEndian) {
+
+		int b0 = data[offset] & 0xFF;
+		int b1 = data[offset + 1] & 0xFF;
+
+		return littleEndian ? (b1 << 8) | b0 : (b0 << 8) | b1;
+	}
+
+	private static int readInt(byte[] data, int offset, boolean littleEndian) {
+
+		int high = readShort(data, littleEndian ? offset + 2 : offset, littleEndian);
+		int low = readShort(data, littleEndian ? offset : offset + 2, littleEndian);
+
+		return (high << 16) | low;
+	}
+}
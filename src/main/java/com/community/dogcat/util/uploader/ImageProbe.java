@@ -0,0 +1,165 @@
+package com.community.dogcat.util.uploader;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import lombok.Getter;
+
+// 이미지 헤더만 읽어 형식, 가로, 세로, EXIF 방향 확인 (픽셀 decode 없음)
+// 작은 파일로 거대한 bitmap 을 만드는 이미지(decompression bomb)는 decode 전에 거절
+@Component
+public class ImageProbe {
+
+	// 허용 최대 픽셀 수 (가로 x 세로)
+	private final long maxPixels;
+
+	// 허용 최대 가로/세로 길이
+	private final int maxDimension;
+
+	public ImageProbe(@Value("${image.probe.maxPixels:40000000}") long maxPixels,
+		@Value("${image.probe.maxDimension:12000}") int maxDimension) {
+
+		this.maxPixels = maxPixels;
+		this.maxDimension = maxDimension;
+	}
+
+	// 업로드 파일을 target 으로 복사하면서 같은 stream 으로 SHA-256 계산, 이후 헤더 확인
+	// 이미지가 아니거나 허용 크기를 넘으면 복사한 파일 삭제 후 ImageRejectedException
+	public Result copyAndProbe(MultipartFile multipartFile, File target) throws IOException {
+
+		Files.createDirectories(target.toPath().getParent());
+
+		MessageDigest sha256 = sha256();
+
+		try (InputStream in = new DigestInputStream(multipartFile.getInputStream(), sha256);
+			 OutputStream out = Files.newOutputStream(target.toPath())) {
+			in.transferTo(out);
+		}
+
+		try {
+			Result result = probe(target.toPath());
+
+			if (result == null) {
+				throw new ImageRejectedException("Image Probe Error : 이미지가 아님 " + multipartFile.getOriginalFilename());
+			}
+
+			result.sha256 = hex(sha256.digest());
+
+			return result;
+
+		} catch (IOException | RuntimeException e) {
+			Files.deleteIfExists(target.toPath());
+			throw e;
+		}
+	}
+
+	// 헤더 확인, 읽을 수 있는 이미지 형식이 아니면 null
+	// 허용 크기를 넘으면 ImageRejectedException
+	public Result probe(Path path) throws IOException {
+
+		Result result = null;
+
+		try (ImageInputStream in = ImageIO.createImageInputStream(path.toFile())) {
+
+			if (in == null) {
+				return null;
+			}
+
+			Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+
+			if (!readers.hasNext()) {
+				return null;
+			}
+
+			ImageReader reader = readers.next();
+
+			try {
+				reader.setInput(in, true, true);
+				result = new Result(reader.getFormatName().toLowerCase(), reader.getWidth(0), reader.getHeight(0));
+			} finally {
+				reader.dispose();
+			}
+		}
+
+		if (result.width > maxDimension || result.height > maxDimension
+			|| (long)result.width * result.height > maxPixels) {
+			throw new ImageRejectedException("Image Probe Error : 허용 크기 초과 " + result.width + "x" + result.height);
+		}
+
+		if (result.formatName.equals("jpeg")) {
+			try (InputStream in = Files.newInputStream(path)) {
+				result.orientation = ExifOrientation.read(in);
+			}
+		}
+
+		return result;
+	}
+
+	private static MessageDigest sha256() {
+
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String hex(byte[] hash) {
+
+		StringBuilder hex = new StringBuilder(hash.length * 2);
+		for (byte b : hash) {
+			hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+		}
+
+		return hex.toString();
+	}
+
+	@Getter
+	public static class Result {
+
+		// ImageReader 형식 이름 (jpeg, png, gif, bmp ...)
+		private final String formatName;
+
+		// 저장된 그대로의 가로, 세로
+		private final int width;
+
+		private final int height;
+
+		// EXIF 방향, JPEG 가 아니거나 태그가 없으면 1
+		private int orientation = ExifOrientation.NORMAL;
+
+		// copyAndProbe 로 복사한 경우에만 값이 있음
+		private String sha256;
+
+		Result(String formatName, int width, int height) {
+			this.formatName = formatName;
+			this.width = width;
+			this.height = height;
+		}
+
+		// EXIF 방향 적용 후 화면에 보이는 가로, 세로 (5~8 은 90도 회전)
+		public int getDisplayWidth() {
+			return orientation >= 5 ? height : width;
+		}
+
+		public int getDisplayHeight() {
+			return orientation >= 5 ? width : height;
+		}
+	}
+}
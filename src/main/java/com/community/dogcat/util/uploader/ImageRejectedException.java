@@ -0,0 +1,10 @@
+package com.community.dogcat.util.uploader;
+
+// 이미지가 아니거나 허용 크기(가로, 세로, 픽셀 수)를 넘는 이미지 (decode 전에 거절)
+public class ImageRejectedException extends RuntimeException {
+
+	public ImageRejectedException(String message) {
+		super(message);
+	}
+
+}
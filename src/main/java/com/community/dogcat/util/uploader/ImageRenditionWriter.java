@@ -0,0 +1,161 @@
+package com.community.dogcat.util.uploader;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import net.coobird.thumbnailator.Thumbnails;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 원본을 한 번만 decode 해서 EXIF 방향 적용 후 썸네일(t_, 200x200 이내)과 너비별 rendition(r{너비}_{uuid}.jpg) 생성
+// rendition 은 progressive JPEG, 원본보다 큰 너비는 만들지 않음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageRenditionWriter {
+
+	// decode 전에 헤더로 크기 확인
+	private final ImageProbe imageProbe;
+
+	// 생성할 너비 목록
+	@Value("${image.renditions.widths:200,480,1080}")
+	private int[] widths;
+
+	// JPEG 품질 (0~1)
+	@Value("${image.renditions.quality:0.82}")
+	private float quality;
+
+	@Value("${s3UploadPath}")
+	private String uploadPath;
+
+	// 이미지가 아니거나 decode 할 수 없으면 null, 허용 크기를 넘으면 ImageRejectedException
+	public Renditions render(Path savePath, String uuid, String saveFileName) throws IOException {
+
+		ImageProbe.Result probed = imageProbe.probe(savePath);
+
+		if (probed == null) {
+			return null;
+		}
+
+		BufferedImage decoded = ImageIO.read(savePath.toFile());
+
+		if (decoded == null) {
+			return null;
+		}
+
+		BufferedImage source = ExifOrientation.apply(decoded, probed.getOrientation());
+
+		// 목록용 썸네일, 기존과 같은 key/형식
+		File thumbnail = new File(uploadPath, "t_" + saveFileName);
+		BufferedImage thumbnailImage = Thumbnails.of(source).size(200, 200).asBufferedImage();
+		String extension = saveFileName.substring(saveFileName.lastIndexOf('.') + 1).toLowerCase();
+
+		if (isJpeg(extension)) {
+			writeJpeg(thumbnailImage, thumbnail);
+		} else {
+			ImageIO.write(thumbnailImage, extension, thumbnail);
+		}
+
+		// 큰 너비부터 만들고, 다음 크기는 직전 결과를 줄여서 생성
+		Map<Integer, File> files = new LinkedHashMap<>();
+		int[] sorted = Arrays.stream(widths).filter(width -> width > 0).sorted().toArray();
+		BufferedImage previous = source;
+
+		for (int i = sorted.length - 1; i >= 0; i--) {
+
+			int width = sorted[i];
+
+			if (width >= source.getWidth()) {
+				continue;
+			}
+
+			BufferedImage resized = Thumbnails.of(previous).width(width).asBufferedImage();
+			File file = new File(uploadPath, renditionFileName(width, uuid));
+
+			writeJpeg(resized, file);
+			files.put(width, file);
+			previous = resized;
+		}
+
+		return new Renditions(thumbnail, source.getWidth(), files);
+	}
+
+	public static String renditionFileName(int width, String uuid) {
+		return "r" + width + "_" + uuid + ".jpg";
+	}
+
+	// progressive JPEG, 투명 배경은 흰색으로
+	private void writeJpeg(BufferedImage image, File file) throws IOException {
+
+		BufferedImage rgb = image;
+
+		if (image.getType() != BufferedImage.TYPE_INT_RGB && image.getType() != BufferedImage.TYPE_3BYTE_BGR) {
+			rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+			Graphics2D graphics = rgb.createGraphics();
+			graphics.setColor(Color.WHITE);
+			graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+			graphics.drawImage(image, 0, 0, null);
+			graphics.dispose();
+		}
+
+		Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+		ImageWriter writer = writers.next();
+
+		ImageWriteParam param = writer.getDefaultWriteParam();
+		param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+		param.setCompressionQuality(quality);
+		param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+
+		Files.deleteIfExists(file.toPath());
+
+		try (ImageOutputStream out = ImageIO.createImageOutputStream(file)) {
+			writer.setOutput(out);
+			writer.write(null, new IIOImage(rgb, null, null), param);
+		} finally {
+			writer.dispose();
+		}
+	}
+
+	private static boolean isJpeg(String extension) {
+		return "jpg".equals(extension) || "jpeg".equals(extension);
+	}
+
+	@Getter
+	public static class Renditions {
+
+		// 목록용 썸네일 파일
+		private final File thumbnail;
+
+		// EXIF 방향 적용 후 원본 너비
+		private final int originalWidth;
+
+		// 너비 -> rendition 파일 (큰 너비부터)
+		private final Map<Integer, File> files;
+
+		Renditions(File thumbnail, int originalWidth, Map<Integer, File> files) {
+			this.thumbnail = thumbnail;
+			this.originalWidth = originalWidth;
+			this.files = files;
+		}
+	}
+}
@@ -0,0 +1,151 @@
+package com.community.dogcat.util.uploader;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+// S3 오브젝트 삭제를 DeleteObjects 요청 하나에 최대 1000개씩 묶어서 처리
+// 게시글 삭제, 수정중 이미지 삭제, 정리 작업 모두 이 클래스로 삭제
+@Slf4j
+@Component
+public class S3BatchDeleter {
+
+	// S3 DeleteObjects 한 번에 보낼 수 있는 최대 key 수
+	public static final int MAX_BATCH_SIZE = 1000;
+
+	private final AmazonS3 amazonS3;
+
+	private final int batchSize;
+
+	@Value("${cloud.aws.s3.bucket}")
+	public String bucket;
+
+	public S3BatchDeleter(AmazonS3 amazonS3, @Value("${s3.delete.batchSize:1000}") int batchSize) {
+
+		this.amazonS3 = amazonS3;
+		this.batchSize = Math.max(1, Math.min(batchSize, MAX_BATCH_SIZE));
+	}
+
+	// 업로드 이미지 하나에 딸린 key (원본, t_ 썸네일, rendition)
+	public static List<String> imageKeys(String fileName, String renditions) {
+
+		List<String> keys = new ArrayList<>();
+
+		keys.add(fileName);
+		keys.add("t_" + fileName);
+
+		// srcset 형식 ("url 200w, url 480w, 원본url 1600w"), 원본은 이미 추가함
+		if (renditions != null && !renditions.isBlank()) {
+			for (String candidate : renditions.split(",")) {
+
+				String key = keyOf(candidate.trim().split(" ")[0]);
+
+				if (!key.isEmpty() && !key.equals(fileName)) {
+					keys.add(key);
+				}
+			}
+		}
+
+		return keys;
+	}
+
+	// 업로드 주소에서 key 추출 (마지막 '/' 이후)
+	public static String keyOf(String url) {
+		return url.substring(url.lastIndexOf('/') + 1);
+	}
+
+	// 중복, 빈 key 제외 후 batchSize 개씩 삭제, 실패한 key 는 결과에 모아서 반환
+	public DeleteResult delete(Collection<String> keys) {
+
+		Set<String> unique = new LinkedHashSet<>();
+
+		for (String key : keys) {
+			if (key != null && !key.isBlank()) {
+				unique.add(key);
+			}
+		}
+
+		DeleteResult result = new DeleteResult();
+		List<String> batch = new ArrayList<>(Math.min(unique.size(), batchSize));
+
+		for (String key : unique) {
+
+			batch.add(key);
+
+			if (batch.size() == batchSize) {
+				deleteBatch(batch, result);
+				batch.clear();
+			}
+		}
+
+		if (!batch.isEmpty()) {
+			deleteBatch(batch, result);
+		}
+
+		if (!result.failed.isEmpty()) {
+			log.error("S3 Batch Delete: {} 건 중 {} 건 실패 {}", unique.size(), result.failed.size(), result.failed);
+		}
+
+		return result;
+	}
+
+	private void deleteBatch(List<String> keys, DeleteResult result) {
+
+		result.requests++;
+
+		// quiet 모드, 응답에는 실패한 key 만 포함
+		DeleteObjectsRequest request = new DeleteObjectsRequest(bucket)
+			.withKeys(keys.toArray(new String[0]))
+			.withQuiet(true);
+
+		try {
+			amazonS3.deleteObjects(request);
+			result.deleted += keys.size();
+
+		} catch (MultiObjectDeleteException e) {
+			for (MultiObjectDeleteException.DeleteError error : e.getErrors()) {
+				result.failed.put(error.getKey(), error.getCode() + ": " + error.getMessage());
+			}
+			result.deleted += keys.size() - e.getErrors().size();
+
+		} catch (AmazonClientException e) {
+			// 요청 자체가 실패하면 묶음 전체 실패
+			log.error("S3 Batch Delete: 요청 실패 ({} 건)", keys.size(), e);
+			for (String key : keys) {
+				result.failed.put(key, e.getMessage());
+			}
+		}
+	}
+
+	@Getter
+	public static class DeleteResult {
+
+		// 삭제된 key 수 (S3 는 없는 key 삭제도 성공으로 처리)
+		private int deleted;
+
+		// DeleteObjects 요청 수
+		private int requests;
+
+		// 실패한 key -> 오류 코드, 메시지
+		private final Map<String, String> failed = new LinkedHashMap<>();
+
+		public boolean isSuccessful() {
+			return failed.isEmpty();
+		}
+	}
+}
@@ -1,18 +1,13 @@
 package com.community.dogcat.util.uploader;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -42,24 +37,15 @@ public class S3LocalUploader {
 		String fileName = multipartFile.getOriginalFilename();
 		String saveFileName = uuid + extension;
 
-		Path savePath = Paths.get(uploadPath, saveFileName);
-
-		List<String> savePathList = new ArrayList<>();
-
 		try {
-			multipartFile.transferTo(savePath);
-			savePathList.add(savePath.toFile().getAbsolutePath());
-
-			// 업로드 파일이 이미지 일 때
-			if (Files.probeContentType(savePath).startsWith("image")) {
-				File thumbFile = new File(uploadPath, "t_" + saveFileName);
+			Path savePath = stage(multipartFile, saveFileName);
 
-				String thumbnailPath = thumbFile.getAbsolutePath();
-				savePathList.add(uploadPath + "t_" + saveFileName);
-				Thumbnailator.createThumbnail(savePath.toFile(), thumbFile, 200, 200);
+			File thumbFile = createThumbnail(savePath, saveFileName);
 
+			// 업로드 파일이 이미지 일 때
+			if (thumbFile != null) {
 				return buildResultDto(uuid, fileName, extension, Instant.now(), true,
-					uploadPath, thumbnailPath);
+					uploadPath, thumbFile.getAbsolutePath());
 
 			} else {
 				// 이미지가 아닐 때
@@ -74,10 +60,30 @@ public class S3LocalUploader {
 		return null;
 	}
 
-	// 썸네일 파일을 db에 저장하기 위해 File 객체를 MultipartFile 로 변환
-	public MultipartFile convertFileToMultipartFile(File file) throws IOException {
-		FileInputStream input = new FileInputStream(file);
-		return new MockMultipartFile("file", file.getName(), "image/jpeg", input);
+	// multipart 임시 파일을 업로드 폴더로 이동 (요청이 끝나면 임시 파일은 삭제되므로 요청 스레드에서 실행)
+	public Path stage(MultipartFile multipartFile, String saveFileName) throws IOException {
+
+		Path savePath = Paths.get(uploadPath, saveFileName);
+
+		multipartFile.transferTo(savePath);
+
+		return savePath;
+	}
+
+	// 이미지면 200x200 썸네일 파일 생성, 이미지가 아니면 null
+	public File createThumbnail(Path savePath, String saveFileName) throws IOException {
+
+		String contentType = Files.probeContentType(savePath);
+
+		if (contentType == null || !contentType.startsWith("image")) {
+			return null;
+		}
+
+		File thumbFile = new File(uploadPath, "t_" + saveFileName);
+
+		Thumbnailator.createThumbnail(savePath.toFile(), thumbFile, 200, 200);
+
+		return thumbFile;
 	}
 
 	// 중복코드 제거를 위한 메서드
@@ -0,0 +1,92 @@
+package com.community.dogcat;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.community.dogcat.domain.Post;
+import com.community.dogcat.domain.Reply;
+import com.community.dogcat.domain.User;
+import com.community.dogcat.domain.UsersAuth;
+import com.community.dogcat.repository.board.BoardRepository;
+import com.community.dogcat.repository.board.reply.ReplyRepository;
+import com.community.dogcat.repository.user.UserRepository;
+import com.community.dogcat.repository.user.UsersAuthRepository;
+
+// 실행된 SQL 수를 확인하는 테스트 공통 설정
+// hibernate 통계 사용, 테스트 데이터는 각 테스트 트랜잭션 안에서 만들고 롤백
+@Transactional
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public abstract class StatementCountTestSupport {
+
+	@Autowired
+	protected BoardRepository boardRepository;
+
+	@Autowired
+	protected ReplyRepository replyRepository;
+
+	@Autowired
+	protected EntityManager entityManager;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private UsersAuthRepository usersAuthRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	protected Statistics statistics;
+
+	// 테스트 데이터 작성자 (권한이 있는 첫 번째 회원)
+	protected User user;
+
+	@BeforeEach
+	public void setUpStatistics() {
+
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+		UsersAuth usersAuth = usersAuthRepository.findAll().stream().findFirst().orElse(null);
+		assertNotNull(usersAuth, "회원 더미 데이터 필요");
+
+		user = userRepository.findByUserId(usersAuth.getUserId());
+	}
+
+	// 만들어둔 데이터 반영 후 통계 초기화, 이후 statistics.getPrepareStatementCount() 로 확인
+	protected void startCounting() {
+
+		entityManager.flush();
+		entityManager.clear();
+		statistics.clear();
+	}
+
+	protected Post.PostBuilder post(String boardCode, String title) {
+
+		return Post.builder()
+			.userId(user)
+			.boardCode(boardCode)
+			.postTitle(title)
+			.postContent(title)
+			.regDate(Instant.now());
+	}
+
+	protected Reply createReply(Post post, String content) {
+
+		return replyRepository.save(Reply.builder()
+			.userId(user)
+			.postNo(post)
+			.replyContent(content)
+			.build());
+	}
+}
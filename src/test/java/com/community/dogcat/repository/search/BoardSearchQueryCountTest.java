@@ -0,0 +1,107 @@
+package com.community.dogcat.repository.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import com.community.dogcat.StatementCountTestSupport;
+import com.community.dogcat.domain.ImgBoard;
+import com.community.dogcat.domain.Post;
+import com.community.dogcat.dto.board.BoardListDTO;
+import com.community.dogcat.dto.home.HomeShowOffListDTO;
+import com.community.dogcat.repository.upload.UploadRepository;
+
+// 목록 조회시 페이지 크기와 관계없이 실행되는 SQL 수가 고정인지 확인 (목록 + count)
+// 대표 썸네일은 post.cover_thumbnail 컬럼에서 읽으므로 첨부파일 조회 없음
+// 댓글과 이미지가 있는 게시글을 테스트 트랜잭션 안에서 만들고 조회 (롤백)
+class BoardSearchQueryCountTest extends StatementCountTestSupport {
+
+	private static final int POSTS = 50;
+
+	@Autowired
+	private UploadRepository uploadRepository;
+
+	@Test
+	public void listWithAllStatementCount() {
+
+		createPosts("general");
+
+		startCounting();
+		Page<BoardListDTO> small = boardRepository.listWithAll(
+			null, null, PageRequest.of(0, 5), "general", null, null);
+		long smallStatements = statistics.getPrepareStatementCount();
+
+		startCounting();
+		Page<BoardListDTO> large = boardRepository.listWithAll(
+			null, null, PageRequest.of(0, POSTS), "general", null, null);
+		long largeStatements = statistics.getPrepareStatementCount();
+
+		assertEquals(5, small.getNumberOfElements());
+		assertEquals(POSTS, large.getNumberOfElements());
+		assertTrue(large.getContent().stream().allMatch(dto -> dto.getCoverThumbnail() != null));
+
+		assertEquals(2, smallStatements, "목록 5건 " + smallStatements + " 문장");
+		assertEquals(2, largeStatements, "목록 " + POSTS + "건 " + largeStatements + " 문장");
+	}
+
+	@Test
+	public void homeListStatementCount() {
+
+		createPosts("showOff");
+
+		startCounting();
+		List<HomeShowOffListDTO> small = boardRepository.showOffList(4);
+		long smallStatements = statistics.getPrepareStatementCount();
+
+		startCounting();
+		List<HomeShowOffListDTO> large = boardRepository.showOffList(40);
+		long largeStatements = statistics.getPrepareStatementCount();
+
+		assertEquals(4, small.size());
+		assertEquals(40, large.size());
+		assertTrue(large.stream().allMatch(dto -> dto.getCoverThumbnail() != null));
+
+		assertEquals(1, smallStatements, "홈 목록 4건 " + smallStatements + " 문장");
+		assertEquals(1, largeStatements, "홈 목록 40건 " + largeStatements + " 문장");
+	}
+
+	// 게시글 POSTS 개, 게시글마다 댓글 3개 + 이미지 2개 (최신순 첫 페이지에 오도록 현재 시각으로 등록)
+	private void createPosts(String boardCode) {
+
+		for (int i = 0; i < POSTS; i++) {
+
+			String uuid = UUID.randomUUID().toString();
+
+			Post post = boardRepository.save(post(boardCode, "목록 테스트 " + i)
+				.excerpt("목록 테스트")
+				.coverThumbnail("s_" + uuid + "_0.jpg")
+				.replyCount(3L)
+				.build());
+
+			for (int j = 0; j < 3; j++) {
+				createReply(post, "댓글 " + j);
+			}
+
+			for (int j = 0; j < 2; j++) {
+				uploadRepository.save(ImgBoard.builder()
+					.fileUuid(uuid + "_" + j)
+					.postNo(post)
+					.fileName("image" + j + ".jpg")
+					.uploadTime(Instant.now())
+					.uploadPath(uuid + "_" + j + ".jpg")
+					.img(true)
+					.extension(".jpg")
+					.thumbnailPath("s_" + uuid + "_" + j + ".jpg")
+					.build());
+			}
+		}
+	}
+
+}
@@ -0,0 +1,84 @@
+package com.community.dogcat.service.board;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.community.dogcat.StatementCountTestSupport;
+import com.community.dogcat.domain.Post;
+import com.community.dogcat.domain.Reply;
+import com.community.dogcat.domain.ReportLog;
+import com.community.dogcat.repository.report.ReportLogRepository;
+
+// 게시글 삭제시 댓글, 신고 수와 관계없이 실행되는 SQL 수가 고정인지 확인
+class PostDeleteStatementCountTest extends StatementCountTestSupport {
+
+	@Autowired
+	private BoardService boardService;
+
+	@Autowired
+	private ReportLogRepository reportLogRepository;
+
+	@Test
+	public void deleteStatementCount() {
+
+		long small = countDeleteStatements(createPost(3));
+		long large = countDeleteStatements(createPost(60));
+
+		assertEquals(small, large, "댓글 3개 " + small + " 문장, 댓글 60개 " + large + " 문장");
+		assertTrue(large <= 12, "게시글 삭제 " + large + " 문장");
+	}
+
+	@Test
+	public void deleteRemovesRepliesAndReports() {
+
+		Long postNo = createPost(5);
+
+		boardService.delete(postNo, user.getUserId());
+		entityManager.flush();
+		entityManager.clear();
+
+		assertTrue(boardRepository.findById(postNo).isEmpty());
+		assertTrue(replyRepository.findByPostNo(postNo).isEmpty());
+		assertTrue(reportLogRepository.findByPostNo(postNo).isEmpty());
+	}
+
+	private long countDeleteStatements(Long postNo) {
+
+		startCounting();
+
+		boardService.delete(postNo, user.getUserId());
+		entityManager.flush();
+
+		return statistics.getPrepareStatementCount();
+	}
+
+	// 댓글 replies 개, 댓글마다 신고 1건 + 게시글 신고 1건
+	private Long createPost(int replies) {
+
+		Post post = boardRepository.save(post("free", "삭제 테스트").build());
+
+		reportLogRepository.save(report(post, null));
+
+		for (int i = 0; i < replies; i++) {
+			reportLogRepository.save(report(null, createReply(post, "댓글 " + i)));
+		}
+
+		return post.getPostNo();
+	}
+
+	private ReportLog report(Post post, Reply reply) {
+
+		return ReportLog.builder()
+			.userId(user)
+			.postNo(post)
+			.replyNo(reply)
+			.reportTitle("신고")
+			.reportContent("신고 내용")
+			.regDate(Instant.now())
+			.build();
+	}
+}
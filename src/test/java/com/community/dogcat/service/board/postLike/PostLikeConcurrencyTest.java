@@ -0,0 +1,134 @@
+package com.community.dogcat.service.board.postLike;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.community.dogcat.domain.Post;
+import com.community.dogcat.domain.PostLike;
+import com.community.dogcat.domain.User;
+import com.community.dogcat.repository.board.BoardRepository;
+import com.community.dogcat.repository.board.postLike.PostLikeRepository;
+import com.community.dogcat.repository.user.UserRepository;
+
+// 여러 스레드가 같은 게시글에 좋아요/싫어요를 동시에 요청해도 카운트가 정확한지 확인
+// 회원별로 같은 요청을 여러 번 보내도 한 번만 반영되어야 함 (toggle 멱등성, 첫 행 생성 경합, 삭제 중복 요청)
+@SpringBootTest
+class PostLikeConcurrencyTest {
+
+	private static final int REPEAT = 5;
+
+	@Autowired
+	private PostLikeService postLikeService;
+
+	@Autowired
+	private BoardRepository boardRepository;
+
+	@Autowired
+	private PostLikeRepository postLikeRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	public void toggleConcurrently() throws Exception {
+
+		Long postNo = boardRepository.findMaxPostNo();
+		assertNotNull(postNo, "게시글 더미 데이터 필요");
+
+		Post post = boardRepository.findById(postNo).orElseThrow();
+
+		List<User> users = userRepository.findAll().stream()
+			.limit(20)
+			.collect(Collectors.toList());
+
+		List<String> userIds = users.stream().map(User::getUserId).collect(Collectors.toList());
+
+		// 테스트 회원의 행이 하나도 없는 상태로 시작 (첫 요청끼리 insertIgnore 경합)
+		for (User user : users) {
+			postLikeRepository.findByPostAndUser(post, user)
+				.ifPresent(postLike -> postLikeService.delete(postLike.getLikeNo(), user.getUserId()));
+			assertTrue(postLikeRepository.findByPostAndUser(post, user).isEmpty());
+		}
+
+		Post before = boardRepository.findById(postNo).orElseThrow();
+		long likeCount = before.getLikeCount();
+		long dislikeCount = before.getDislikeCount();
+
+		runConcurrently(userIds, userId -> postLikeService.toggle(postNo, userId, true, false));
+
+		Post liked = boardRepository.findById(postNo).orElseThrow();
+		assertEquals(likeCount + userIds.size(), liked.getLikeCount());
+		assertEquals(dislikeCount, liked.getDislikeCount());
+
+		runConcurrently(userIds, userId -> postLikeService.toggle(postNo, userId, false, true));
+
+		Post disliked = boardRepository.findById(postNo).orElseThrow();
+		assertEquals(likeCount, disliked.getLikeCount());
+		assertEquals(dislikeCount + userIds.size(), disliked.getDislikeCount());
+
+		// 같은 행 삭제를 동시에 요청, 먼저 잠근 요청만 삭제하고 나머지는 행이 없어 404
+		List<Long> likeNos = new ArrayList<>();
+
+		for (User user : users) {
+			likeNos.add(postLikeRepository.findByPostAndUser(post, user).map(PostLike::getLikeNo).orElseThrow());
+		}
+
+		runConcurrently(userIds, userId -> {
+			try {
+				postLikeService.delete(likeNos.get(userIds.indexOf(userId)), userId);
+			} catch (NoSuchElementException e) {
+				// 이미 삭제된 경우
+			}
+		});
+
+		Post after = boardRepository.findById(postNo).orElseThrow();
+		assertEquals(likeCount, after.getLikeCount());
+		assertEquals(dislikeCount, after.getDislikeCount());
+
+		for (User user : users) {
+			assertTrue(postLikeRepository.findByPostAndUser(post, user).isEmpty());
+		}
+	}
+
+	// 회원마다 REPEAT 번씩 동시에 요청, 작업 중 예외가 있으면 get() 에서 실패
+	private void runConcurrently(List<String> userIds, Consumer<String> task) throws Exception {
+
+		ExecutorService executorService = Executors.newFixedThreadPool(16);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+
+		try {
+			for (String userId : userIds) {
+				for (int i = 0; i < REPEAT; i++) {
+					futures.add(executorService.submit(() -> {
+						start.await();
+						task.accept(userId);
+						return null;
+					}));
+				}
+			}
+
+			start.countDown();
+
+			for (Future<?> future : futures) {
+				future.get(60, TimeUnit.SECONDS);
+			}
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+}
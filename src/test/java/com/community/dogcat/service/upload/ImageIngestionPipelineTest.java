@@ -0,0 +1,230 @@
+package com.community.dogcat.service.upload;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import com.community.dogcat.domain.ImgBoard;
+import com.community.dogcat.domain.Post;
+import com.community.dogcat.dto.uploadImage.ImageIngestStatusDTO;
+import com.community.dogcat.repository.board.BoardRepository;
+import com.community.dogcat.repository.upload.UploadRepository;
+import com.community.dogcat.service.home.HomeSnapshotCache;
+import com.community.dogcat.util.uploader.ImageProbe;
+import com.community.dogcat.util.uploader.ImageRenditionWriter;
+import com.community.dogcat.util.uploader.LocalS3;
+import com.community.dogcat.util.uploader.S3LocalUploader;
+import com.community.dogcat.util.uploader.S3Uploader;
+
+// 첨부 이미지 비동기 처리 처리량, 재시도 확인
+// S3 대신 요청마다 LATENCY_MILLIS 만큼 지연되는 LocalS3 사용, DB 는 mock
+class ImageIngestionPipelineTest {
+
+	private static final String BUCKET = "dogcat-test";
+
+	private static final long LATENCY_MILLIS = 100;
+
+	private static final int IMAGES = 20;
+
+	private static final int THREADS = 8;
+
+	// 1600px 이미지 하나당 원본, 썸네일, rendition 3개(1080, 480, 200)
+	private static final int OBJECTS_PER_IMAGE = 5;
+
+	@TempDir
+	Path tempDir;
+
+	private LocalS3 localS3;
+
+	private TransferManager transferManager;
+
+	private UploadRepository uploadRepository;
+
+	private BoardRepository boardRepository;
+
+	private ImageIngestionPipeline pipeline;
+
+	private byte[] jpeg;
+
+	@BeforeEach
+	void setUp() throws IOException {
+
+		localS3 = new LocalS3(BUCKET, LATENCY_MILLIS);
+
+		AmazonS3 amazonS3 = localS3.client();
+
+		transferManager = TransferManagerBuilder.standard()
+			.withS3Client(amazonS3)
+			.withExecutorFactory(() -> Executors.newFixedThreadPool(THREADS * OBJECTS_PER_IMAGE))
+			.build();
+
+		S3Uploader s3Uploader = new S3Uploader(amazonS3, transferManager);
+		s3Uploader.bucket = BUCKET;
+		ReflectionTestUtils.setField(s3Uploader, "s3UploadPath", tempDir.toString());
+
+		S3LocalUploader s3LocalUploader = new S3LocalUploader();
+		ReflectionTestUtils.setField(s3LocalUploader, "uploadPath", tempDir.toString());
+
+		ImageRenditionWriter imageRenditionWriter = new ImageRenditionWriter(new ImageProbe(40_000_000L, 12_000));
+		ReflectionTestUtils.setField(imageRenditionWriter, "widths", new int[] {200, 480, 1080});
+		ReflectionTestUtils.setField(imageRenditionWriter, "quality", 0.82f);
+		ReflectionTestUtils.setField(imageRenditionWriter, "uploadPath", tempDir.toString());
+
+		uploadRepository = mock(UploadRepository.class);
+		boardRepository = mock(BoardRepository.class);
+
+		pipeline = new ImageIngestionPipeline(s3LocalUploader, s3Uploader, imageRenditionWriter, uploadRepository, boardRepository,
+			mock(HomeSnapshotCache.class), THREADS, 100, 3, 10L, 10L);
+		ReflectionTestUtils.setField(pipeline, "s3UploadPath", tempDir.toString());
+
+		jpeg = createJpeg(1600, 1200);
+	}
+
+	@AfterEach
+	void tearDown() {
+		pipeline.shutdown();
+		transferManager.shutdownNow(true);
+		localS3.stop();
+	}
+
+	@Test
+	public void ingestInParallel() throws Exception {
+
+		Post post = Post.builder().postNo(1L).build();
+		List<String> uuids = uuids(IMAGES);
+
+		long started = System.nanoTime();
+
+		ImageIngestStatusDTO accepted = pipeline.submit(post, files(uuids), uuids);
+		long acceptedMillis = (System.nanoTime() - started) / 1_000_000;
+
+		ImageIngestStatusDTO status = awaitFinished(1L);
+		long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+		assertEquals("PROCESSING", accepted.getState());
+		assertEquals("DONE", status.getState());
+		assertEquals(IMAGES, status.getCompleted());
+		assertEquals(IMAGES * OBJECTS_PER_IMAGE, localS3.objects());
+		verify(uploadRepository, times(IMAGES)).save(any(ImgBoard.class));
+		verify(boardRepository).refreshCoverThumbnail(1L);
+
+		// 순서대로 처리하면 LocalS3 에 동시에 들어오는 요청은 항상 1건 (처리 시간 대신 동시 요청 수로 확인)
+		assertTrue(localS3.peakInFlight() > 1, String.format("동시 S3 요청 최대 %d 건 (%d 건 %dms, %.1f images/s)",
+			localS3.peakInFlight(), IMAGES, elapsedMillis, IMAGES * 1000.0 / elapsedMillis));
+		// 요청 스레드는 파일 이동만 하고 바로 반환
+		assertTrue(acceptedMillis < IMAGES * LATENCY_MILLIS / 2, "접수 시간 " + acceptedMillis + "ms");
+	}
+
+	@Test
+	public void retryTransientFailureFromLastStage() throws Exception {
+
+		Post post = Post.builder().postNo(2L).build();
+		List<String> uuids = uuids(1);
+
+		// 첫 DB 저장만 실패
+		when(uploadRepository.save(any(ImgBoard.class)))
+			.thenThrow(new TransientDataAccessResourceException("connection reset"))
+			.thenAnswer(invocation -> invocation.getArgument(0));
+
+		pipeline.submit(post, files(uuids), uuids);
+
+		ImageIngestStatusDTO status = awaitFinished(2L);
+
+		assertEquals("DONE", status.getState());
+		verify(uploadRepository, times(2)).save(any(ImgBoard.class));
+		// 업로드는 다시 하지 않음 (원본 + 썸네일 + rendition)
+		assertEquals(OBJECTS_PER_IMAGE, localS3.objects());
+		assertEquals(1, pipeline.getRetries());
+	}
+
+	@Test
+	public void skipAlreadyStoredFile() throws Exception {
+
+		Post post = Post.builder().postNo(3L).build();
+		List<String> uuids = uuids(1);
+
+		when(uploadRepository.existsById(uuids.get(0))).thenReturn(true);
+
+		ImageIngestStatusDTO status = pipeline.submit(post, files(uuids), uuids);
+
+		assertEquals("DONE", status.getState());
+		assertEquals(0, status.getTotal());
+		assertEquals(0, localS3.objects());
+		verify(uploadRepository, never()).save(any(ImgBoard.class));
+	}
+
+	private ImageIngestStatusDTO awaitFinished(Long postNo) throws InterruptedException {
+
+		long deadline = System.currentTimeMillis() + 30_000;
+
+		ImageIngestStatusDTO status = pipeline.getStatus(postNo);
+
+		while ("PROCESSING".equals(status.getState()) && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+			status = pipeline.getStatus(postNo);
+		}
+
+		return status;
+	}
+
+	private List<String> uuids(int count) {
+
+		List<String> uuids = new ArrayList<>();
+
+		for (int i = 0; i < count; i++) {
+			uuids.add(UUID.randomUUID().toString());
+		}
+
+		return uuids;
+	}
+
+	private List<MultipartFile> files(List<String> uuids) {
+
+		List<MultipartFile> files = new ArrayList<>();
+
+		for (String uuid : uuids) {
+			files.add(new MockMultipartFile("files", uuid + ".jpg", "image/jpeg", jpeg));
+		}
+
+		return files;
+	}
+
+	private static byte[] createJpeg(int width, int height) throws IOException {
+
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				image.setRGB(x, y, (x * 31 + y * 17) & 0xFFFFFF);
+			}
+		}
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(image, "jpg", out);
+
+		return out.toByteArray();
+	}
+}
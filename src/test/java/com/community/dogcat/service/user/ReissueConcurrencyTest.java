@@ -0,0 +1,117 @@
+package com.community.dogcat.service.user;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import javax.servlet.http.Cookie;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.community.dogcat.jwt.JWTUtil;
+import com.community.dogcat.service.user.refresh.InMemoryRefreshTokenStore;
+
+// access 토큰이 만료된 같은 브라우저의 요청 N개가 동시에 재발급을 시도해도
+// refresh 토큰 교체는 한 번만 일어나고 모든 요청이 같은 새 토큰을 받는지 확인
+class ReissueConcurrencyTest {
+
+	private static final int REQUESTS = 32;
+
+	@Test
+	public void reissueConcurrently() throws InterruptedException {
+
+		JWTUtil jwtUtil = new JWTUtil("reissue-concurrency-test-secret-key-0123456789", 100);
+		CountingStore store = new CountingStore();
+		ReissueService reissueService = new ReissueService(jwtUtil, store, 10000L, 3000L, 100);
+
+		String refresh = jwtUtil.createJwt("refresh", "tester", "ROLE_USER", 604800000L);
+		store.save("tester", refresh, Instant.now().plusMillis(604800000L));
+		store.saves.set(0);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(REQUESTS);
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(REQUESTS);
+
+		AtomicInteger reissued = new AtomicInteger();
+		List<String> issuedRefreshTokens = new CopyOnWriteArrayList<>();
+
+		for (int i = 0; i < REQUESTS; i++) {
+			executorService.submit(() -> {
+				try {
+					MockHttpServletRequest request = new MockHttpServletRequest();
+					request.setCookies(new Cookie("refresh", refresh));
+					MockHttpServletResponse response = new MockHttpServletResponse();
+
+					start.await();
+
+					if (reissueService.reissue(request, response)) {
+						reissued.incrementAndGet();
+					}
+
+					// 이전 쿠키 만료 후 새 쿠키가 추가되므로 마지막 refresh 쿠키가 새 토큰
+					for (Cookie cookie : response.getCookies()) {
+						if (cookie.getName().equals("refresh") && cookie.getMaxAge() > 0) {
+							issuedRefreshTokens.add(cookie.getValue());
+						}
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+
+		start.countDown();
+		assertTrue(done.await(30, TimeUnit.SECONDS));
+		executorService.shutdown();
+
+		// 모든 요청 성공, 교체는 한 번
+		assertEquals(REQUESTS, reissued.get());
+		assertEquals(1, reissueService.getRotations());
+		assertEquals(1, store.deletes.get());
+		assertEquals(1, store.saves.get());
+
+		// 모두 같은 새 refresh 토큰을 받고, 이전 토큰은 무효
+		Set<String> distinct = issuedRefreshTokens.stream().collect(Collectors.toSet());
+		assertEquals(1, distinct.size());
+		assertTrue(store.exists(distinct.iterator().next()));
+		assertFalse(store.exists(refresh));
+	}
+
+	// 교체 도중 다른 요청이 끼어들 수 있도록 삭제를 느리게 하고 호출 횟수 기록
+	private static class CountingStore extends InMemoryRefreshTokenStore {
+
+		private final AtomicInteger saves = new AtomicInteger();
+
+		private final AtomicInteger deletes = new AtomicInteger();
+
+		@Override
+		public void save(String username, String refresh, Instant expiresAt) {
+			saves.incrementAndGet();
+			super.save(username, refresh, expiresAt);
+		}
+
+		@Override
+		public boolean delete(String refresh) {
+			deletes.incrementAndGet();
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return super.delete(refresh);
+		}
+	}
+}
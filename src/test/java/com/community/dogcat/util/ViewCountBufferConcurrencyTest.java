@@ -0,0 +1,121 @@
+package com.community.dogcat.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+// 조회수 증가와 flush(빈 항목 제거 포함)가 동시에 실행되어도 반영된 조회수 합이 정확한지 확인
+// DB 대신 batch UPDATE 인자를 게시글별로 합산
+class ViewCountBufferConcurrencyTest {
+
+	private static final int THREADS = 8;
+
+	private static final int INCREMENTS = 50_000;
+
+	// 게시글이 많을수록 flush 시점에 0인 항목이 많아져 제거와 증가가 자주 겹침
+	private static final int POSTS = 500;
+
+	private final Map<Long, AtomicLong> written = new ConcurrentHashMap<>();
+
+	private ViewCountBuffer viewCountBuffer;
+
+	@BeforeEach
+	void setUp() {
+
+		JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+		when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+			List<Object[]> batchArgs = invocation.getArgument(1);
+			for (Object[] args : batchArgs) {
+				written.computeIfAbsent((Long)args[1], key -> new AtomicLong()).addAndGet((Long)args[0]);
+			}
+			return new int[batchArgs.size()];
+		});
+
+		viewCountBuffer = new ViewCountBuffer(jdbcTemplate, mock(PlatformTransactionManager.class));
+		// 크기 기준 flush 없이 테스트의 flush 스레드만 반영
+		ReflectionTestUtils.setField(viewCountBuffer, "maxPending", Long.MAX_VALUE);
+	}
+
+	@AfterEach
+	void tearDown() {
+		viewCountBuffer.shutdown();
+	}
+
+	@Test
+	public void incrementWhileEvicting() throws Exception {
+
+		ExecutorService executorService = Executors.newFixedThreadPool(THREADS + 1);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicBoolean running = new AtomicBoolean(true);
+		Map<Long, AtomicLong> expected = new ConcurrentHashMap<>();
+		List<Future<?>> incrementers = new ArrayList<>();
+
+		try {
+			for (int t = 0; t < THREADS; t++) {
+				incrementers.add(executorService.submit(() -> {
+					start.await();
+					for (int i = 0; i < INCREMENTS; i++) {
+						long postNo = ThreadLocalRandom.current().nextInt(POSTS);
+						viewCountBuffer.increment(postNo);
+						expected.computeIfAbsent(postNo, key -> new AtomicLong()).incrementAndGet();
+					}
+					return null;
+				}));
+			}
+
+			Future<?> flusher = executorService.submit(() -> {
+				start.await();
+				while (running.get()) {
+					viewCountBuffer.flush();
+				}
+				return null;
+			});
+
+			start.countDown();
+
+			for (Future<?> future : incrementers) {
+				future.get(60, TimeUnit.SECONDS);
+			}
+
+			running.set(false);
+			flusher.get(60, TimeUnit.SECONDS);
+		} finally {
+			executorService.shutdownNow();
+		}
+
+		viewCountBuffer.flush();
+
+		long total = written.values().stream().mapToLong(AtomicLong::get).sum();
+
+		assertEquals((long)THREADS * INCREMENTS, total, "반영된 조회수 합");
+		assertEquals(0, viewCountBuffer.getPendingIncrements());
+		assertEquals(total, viewCountBuffer.getFlushedTotal());
+
+		for (Map.Entry<Long, AtomicLong> entry : expected.entrySet()) {
+			assertEquals(entry.getValue().get(), written.getOrDefault(entry.getKey(), new AtomicLong()).get(),
+				"게시글 " + entry.getKey() + " 조회수");
+			assertEquals(0, viewCountBuffer.pending(entry.getKey()));
+		}
+	}
+}
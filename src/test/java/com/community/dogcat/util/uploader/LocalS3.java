@@ -0,0 +1,249 @@
+package com.community.dogcat.util.uploader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+// 테스트용 S3 대역, PutObject, multipart 업로드, DeleteObject(s) 처리
+// 요청 본문은 저장하지 않고 크기, MD5 만 계산, latencyMillis 만큼 응답 지연 (네트워크 왕복 흉내)
+public class LocalS3 {
+
+	private static final Pattern KEY = Pattern.compile("<Key>(.*?)</Key>");
+
+	private final String bucket;
+
+	private final long latencyMillis;
+
+	private final HttpServer server;
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(32);
+
+	private final Map<String, AtomicLong> receivedBytes = new ConcurrentHashMap<>();
+
+	private final Map<String, AtomicLong> parts = new ConcurrentHashMap<>();
+
+	private final AtomicLong objects = new AtomicLong();
+
+	// 삭제된 key 수, 삭제 요청(DeleteObject, DeleteObjects) 수
+	private final AtomicLong deletedKeys = new AtomicLong();
+
+	private final AtomicLong deleteRequests = new AtomicLong();
+
+	// 처리중인 요청 수, 동시에 처리된 최대 요청 수
+	private final AtomicLong inFlight = new AtomicLong();
+
+	private final AtomicLong peakInFlight = new AtomicLong();
+
+	// 삭제시 AccessDenied 로 응답할 key
+	private final Set<String> failingDeletes = ConcurrentHashMap.newKeySet();
+
+	public LocalS3(String bucket, long latencyMillis) throws IOException {
+
+		this.bucket = bucket;
+		this.latencyMillis = latencyMillis;
+
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/", this::handle);
+		server.setExecutor(executor);
+		server.start();
+	}
+
+	// path-style 주소, 서명 때문에 본문을 chunked 로 보내지 않도록 설정
+	public AmazonS3 client() {
+
+		return AmazonS3ClientBuilder.standard()
+			.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint(), "ap-northeast-2"))
+			.withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials("test", "test")))
+			.withPathStyleAccessEnabled(true)
+			.disableChunkedEncoding()
+			.build();
+	}
+
+	public String endpoint() {
+		return "http://127.0.0.1:" + server.getAddress().getPort();
+	}
+
+	public long receivedBytes(String key) {
+		return receivedBytes.getOrDefault(key, new AtomicLong()).get();
+	}
+
+	public long parts(String key) {
+		return parts.getOrDefault(key, new AtomicLong()).get();
+	}
+
+	// 완료된 PutObject 요청 수 (multipart part 제외)
+	public long objects() {
+		return objects.get();
+	}
+
+	public long deletedKeys() {
+		return deletedKeys.get();
+	}
+
+	public long deleteRequests() {
+		return deleteRequests.get();
+	}
+
+	public long peakInFlight() {
+		return peakInFlight.get();
+	}
+
+	public void failDelete(String key) {
+		failingDeletes.add(key);
+	}
+
+	public void stop() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+
+		String path = exchange.getRequestURI().getPath();
+		String query = exchange.getRequestURI().getQuery();
+		String key = path.substring(path.indexOf('/', 1) + 1);
+		String method = exchange.getRequestMethod();
+
+		peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+		try {
+			delay();
+
+			if ("POST".equals(method) && query != null && query.startsWith("delete")) {
+				deleteObjects(exchange);
+			} else if ("DELETE".equals(method)) {
+				drain(exchange.getRequestBody());
+				deleteRequests.incrementAndGet();
+				deletedKeys.incrementAndGet();
+				exchange.sendResponseHeaders(204, -1);
+			} else if ("POST".equals(method) && query != null && query.startsWith("uploads")) {
+				drain(exchange.getRequestBody());
+				reply(exchange, "<InitiateMultipartUploadResult><Bucket>" + bucket + "</Bucket><Key>" + key
+					+ "</Key><UploadId>" + UUID.randomUUID() + "</UploadId></InitiateMultipartUploadResult>");
+			} else if ("POST".equals(method) && query != null && query.contains("uploadId")) {
+				drain(exchange.getRequestBody());
+				objects.incrementAndGet();
+				reply(exchange, "<CompleteMultipartUploadResult><Bucket>" + bucket + "</Bucket><Key>" + key
+					+ "</Key><ETag>\"" + UUID.randomUUID().toString().replace("-", "") + "-1\"</ETag>"
+					+ "</CompleteMultipartUploadResult>");
+			} else if ("PUT".equals(method)) {
+				boolean part = query != null && query.contains("partNumber");
+				if (part) {
+					parts.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+				}
+				String md5 = drain(exchange.getRequestBody(), key);
+				if (!part) {
+					objects.incrementAndGet();
+				}
+				exchange.getResponseHeaders().add("ETag", "\"" + md5 + "\"");
+				exchange.sendResponseHeaders(200, -1);
+			} else {
+				exchange.sendResponseHeaders(404, -1);
+			}
+		} finally {
+			inFlight.decrementAndGet();
+			exchange.close();
+		}
+	}
+
+	// DeleteObjects (quiet), 실패로 지정한 key 만 Error 로 응답
+	private void deleteObjects(HttpExchange exchange) throws IOException {
+
+		String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+		Matcher matcher = KEY.matcher(body);
+		StringBuilder errors = new StringBuilder();
+
+		deleteRequests.incrementAndGet();
+
+		while (matcher.find()) {
+			String key = matcher.group(1);
+			if (failingDeletes.contains(key)) {
+				errors.append("<Error><Key>").append(key).append("</Key><Code>AccessDenied</Code>")
+					.append("<Message>Access Denied</Message></Error>");
+			} else {
+				deletedKeys.incrementAndGet();
+			}
+		}
+
+		reply(exchange, "<DeleteResult>" + errors + "</DeleteResult>");
+	}
+
+	private void delay() {
+
+		if (latencyMillis <= 0) {
+			return;
+		}
+
+		try {
+			Thread.sleep(latencyMillis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	// 본문은 저장하지 않고 크기, MD5 만 계산
+	private String drain(InputStream body, String key) throws IOException {
+
+		MessageDigest md5 = md5();
+		byte[] buffer = new byte[64 * 1024];
+		int read;
+
+		while ((read = body.read(buffer)) != -1) {
+			md5.update(buffer, 0, read);
+			receivedBytes.computeIfAbsent(key, k -> new AtomicLong()).addAndGet(read);
+		}
+
+		StringBuilder hex = new StringBuilder();
+		for (byte b : md5.digest()) {
+			hex.append(String.format("%02x", b));
+		}
+
+		return hex.toString();
+	}
+
+	private void drain(InputStream body) throws IOException {
+		body.transferTo(OutputStream.nullOutputStream());
+	}
+
+	private void reply(HttpExchange exchange, String xml) throws IOException {
+
+		byte[] bytes = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + xml).getBytes(StandardCharsets.UTF_8);
+
+		exchange.getResponseHeaders().add("Content-Type", "application/xml");
+		exchange.sendResponseHeaders(200, bytes.length);
+
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	private static MessageDigest md5() {
+
+		try {
+			return MessageDigest.getInstance("MD5");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
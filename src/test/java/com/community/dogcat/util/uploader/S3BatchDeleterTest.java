@@ -0,0 +1,123 @@
+package com.community.dogcat.util.uploader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.amazonaws.services.s3.AmazonS3;
+
+// 이미지 여러 장이 있는 게시글 삭제를 DeleteObject 반복과 DeleteObjects 묶음 삭제로 비교
+// S3 대신 요청마다 LATENCY_MILLIS 만큼 지연되는 LocalS3 사용
+class S3BatchDeleterTest {
+
+	private static final String BUCKET = "dogcat-test";
+
+	private static final long LATENCY_MILLIS = 5;
+
+	// 원본 + 썸네일 = 500 key
+	private static final int IMAGES = 250;
+
+	private LocalS3 localS3;
+
+	private AmazonS3 amazonS3;
+
+	private S3BatchDeleter s3BatchDeleter;
+
+	@BeforeEach
+	void setUp() throws IOException {
+
+		localS3 = new LocalS3(BUCKET, LATENCY_MILLIS);
+		amazonS3 = localS3.client();
+
+		s3BatchDeleter = new S3BatchDeleter(amazonS3, S3BatchDeleter.MAX_BATCH_SIZE);
+		s3BatchDeleter.bucket = BUCKET;
+	}
+
+	@AfterEach
+	void tearDown() {
+		localS3.stop();
+	}
+
+	@Test
+	public void batchDeleteIsFasterThanSequential() {
+
+		List<String> keys = imageKeys(IMAGES);
+
+		long started = System.nanoTime();
+
+		for (String key : keys) {
+			amazonS3.deleteObject(BUCKET, key);
+		}
+
+		long sequentialMillis = (System.nanoTime() - started) / 1_000_000;
+		long sequentialRequests = localS3.deleteRequests();
+
+		started = System.nanoTime();
+
+		S3BatchDeleter.DeleteResult result = s3BatchDeleter.delete(imageKeys(IMAGES));
+
+		long batchMillis = (System.nanoTime() - started) / 1_000_000;
+
+		assertTrue(result.isSuccessful());
+		assertEquals(keys.size(), result.getDeleted());
+		assertEquals(1, result.getRequests());
+		assertEquals(keys.size() * 2L, localS3.deletedKeys());
+		assertTrue(batchMillis * 10 < sequentialMillis, String.format("%d key, 묶음 %d 요청 %dms, 개별 %d 요청 %dms",
+			keys.size(), result.getRequests(), batchMillis, sequentialRequests, sequentialMillis));
+	}
+
+	@Test
+	public void splitIntoBatchesOfMaxSize() {
+
+		// 2500 key -> 1000, 1000, 500
+		S3BatchDeleter.DeleteResult result = s3BatchDeleter.delete(imageKeys(1250));
+
+		assertEquals(2500, result.getDeleted());
+		assertEquals(3, result.getRequests());
+		assertEquals(3, localS3.deleteRequests());
+	}
+
+	@Test
+	public void reportFailedKeys() {
+
+		List<String> keys = imageKeys(10);
+
+		localS3.failDelete(keys.get(3));
+		localS3.failDelete(keys.get(7));
+
+		S3BatchDeleter.DeleteResult result = s3BatchDeleter.delete(keys);
+
+		assertFalse(result.isSuccessful());
+		assertEquals(18, result.getDeleted());
+		assertEquals(List.of(keys.get(3), keys.get(7)), new ArrayList<>(result.getFailed().keySet()));
+		assertTrue(result.getFailed().get(keys.get(3)).startsWith("AccessDenied"));
+	}
+
+	@Test
+	public void imageKeysIncludeThumbnailAndRenditions() {
+
+		String srcset = "https://bucket/r200_abc.jpg 200w, https://bucket/r480_abc.jpg 480w, https://bucket/abc.png 1600w";
+
+		assertEquals(List.of("abc.png", "t_abc.png", "r200_abc.jpg", "r480_abc.jpg"),
+			S3BatchDeleter.imageKeys("abc.png", srcset));
+		assertEquals(List.of("abc.png", "t_abc.png"), S3BatchDeleter.imageKeys("abc.png", null));
+	}
+
+	private List<String> imageKeys(int images) {
+
+		List<String> keys = new ArrayList<>();
+
+		for (int i = 0; i < images; i++) {
+			keys.addAll(S3BatchDeleter.imageKeys(UUID.randomUUID() + ".jpg", null));
+		}
+
+		return keys;
+	}
+}
@@ -0,0 +1,124 @@
+package com.community.dogcat.util.uploader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+
+// 작은 heap(-Xmx64m, ./gradlew lowHeapTest)에서 heap 보다 큰 파일 여러 개를 동시에 업로드해도
+// 파일 내용을 메모리에 올리지 않고 스트리밍 + multipart 로 전송되는지 확인
+// S3 대신 요청 본문을 MD5 만 계산하고 버리는 로컬 HTTP 서버(LocalS3) 사용
+@Tag("lowHeap")
+class S3UploaderStreamingTest {
+
+	private static final String BUCKET = "dogcat-test";
+
+	private static final long FILE_SIZE = 96L * 1024 * 1024;
+
+	private static final int FILES = 3;
+
+	@TempDir
+	Path tempDir;
+
+	private LocalS3 localS3;
+
+	private TransferManager transferManager;
+
+	private S3Uploader s3Uploader;
+
+	@BeforeEach
+	void setUp() throws IOException {
+
+		localS3 = new LocalS3(BUCKET, 0);
+
+		AmazonS3 amazonS3 = localS3.client();
+
+		transferManager = TransferManagerBuilder.standard()
+			.withS3Client(amazonS3)
+			.withMultipartUploadThreshold(16L * 1024 * 1024)
+			.withMinimumUploadPartSize(8L * 1024 * 1024)
+			.withExecutorFactory(() -> Executors.newFixedThreadPool(4))
+			.build();
+
+		s3Uploader = new S3Uploader(amazonS3, transferManager);
+		s3Uploader.bucket = BUCKET;
+		ReflectionTestUtils.setField(s3Uploader, "s3UploadPath", tempDir.toString());
+	}
+
+	@AfterEach
+	void tearDown() {
+		transferManager.shutdownNow(true);
+		localS3.stop();
+	}
+
+	@Test
+	public void uploadLargeFilesConcurrently() throws Exception {
+
+		List<File> files = new ArrayList<>();
+
+		for (int i = 0; i < FILES; i++) {
+			files.add(createFile(FILE_SIZE));
+		}
+
+		ExecutorService executorService = Executors.newFixedThreadPool(FILES);
+		List<Future<String>> results = new ArrayList<>();
+
+		for (File file : files) {
+			results.add(executorService.submit(() -> s3Uploader.putS3(file, file.getName())));
+		}
+
+		for (int i = 0; i < FILES; i++) {
+			String url = results.get(i).get();
+			String key = files.get(i).getName();
+
+			assertTrue(url.endsWith("/" + BUCKET + "/" + key), url);
+			// 임계값보다 큰 파일은 multipart 로 전송
+			assertEquals(FILE_SIZE, localS3.receivedBytes(key));
+			assertTrue(localS3.parts(key) > 1);
+		}
+
+		executorService.shutdown();
+	}
+
+	@Test
+	public void uploadSmallFileInSingleRequest() throws Exception {
+
+		File file = createFile(1024 * 1024);
+
+		s3Uploader.putS3(file, file.getName());
+
+		assertEquals(1024 * 1024, localS3.receivedBytes(file.getName()));
+		assertEquals(0, localS3.parts(file.getName()));
+	}
+
+	// 내용을 쓰지 않은 sparse 파일 (디스크, 메모리 사용 없음)
+	private File createFile(long size) throws IOException {
+
+		File file = tempDir.resolve(UUID.randomUUID() + ".jpg").toFile();
+
+		try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+			randomAccessFile.setLength(size);
+		}
+
+		return file;
+	}
+}